@@ -42,6 +42,57 @@ public isolated client class Client {
     # It can be overridden using the `dbAccessConfig` at the API level
     # + return - The `redshiftdata:Client` or a `redshiftdata:Error` if the initialization fails
     public isolated function init(*ConnectionConfig connectionConfig) returns Error? {
+        ExecutorConfig|constraint:Error executorValidationResult = constraint:validate(connectionConfig.executorConfig);
+        if executorValidationResult is constraint:Error {
+            return error Error(executorValidationResult.message(), executorValidationResult.cause());
+        }
+        HttpClientConfig|constraint:Error httpValidationResult = constraint:validate(connectionConfig.httpClientConfig);
+        if httpValidationResult is constraint:Error {
+            return error Error(httpValidationResult.message(), httpValidationResult.cause());
+        }
+        if connectionConfig.prefetchConfig !is () {
+            PrefetchConfig|constraint:Error prefetchValidationResult =
+                constraint:validate(connectionConfig.prefetchConfig);
+            if prefetchValidationResult is constraint:Error {
+                return error Error(prefetchValidationResult.message(), prefetchValidationResult.cause());
+            }
+        }
+        if connectionConfig.resultPageCache !is () {
+            ResultPageCacheConfig|constraint:Error cacheValidationResult =
+                constraint:validate(connectionConfig.resultPageCache);
+            if cacheValidationResult is constraint:Error {
+                return error Error(cacheValidationResult.message(), cacheValidationResult.cause());
+            }
+        }
+        if connectionConfig.queryResultCache !is () {
+            QueryResultCacheConfig|constraint:Error queryCacheValidationResult =
+                constraint:validate(connectionConfig.queryResultCache);
+            if queryCacheValidationResult is constraint:Error {
+                return error Error(queryCacheValidationResult.message(), queryCacheValidationResult.cause());
+            }
+        }
+        if connectionConfig.autoBatch !is () {
+            AutoBatchConfig|constraint:Error autoBatchValidationResult =
+                constraint:validate(connectionConfig.autoBatch);
+            if autoBatchValidationResult is constraint:Error {
+                return error Error(autoBatchValidationResult.message(), autoBatchValidationResult.cause());
+            }
+        }
+        if connectionConfig.slowStatementLog !is () {
+            SlowStatementLogConfig|constraint:Error slowStatementLogValidationResult =
+                constraint:validate(connectionConfig.slowStatementLog);
+            if slowStatementLogValidationResult is constraint:Error {
+                return error Error(slowStatementLogValidationResult.message(),
+                    slowStatementLogValidationResult.cause());
+            }
+        }
+        if connectionConfig.sessionPool !is () {
+            SessionPoolConfig|constraint:Error sessionPoolValidationResult =
+                constraint:validate(connectionConfig.sessionPool);
+            if sessionPoolValidationResult is constraint:Error {
+                return error Error(sessionPoolValidationResult.message(), sessionPoolValidationResult.cause());
+            }
+        }
         if connectionConfig.dbAccessConfig !is () {
             Cluster|WorkGroup|constraint:Error validationResult = constraint:validate(connectionConfig.dbAccessConfig);
             if validationResult is constraint:Error {
@@ -81,6 +132,79 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
     } external;
 
+    # Prepares an SQL statement template to be run many times with different parameter values. Each interpolation of
+    # the template marks a parameter, and the interpolated values are only placeholders.
+    # ```ballerina
+    # redshiftdata:PreparedStatement insertUser = check redshift->prepare(
+    #    `INSERT INTO Users (user_id, username, email, age) VALUES (${0}, ${""}, ${""}, ${0})`);
+    # ```
+    #
+    # + template - The SQL statement template
+    # + executionConfig - The configurations related to the execution of the statement. A `clientToken` and a
+    # `deadline` are not allowed since each execution is a separate request
+    # + return - The `redshiftdata:PreparedStatement` or a `redshiftdata:Error` if the preparation fails
+    remote isolated function prepare(sql:ParameterizedQuery template, *ExecutionConfig executionConfig)
+    returns PreparedStatement|Error {
+        _ = check self.validateExecutionConfig(executionConfig);
+        if string:'join("", ...template.strings).trim().length() == 0 {
+            return error Error("SQL statement cannot be empty.");
+        }
+        if executionConfig.clientToken !is () {
+            return error Error("A clientToken cannot be used with a prepared statement.");
+        }
+        if executionConfig.deadline !is () {
+            return error Error("A deadline cannot be used with a prepared statement.");
+        }
+        return self.externPrepare(template, executionConfig);
+    }
+
+    isolated function externPrepare(sql:ParameterizedQuery template, ExecutionConfig executionConfig)
+    returns PreparedStatement|Error = @java:Method {
+        name: "prepare",
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Runs an SQL statement template once for each parameter set, with up to `maxInFlight` statements running
+    # concurrently, and waits for all of them to complete. Each interpolation of the template marks a parameter, and
+    # the interpolated values are only placeholders.
+    # ```ballerina
+    # (redshiftdata:DescriptionResponse|redshiftdata:Error)[] responses = check redshift->executeMany(
+    #    `INSERT INTO Users (user_id, username) VALUES (${0}, ${""})`, [[4, "AliceBrown"], [5, "TomGreen"]]);
+    # ```
+    #
+    # + template - The SQL statement template
+    # + params - The parameter sets, each holding the values in the order of the interpolations of the template
+    # + executeManyConfig - The configurations related to the execution of the statements
+    # + return - The description of each completed statement, or a `redshiftdata:Error` if it could not be run, in
+    # the order of the parameter sets. A `redshiftdata:Error` if the statements cannot be run at all
+    remote isolated function executeMany(sql:ParameterizedQuery template, sql:Value[][] params,
+            *ExecuteManyConfig executeManyConfig) returns (DescriptionResponse|Error)[]|Error {
+        ExecuteManyConfig|constraint:Error configValidationResult = constraint:validate(executeManyConfig);
+        if configValidationResult is constraint:Error {
+            return error Error(configValidationResult.message(), configValidationResult.cause());
+        }
+        if executeManyConfig.dbAccessConfig !is () {
+            Cluster|WorkGroup|SessionId|constraint:Error dbValidationResult =
+                constraint:validate(executeManyConfig.dbAccessConfig);
+            if dbValidationResult is constraint:Error {
+                return error Error(dbValidationResult.message(), dbValidationResult.cause());
+            }
+        }
+        if template.strings.length() == 0 {
+            return error Error("SQL statement cannot be empty.");
+        }
+        if executeManyConfig.clientToken !is () {
+            return error Error("A clientToken cannot be used with executeMany.");
+        }
+        return self.externExecuteMany(template, params, executeManyConfig);
+    }
+
+    isolated function externExecuteMany(sql:ParameterizedQuery template, sql:Value[][] params,
+            ExecuteManyConfig executeManyConfig) returns (DescriptionResponse|Error)[]|Error = @java:Method {
+        name: "executeMany",
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
     # Runs one or more SQL statements, which can be data manipulation language (DML) or data definition language (DDL).
     # The batch size should not exceed 40.
     # ```ballerina
@@ -114,6 +238,36 @@ public isolated client class Client {
         'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
     } external;
 
+    # Runs an SQL statement, waits for it to complete and retrieves its results.
+    # The completion of the statement is polled with an adaptive interval and the first result page is fetched as
+    # soon as the statement is finished.
+    # ```ballerina
+    # stream<User, Error?> response = check redshift->query(`SELECT * FROM Users`);
+    # ```
+    #
+    # + statement - The SQL statement to be executed
+    # + queryConfig - The configurations related to the execution of the statement and the completion polling
+    # + rowTypes - The typedesc of the record to which the result needs to be returned
+    # + return - Stream of records in the type of rowTypes or a `redshiftdata:Error` if the execution fails, the
+    # statement does not complete within the timeout or the retrieval fails
+    remote isolated function query(sql:ParameterizedQuery statement, *QueryConfig queryConfig,
+            typedesc<record {}> rowTypes = <>)
+    returns stream<rowTypes, Error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Cancels a running SQL statement, or a running batch with all of its sub-statements.
+    # ```ballerina
+    # boolean cancelled = check redshift->cancel("<statement-id>");
+    # ```
+    #
+    # + statementId - The identifier of the SQL statement
+    # + return - Whether the statement is cancelled or a `redshiftdata:Error` if the statement cannot be cancelled,
+    # e.g. since it has already completed
+    remote isolated function cancel(StatementId statementId) returns boolean|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
     # Retrieves the results for a previously executed SQL statement.
     # ```ballerina
     # stream<User, Error?> response = check redshift->getResultAsStream("<statement-id>");
@@ -121,12 +275,177 @@ public isolated client class Client {
     #
     # + statementId - The identifier of the SQL statement
     # + rowTypes - The typedesc of the record to which the result needs to be returned
+    # + resultFormat - The result format with which the statement was executed
     # + return - Stream of records in the type of rowTypes or a `redshiftdata:Error` if the retrieval fails
-    remote isolated function getResultAsStream(StatementId statementId, typedesc<record {}> rowTypes = <>)
+    remote isolated function getResultAsStream(StatementId statementId, typedesc<record {}> rowTypes = <>,
+            ResultFormat resultFormat = JSON)
     returns stream<rowTypes, Error?>|Error = @java:Method {
         'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
     } external;
 
+    # Retrieves the results for a previously executed SQL statement as batches of records.
+    # Each batch holds up to `batchSize` records from a single result page.
+    # ```ballerina
+    # stream<User[], Error?> response = check redshift->getResultAsBatches("<statement-id>", 500);
+    # ```
+    #
+    # + statementId - The identifier of the SQL statement
+    # + batchSize - The maximum number of records in a batch
+    # + rowTypes - The typedesc of the record to which the result needs to be returned
+    # + resultFormat - The result format with which the statement was executed
+    # + return - Stream of record batches in the type of rowTypes or a `redshiftdata:Error` if the retrieval fails
+    remote isolated function getResultAsBatches(StatementId statementId, int batchSize = 1000,
+            typedesc<record {}> rowTypes = <>, ResultFormat resultFormat = JSON)
+    returns stream<rowTypes[], Error?>|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Retrieves the results of the sub-statements of a previously executed batch. The first result pages of all the
+    # sub-statements with a result set are fetched concurrently, and a stream is returned for each of them in the
+    # order of the sub-statements. A single row type is used for all the streams, or else a row type should be given
+    # for each stream.
+    # ```ballerina
+    # stream<record {}, Error?>[] results = check redshift->getBatchResults("<batch-statement-id>", User, Order);
+    # stream<User, Error?> users = <stream<User, Error?>>results[0];
+    # ```
+    #
+    # + batchStatementId - The identifier of the batch statement
+    # + rowTypes - The typedescs of the records to which the results need to be returned
+    # + return - A stream for each sub-statement with a result set or a `redshiftdata:Error` if the retrieval fails
+    remote isolated function getBatchResults(StatementId batchStatementId, typedesc<record {}>... rowTypes)
+    returns stream<record {}, Error?>[]|Error {
+        any[] results = check self.externGetBatchResults(batchStatementId, rowTypes);
+        return from any result in results
+            select <stream<record {}, Error?>>result;
+    }
+
+    isolated function externGetBatchResults(StatementId batchStatementId, typedesc<record {}>[] rowTypes)
+    returns any[]|Error = @java:Method {
+        name: "getBatchResults",
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Exports the results of a previously executed SQL statement to a file. The result pages are written to the file
+    # as they are fetched, without creating records for the rows. An existing file is overwritten.
+    # ```ballerina
+    # redshiftdata:ExportResponse response = check redshift->exportResult("<statement-id>", "users.csv");
+    # ```
+    #
+    # + statementId - The identifier of the SQL statement
+    # + path - The path of the file
+    # + format - The format of the file
+    # + gzip - Whether the file is gzip compressed
+    # + return - The number of rows and bytes written or a `redshiftdata:Error` if the export fails
+    remote isolated function exportResult(StatementId statementId, string path, ExportFormat format = CSV,
+            boolean gzip = false) returns ExportResponse|Error = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Inserts records into a table with multi-row `INSERT` statements. The records are packed into statements of at
+    # most `maxStatementBytes` bytes, which are sent in chunks of at most `statementsPerChunk` statements with up to
+    # `maxInFlight` chunks running concurrently. The columns are taken from the fields of the first record, honouring
+    # the `sql:Column` annotations.
+    # ```ballerina
+    # redshiftdata:BulkInsertResponse response = check redshift->bulkInsert("Users", users);
+    # ```
+    #
+    # + 'table - The name of the table, optionally qualified by the schema. A name with special characters should be
+    # double quoted
+    # + rows - The records to be inserted
+    # + bulkInsertConfig - The configurations related to the bulk insert
+    # + return - The `redshiftdata:BulkInsertResponse` with the status of each chunk or a `redshiftdata:Error` if the
+    # records cannot be sent. If the records fail after some of the chunks were sent, the error carries the response
+    # of those chunks as `bulkInsertResponse` in its details
+    remote isolated function bulkInsert(string 'table, record {}[]|stream<record {}, error?> rows,
+            *BulkInsertConfig bulkInsertConfig) returns BulkInsertResponse|Error {
+        BulkInsertResponse|Error response = self.insertRows('table, rows, bulkInsertConfig);
+        if rows is stream<record {}, error?> {
+            error? closeResult = rows.close();
+            if closeResult is error && response is BulkInsertResponse {
+                return error Error(string `Error occurred while closing the records: ${closeResult.message()}`,
+                    closeResult, bulkInsertResponse = response);
+            }
+        }
+        return response;
+    }
+
+    isolated function insertRows(string 'table, record {}[]|stream<record {}, error?> rows,
+            BulkInsertConfig bulkInsertConfig) returns BulkInsertResponse|Error {
+        BulkInsertConfig|constraint:Error configValidationResult = constraint:validate(bulkInsertConfig);
+        if configValidationResult is constraint:Error {
+            return error Error(configValidationResult.message(), configValidationResult.cause());
+        }
+        if bulkInsertConfig.dbAccessConfig !is () {
+            Cluster|WorkGroup|SessionId|constraint:Error dbValidationResult =
+                constraint:validate(bulkInsertConfig.dbAccessConfig);
+            if dbValidationResult is constraint:Error {
+                return error Error(dbValidationResult.message(), dbValidationResult.cause());
+            }
+        }
+        if 'table.trim().length() == 0 {
+            return error Error("Table name cannot be empty.");
+        }
+        handle bulkInserter = check self.externCreateBulkInserter('table, bulkInsertConfig);
+        Error? addResult = addBulkInsertRows(bulkInserter, rows);
+        if addResult is Error {
+            // The chunks which were already sent are committed regardless, hence they are awaited and reported
+            BulkInsertResponse|Error sentChunks = externAbortBulkInsert(bulkInserter);
+            if sentChunks is Error {
+                return addResult;
+            }
+            return error Error(addResult.message(), addResult.cause(), bulkInsertResponse = sentChunks);
+        }
+        return externFinishBulkInsert(bulkInserter);
+    }
+
+    isolated function externCreateBulkInserter(string 'table, BulkInsertConfig bulkInsertConfig)
+    returns handle|Error = @java:Method {
+        name: "createBulkInserter",
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Retrieves the statistics of the result page cache.
+    # ```ballerina
+    # redshiftdata:CacheStats? stats = redshift.getResultPageCacheStats();
+    # ```
+    #
+    # + return - The statistics of the result page cache, or `()` if the cache is not enabled
+    public isolated function getResultPageCacheStats() returns CacheStats? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Retrieves the statistics of the session pool.
+    # ```ballerina
+    # redshiftdata:SessionPoolStats? stats = redshift.getSessionPoolStats();
+    # ```
+    #
+    # + return - The statistics of the session pool, or `()` if the pool is not enabled
+    public isolated function getSessionPoolStats() returns SessionPoolStats? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Retrieves the statistics of the query result cache.
+    # ```ballerina
+    # redshiftdata:CacheStats? stats = redshift.getQueryResultCacheStats();
+    # ```
+    #
+    # + return - The statistics of the query result cache, or `()` if the cache is not enabled
+    public isolated function getQueryResultCacheStats() returns CacheStats? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
+    # Removes the cached `query` results tagged with any of the given tags. The results with these tags which are
+    # still being streamed are not cached.
+    # ```ballerina
+    # int removed = redshift.invalidateQueryResults("users");
+    # ```
+    #
+    # + tags - The tags of the results to be removed, e.g. the names of the modified tables
+    # + return - The number of removed results
+    public isolated function invalidateQueryResults(string... tags) returns int = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+
     # Retrieves the execution status for a previously executed SQL statement.
     # ```ballerina
     # redshiftdata:DescriptionResponse response = check redshift->describe("<statement-id>");
@@ -173,4 +492,59 @@ public isolated client class Client {
             }
         }
     }
+
+    // Called by the native `query` implementation before the statement is run
+    isolated function validateQueryConfig(QueryConfig queryConfig) returns Error? {
+        QueryConfig|constraint:Error configValidationResult = constraint:validate(queryConfig);
+        if configValidationResult is constraint:Error {
+            return error Error(configValidationResult.message(), configValidationResult.cause());
+        }
+        if queryConfig.dbAccessConfig !is () {
+            Cluster|WorkGroup|SessionId|constraint:Error dbValidationResult =
+                constraint:validate(queryConfig.dbAccessConfig);
+            if dbValidationResult is constraint:Error {
+                return error Error(dbValidationResult.message(), dbValidationResult.cause());
+            }
+        }
+    }
 }
+
+// The number of records read from a stream before they are handed over to the bulk inserter
+const int BULK_INSERT_BUFFER_SIZE = 1000;
+
+isolated function addBulkInsertRows(handle bulkInserter, record {}[]|stream<record {}, error?> rows) returns Error? {
+    if rows is record {}[] {
+        return externAddBulkInsertRows(bulkInserter, rows);
+    }
+    record {}[] buffer = [];
+    while true {
+        record {|record {} value;|}|error? next = rows.next();
+        if next is error {
+            return error Error(string `Error occurred while reading the records: ${next.message()}`, next);
+        }
+        if next is () {
+            break;
+        }
+        buffer.push(next.value);
+        if buffer.length() == BULK_INSERT_BUFFER_SIZE {
+            check externAddBulkInsertRows(bulkInserter, buffer);
+            buffer = [];
+        }
+    }
+    return externAddBulkInsertRows(bulkInserter, buffer);
+}
+
+isolated function externAddBulkInsertRows(handle bulkInserter, record {}[] rows) returns Error? = @java:Method {
+    name: "addBulkInsertRows",
+    'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+} external;
+
+isolated function externFinishBulkInsert(handle bulkInserter) returns BulkInsertResponse|Error = @java:Method {
+    name: "finishBulkInsert",
+    'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+} external;
+
+isolated function externAbortBulkInsert(handle bulkInserter) returns BulkInsertResponse|Error = @java:Method {
+    name: "abortBulkInsert",
+    'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+} external;
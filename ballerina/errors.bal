@@ -27,4 +27,9 @@ public type ErrorDetails record {|
     string errorCode?;
     # The human-readable error message provided by the service
     string errorMessage?;
+    # The response of the chunks of a `bulkInsert` which were sent before the records failed
+    BulkInsertResponse bulkInsertResponse?;
 |};
+
+# Represents the failure of a call whose statement was cancelled with `CancelStatement` as its `deadline` passed.
+public type StatementCancelledError distinct Error;
@@ -0,0 +1,105 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/constraint;
+import ballerina/jballerina.java;
+
+# The AWS Redshift Data API listener, which dispatches the completion events of the tracked statements to the
+# attached services. The completion of the tracked statements is checked in bulk with `ListStatements`, hence a poll
+# cycle costs a few API calls no matter how many statements are outstanding.
+public isolated class Listener {
+
+    # Initialize AWS Redshift Data API listener.
+    # ```ballerina
+    # redshiftdata:Listener redshiftListener = check new (region = redshiftdata:US_EAST_2,
+    #    auth = {
+    #        accessKeyId: "<aws-access-key>",
+    #        secretAccessKey: "<aws-secret-key>"
+    #    },
+    #    pollingInterval = 2
+    # );
+    # ```
+    #
+    # + listenerConfig - The Redshift Data API listener configurations
+    # If a `dbAccessConfig` is provided, only the statements of that database are listed
+    # + return - The `redshiftdata:Listener` or a `redshiftdata:Error` if the initialization fails
+    public isolated function init(*ListenerConfig listenerConfig) returns Error? {
+        ListenerConfig|constraint:Error validationResult = constraint:validate(listenerConfig);
+        if validationResult is constraint:Error {
+            return error Error(validationResult.message(), validationResult.cause());
+        }
+        return self.externInit(listenerConfig);
+    }
+
+    isolated function externInit(ListenerConfig listenerConfig) returns Error? = @java:Method {
+        name: "init",
+        'class: "io.ballerina.lib.aws.redshiftdata.ListenerAdaptor"
+    } external;
+
+    # Attaches a service to the listener.
+    #
+    # + 'service - The service to which the completion events are dispatched
+    # + name - The name of the service
+    # + return - A `redshiftdata:Error` if the service cannot be attached
+    public isolated function attach(Service 'service, string[]|string? name = ()) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.ListenerAdaptor"
+    } external;
+
+    # Detaches a service from the listener.
+    #
+    # + 'service - The service to be detached
+    # + return - A `redshiftdata:Error` if the service cannot be detached
+    public isolated function detach(Service 'service) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.ListenerAdaptor"
+    } external;
+
+    # Starts polling the completion of the tracked statements.
+    #
+    # + return - A `redshiftdata:Error` if the listener cannot be started
+    public isolated function 'start() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.ListenerAdaptor"
+    } external;
+
+    # Tracks the completion of a statement. Once the statement is finished, failed or aborted, its description is
+    # dispatched to the attached services.
+    # ```ballerina
+    # redshiftdata:ExecutionResponse response = check redshift->execute(`SELECT * FROM Users`);
+    # check redshiftListener.track(response);
+    # ```
+    #
+    # + statement - The execution response of the statement, or its identifier. The creation time in the execution
+    # response lets the listener stop paging through older statements
+    # + return - A `redshiftdata:Error` if the statement cannot be tracked
+    public isolated function track(ExecutionResponse|StatementId statement) returns Error? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.ListenerAdaptor"
+    } external;
+
+    # Stops the listener gracefully. The statements which are already seen to be completed are still dispatched, the
+    # other tracked statements are dispatched to `onError`.
+    #
+    # + return - A `redshiftdata:Error` if the listener cannot be stopped
+    public isolated function gracefulStop() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.ListenerAdaptor"
+    } external;
+
+    # Stops the listener immediately. The in-flight status checks are cancelled and the events which are not yet
+    # dispatched are dropped.
+    #
+    # + return - A `redshiftdata:Error` if the listener cannot be stopped
+    public isolated function immediateStop() returns Error? = @java:Method {
+        'class: "io.ballerina.lib.aws.redshiftdata.ListenerAdaptor"
+    } external;
+}
@@ -0,0 +1,35 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/sql;
+
+# A statement template prepared with `Client->prepare`. The SQL text and the request with the resolved database
+# access configurations are built once, hence an execution only binds the parameter values.
+public isolated client class PreparedStatement {
+
+    # Runs the prepared statement with the given parameter values.
+    # ```ballerina
+    # redshiftdata:ExecutionResponse response = check insertUser->execute(4, "AliceBrown", "alice@example.com", 28);
+    # ```
+    #
+    # + params - The values of the parameters, in the order of the interpolations of the template
+    # + return - The `redshiftdata:ExecutionResponse` or a `redshiftdata:Error` if the execution fails
+    remote isolated function execute(sql:Value... params) returns ExecutionResponse|Error = @java:Method {
+        name: "executePrepared",
+        'class: "io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor"
+    } external;
+}
@@ -0,0 +1,26 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# The service type which receives the completion events of the statements tracked by a `redshiftdata:Listener`.
+# The service can implement the following remote methods, each of which is optional.
+# ```ballerina
+# remote function onFinished(redshiftdata:DescriptionResponse description) returns error?;
+# remote function onFailed(redshiftdata:DescriptionResponse description) returns error?;
+# remote function onAborted(redshiftdata:DescriptionResponse description) returns error?;
+# remote function onError(redshiftdata:Error err) returns error?;
+# ```
+public type Service distinct service object {
+};
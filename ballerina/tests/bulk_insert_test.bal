@@ -0,0 +1,124 @@
+//  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["bulkInsert"]
+}
+isolated function testBulkInsert() returns error? {
+    ExecutionResponse createTable = check redshiftData->execute(`
+        CREATE TABLE BulkUsers (
+        user_id INT,
+        username VARCHAR(255),
+        email VARCHAR(255),
+        age INT
+    );
+    `);
+    _ = check waitForCompletion(redshiftData, createTable.statementId);
+
+    User[] users = from int i in 1 ... 500
+        select {userId: i, username: string `user'${i}`, email: string `user${i}@example.com`, age: 20 + i % 50};
+    BulkInsertResponse response = check redshiftData->bulkInsert("BulkUsers", users.toStream(),
+        maxStatementBytes = 4096, statementsPerChunk = 2, maxInFlight = 2);
+    test:assertEquals(response.insertedRows, 500);
+    test:assertEquals(response.failedRows, 0);
+    test:assertTrue(response.chunks.length() > 1);
+    test:assertTrue(response.chunks.every(chunk => chunk.status == FINISHED && chunk.bytes <= 2 * 4096));
+    test:assertEquals(response.chunks.reduce(isolated function(int rows, BulkInsertChunk chunk) returns int =>
+        rows + chunk.rows, 0), 500);
+
+    stream<User, Error?> resultStream = check redshiftData->query(
+        `SELECT * FROM BulkUsers WHERE user_id = 7`);
+    User[] resultArray = check from User user in resultStream
+        select user;
+    test:assertEquals(resultArray, [{userId: 7, username: "user'7", email: "user7@example.com", age: 27}]);
+
+    ExecutionResponse dropTable = check redshiftData->execute(`DROP TABLE IF EXISTS BulkUsers`);
+    _ = check waitForCompletion(redshiftData, dropTable.statementId);
+}
+
+@test:Config {
+    groups: ["bulkInsert"]
+}
+isolated function testBulkInsertWithFailedChunk() returns error? {
+    BulkInsertResponse response = check redshiftData->bulkInsert("non_existent_table",
+        [{userId: 1, username: "JohnDoe", email: "john.doe@example.com", age: 25}]);
+    test:assertEquals(response.insertedRows, 0);
+    test:assertEquals(response.failedRows, 1);
+    test:assertEquals(response.chunks.length(), 1);
+    test:assertEquals(response.chunks[0].status, FAILED);
+    test:assertTrue(response.chunks[0].'error is string);
+}
+
+@test:Config {
+    groups: ["bulkInsert"]
+}
+isolated function testBulkInsertWithInvalidConfig() returns error? {
+    BulkInsertResponse|Error response = redshiftData->bulkInsert("Users", [], statementsPerChunk = 41);
+    test:assertTrue(response is Error);
+    if response is Error {
+        test:assertEquals(response.message(), "The statementsPerChunk should be less than or equal to 40.");
+    }
+}
+
+@test:Config {
+    groups: ["bulkInsert"]
+}
+isolated function testBulkInsertWithInvalidTableName() returns error? {
+    BulkInsertResponse|Error response = redshiftData->bulkInsert("Users; DROP TABLE Users",
+        [{userId: 1, username: "JohnDoe", email: "john.doe@example.com", age: 25}]);
+    test:assertTrue(response is Error);
+    if response is Error {
+        test:assertEquals(response.message(), "Error occurred while executing the bulkInsert: Invalid table name: " +
+                "Users; DROP TABLE Users. The table name should be an identifier, optionally qualified by the schema " +
+                "and the database");
+    }
+}
+
+@test:Config {
+    groups: ["bulkInsert"]
+}
+isolated function testBulkInsertWithOversizedRecord() returns error? {
+    ExecutionResponse createTable = check redshiftData->execute(`
+        CREATE TABLE PartialBulkUsers (
+        user_id INT,
+        username VARCHAR(8192),
+        email VARCHAR(255),
+        age INT
+    );
+    `);
+    _ = check waitForCompletion(redshiftData, createTable.statementId);
+
+    User[] users = from int i in 1 ... 1001
+        select {userId: i, username: string `user${i}`, email: string `user${i}@example.com`, age: 20 + i % 50};
+    users[1000].username = "u".padEnd(5000, "u");
+    BulkInsertResponse|Error response = redshiftData->bulkInsert("PartialBulkUsers", users.toStream(),
+        maxStatementBytes = 4096, statementsPerChunk = 2, maxInFlight = 2);
+    test:assertTrue(response is Error);
+    if response is Error {
+        BulkInsertResponse? sentChunks = response.detail().bulkInsertResponse;
+        test:assertTrue(sentChunks is BulkInsertResponse);
+        if sentChunks is BulkInsertResponse {
+            test:assertTrue(sentChunks.insertedRows > 0 && sentChunks.insertedRows < 1000);
+            test:assertEquals(sentChunks.failedRows, 0);
+            test:assertTrue(sentChunks.chunks.every(chunk => chunk.status == FINISHED));
+        }
+    }
+
+    ExecutionResponse dropTable = check redshiftData->execute(`DROP TABLE IF EXISTS PartialBulkUsers`);
+    _ = check waitForCompletion(redshiftData, dropTable.statementId);
+}
@@ -179,3 +179,285 @@ isolated function testNoDbAccessConfig() returns error? {
     }
     check redshiftData->close();
 }
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testAutoBatch() returns error? {
+    Client redshiftData = check new ({
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        autoBatch: {
+            window: 0.5,
+            maxBatchSize: 3
+        }
+    });
+    future<ExecutionResponse|Error>[] futures = [];
+    foreach int userId in 1 ... 3 {
+        future<ExecutionResponse|Error> res = start redshiftData->execute(
+            `SELECT * FROM Users WHERE user_id = ${userId}`);
+        futures.push(res);
+    }
+    string[] batchIds = [];
+    string[] subStatementNumbers = [];
+    foreach future<ExecutionResponse|Error> res in futures {
+        string[] idParts = re `:`.split((check wait res).statementId);
+        test:assertEquals(idParts.length(), 2);
+        batchIds.push(idParts[0]);
+        subStatementNumbers.push(idParts[1]);
+    }
+    test:assertTrue(batchIds.every(batchId => batchId == batchIds[0]));
+    test:assertEquals(subStatementNumbers.sort(), ["1", "2", "3"]);
+
+    DescriptionResponse descRes = check waitForCompletion(redshiftData, batchIds[0]);
+    test:assertEquals((descRes.subStatements ?: []).length(), 3);
+    check redshiftData->close();
+}
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testAutoBatchWithCsvResultFormat() returns error? {
+    Client redshiftData = check new ({
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        autoBatch: {
+            window: 0.5,
+            maxBatchSize: 2
+        }
+    });
+    future<ExecutionResponse|Error>[] futures = [];
+    foreach int userId in 1 ... 2 {
+        future<ExecutionResponse|Error> res = start redshiftData->execute(
+            `SELECT * FROM Users WHERE user_id = ${userId}`, resultFormat = CSV);
+        futures.push(res);
+    }
+    string[] statementIds = [];
+    foreach future<ExecutionResponse|Error> res in futures {
+        statementIds.push((check wait res).statementId);
+    }
+    DescriptionResponse descRes = check waitForCompletion(redshiftData, re `:`.split(statementIds[0])[0]);
+    test:assertEquals(descRes.status, FINISHED);
+    foreach string statementId in statementIds {
+        stream<User, Error?> resultStream = check redshiftData->getResultAsStream(statementId, resultFormat = CSV);
+        User[] users = check from User user in resultStream
+            select user;
+        test:assertEquals(users.length(), 1);
+    }
+    check redshiftData->close();
+}
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testAutoBatchWithQuotedValues() returns error? {
+    Client redshiftData = check new ({
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        autoBatch: {
+            window: 0.5,
+            maxBatchSize: 2
+        }
+    });
+    future<ExecutionResponse|Error>[] futures = [];
+    foreach string username in ["O'Brien", "Back\\slash'"] {
+        future<ExecutionResponse|Error> res = start redshiftData->execute(
+            `SELECT * FROM Users WHERE username = ${username}`);
+        futures.push(res);
+    }
+    string batchId = "";
+    foreach future<ExecutionResponse|Error> res in futures {
+        batchId = re `:`.split((check wait res).statementId)[0];
+    }
+    DescriptionResponse descRes = check waitForCompletion(redshiftData, batchId);
+    test:assertEquals(descRes.status, FINISHED);
+    StatementData[] subStatements = descRes.subStatements ?: [];
+    test:assertEquals(subStatements.length(), 2);
+    test:assertTrue(subStatements.every(subStatement => subStatement.status == FINISHED));
+    check redshiftData->close();
+}
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testAutoBatchWithSingleStatement() returns error? {
+    Client redshiftData = check new ({
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        autoBatch: {}
+    });
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users`);
+    test:assertFalse(res.statementId.includes(":"));
+    check redshiftData->close();
+}
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testAutoBatchWithInvalidMaxBatchSize() returns error? {
+    Client|Error redshiftData = new ({
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        autoBatch: {
+            maxBatchSize: 41
+        }
+    });
+    test:assertTrue(redshiftData is Error);
+    if redshiftData is Error {
+        test:assertEquals(redshiftData.message(), "The maxBatchSize should be less than or equal to 40.");
+    }
+}
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testPreparedStatement() returns error? {
+    PreparedStatement selectUser = check redshiftData->prepare(`SELECT * FROM Users WHERE user_id = ${0}`);
+    foreach int userId in 1 ... 3 {
+        ExecutionResponse res = check selectUser->execute(userId);
+        DescriptionResponse descRes = check waitForCompletion(redshiftData, res.statementId);
+        test:assertEquals(descRes.status, FINISHED);
+        test:assertEquals(descRes.queryString, "SELECT * FROM Users WHERE user_id = :param0");
+        test:assertEquals(descRes.resultRows, 1);
+    }
+}
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testPreparedStatementWithNilParameter() returns error? {
+    PreparedStatement selectUser = check redshiftData->prepare(
+        `SELECT * FROM Users WHERE username = ${""} OR age = ${0}`);
+    ExecutionResponse res = check selectUser->execute((), 25);
+    DescriptionResponse descRes = check waitForCompletion(redshiftData, res.statementId);
+    test:assertEquals(descRes.queryString, "SELECT * FROM Users WHERE username = NULL OR age = :param1");
+}
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testPreparedStatementWithInvalidParameterCount() returns error? {
+    PreparedStatement selectUser = check redshiftData->prepare(`SELECT * FROM Users WHERE user_id = ${0}`);
+    ExecutionResponse|Error res = selectUser->execute(1, 2);
+    test:assertTrue(res is Error);
+    if res is Error {
+        test:assertEquals(res.message(), "Error occurred while executing the execute: The prepared statement " +
+                "expects 1 parameters, but 2 were given");
+    }
+}
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testExecuteMany() returns error? {
+    (DescriptionResponse|Error)[] responses = check redshiftData->executeMany(
+        `SELECT * FROM Users WHERE user_id = ${0}`, [[1], [2], [3], [4], [1, 2]], maxInFlight = 2,
+        pollingInterval = 0.5);
+    test:assertEquals(responses.length(), 5);
+    foreach int i in 0 ..< 4 {
+        DescriptionResponse|Error response = responses[i];
+        test:assertTrue(response is DescriptionResponse);
+        if response is DescriptionResponse {
+            test:assertEquals(response.status, FINISHED);
+            test:assertEquals(response.resultRows, i < 3 ? 1 : 0);
+        }
+    }
+    DescriptionResponse|Error invalidResponse = responses[4];
+    test:assertTrue(invalidResponse is Error);
+    if invalidResponse is Error {
+        test:assertEquals(invalidResponse.message(), "Error occurred while executing the executeMany: The prepared " +
+                "statement expects 1 parameters, but 2 were given");
+    }
+}
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testExecuteManyWithInvalidMaxInFlight() returns error? {
+    (DescriptionResponse|Error)[]|Error responses = redshiftData->executeMany(
+        `SELECT * FROM Users WHERE user_id = ${0}`, [[1]], maxInFlight = 0);
+    test:assertTrue(responses is Error);
+    if responses is Error {
+        test:assertEquals(responses.message(), "The maxInFlight should be greater than or equal to 1.");
+    }
+}
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testSessionPool() returns error? {
+    Client redshiftData = check new ({
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        sessionPool: {
+            maxSessions: 1
+        }
+    });
+    ExecutionResponse res1 = check redshiftData->execute(`SELECT * FROM Users`);
+    test:assertTrue(res1.sessionId is string);
+    _ = check waitForCompletion(redshiftData, res1.statementId);
+    runtime:sleep(1); // wait for the session to be released
+
+    stream<User, Error?> resultStream = check redshiftData->query(`SELECT * FROM Users WHERE user_id = 1`);
+    User[] resultArray = check from User user in resultStream
+        select user;
+    test:assertEquals(resultArray.length(), 1);
+
+    SessionPoolStats? stats = redshiftData.getSessionPoolStats();
+    test:assertTrue(stats is SessionPoolStats);
+    if stats is SessionPoolStats {
+        test:assertEquals(stats.sessionsCreated, 1);
+        test:assertEquals(stats.hits, 1);
+        test:assertEquals(stats.misses, 1);
+        test:assertEquals(stats.idleSessions + stats.busySessions, 1);
+    }
+    check redshiftData->close();
+}
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testSessionPoolWithInvalidKeepAlive() returns error? {
+    Client|Error redshiftData = new ({
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        sessionPool: {
+            sessionKeepAliveSeconds: 10
+        }
+    });
+    test:assertTrue(redshiftData is Error);
+    if redshiftData is Error {
+        test:assertEquals(redshiftData.message(),
+                "The sessionKeepAliveSeconds should be greater than or equal to 60.");
+    }
+}
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testPrepareWithDeadline() returns error? {
+    PreparedStatement|Error preparedStatement = redshiftData->prepare(
+        `SELECT * FROM Users WHERE user_id = ${0}`, deadline = 10);
+    test:assertTrue(preparedStatement is Error);
+    if preparedStatement is Error {
+        test:assertEquals(preparedStatement.message(), "A deadline cannot be used with a prepared statement.");
+    }
+}
+
+@test:Config {
+    groups: ["execute"]
+}
+isolated function testPrepareWithEmptyTemplate() returns error? {
+    PreparedStatement|Error preparedStatement = redshiftData->prepare(` `);
+    test:assertTrue(preparedStatement is Error);
+    if preparedStatement is Error {
+        test:assertEquals(preparedStatement.message(), "SQL statement cannot be empty.");
+    }
+}
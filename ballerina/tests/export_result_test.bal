@@ -0,0 +1,97 @@
+//  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/io;
+import ballerina/jballerina.java;
+import ballerina/test;
+
+@test:Config {
+    groups: ["exportResult"]
+}
+isolated function testExportResultAsCsv() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT user_id, username, age FROM Users ORDER BY user_id`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+    string path = "target/users_export.csv";
+    ExportResponse response = check redshiftData->exportResult(res.statementId, path);
+    test:assertEquals(response.rows, 3);
+
+    string[] lines = check io:fileReadLines(path);
+    test:assertEquals(lines, ["user_id,username,age", "1,JohnDoe,25", "2,JaneSmith,30", "3,BobJohnson,22"]);
+    test:assertEquals(response.bytes, (check io:fileReadBytes(path)).length());
+}
+
+@test:Config {
+    groups: ["exportResult"]
+}
+isolated function testExportResultAsNdJson() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT user_id, username FROM Users ORDER BY user_id`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+    string path = "target/users_export.ndjson";
+    ExportResponse response = check redshiftData->exportResult(res.statementId, path, NDJSON);
+    test:assertEquals(response.rows, 3);
+
+    string[] lines = check io:fileReadLines(path);
+    test:assertEquals(lines.length(), 3);
+    test:assertEquals(check lines[0].fromJsonString(), {user_id: 1, username: "JohnDoe"});
+}
+
+@test:Config {
+    groups: ["exportResult"]
+}
+isolated function testExportResultWithGzip() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT user_id, username, age FROM Users ORDER BY user_id`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+    string path = "target/users_export.csv.gz";
+    ExportResponse response = check redshiftData->exportResult(res.statementId, path, gzip = true);
+    test:assertEquals(response.rows, 3);
+    byte[] content = check io:fileReadBytes(path);
+    // The gzip magic number
+    test:assertEquals(content.slice(0, 2), [0x1f, 0x8b]);
+
+    string[] lines = re `\n`.split((check readGzipFile(path)).trim());
+    test:assertEquals(lines, ["user_id,username,age", "1,JohnDoe,25", "2,JaneSmith,30", "3,BobJohnson,22"]);
+}
+
+isolated function readGzipFile(string path) returns string|error {
+    handle gzipInput = check newGzipInputStream(check newFileInputStream(java:fromString(path)));
+    handle content = check readAllBytes(gzipInput);
+    check closeInputStream(gzipInput);
+    return java:toString(check newString(content, java:fromString("UTF-8"))) ?: "";
+}
+
+isolated function newFileInputStream(handle path) returns handle|error = @java:Constructor {
+    'class: "java.io.FileInputStream",
+    paramTypes: ["java.lang.String"]
+} external;
+
+isolated function newGzipInputStream(handle input) returns handle|error = @java:Constructor {
+    'class: "java.util.zip.GZIPInputStream",
+    paramTypes: ["java.io.InputStream"]
+} external;
+
+isolated function readAllBytes(handle input) returns handle|error = @java:Method {
+    'class: "java.io.InputStream"
+} external;
+
+isolated function closeInputStream(handle input) returns error? = @java:Method {
+    name: "close",
+    'class: "java.io.InputStream"
+} external;
+
+isolated function newString(handle bytes, handle charsetName) returns handle|error = @java:Constructor {
+    'class: "java.lang.String",
+    paramTypes: [{'class: "byte", dimensions: 1}, "java.lang.String"]
+} external;
@@ -16,6 +16,7 @@
 
 import ballerina/sql;
 import ballerina/test;
+import ballerina/time;
 
 type User record {|
     @sql:Column {name: "user_id"}
@@ -50,6 +51,17 @@ type SupportedTypes record {|
     () nilType;
 |};
 
+type TypedColumns record {|
+    @sql:Column {name: "decimal_type"}
+    decimal decimalType;
+    @sql:Column {name: "timestamp_type"}
+    time:Utc timestampType;
+    @sql:Column {name: "date_type"}
+    time:Utc dateType;
+    @sql:Column {name: "nullable_int_type"}
+    int? nullableIntType;
+|};
+
 @test:Config {
     groups: ["getResultAsStream"]
 }
@@ -126,6 +138,108 @@ isolated function testSupportedTypes() returns error? {
     test:assertEquals(resultArray[0], data);
 }
 
+@test:Config {
+    groups: ["getResultAsStream"]
+}
+isolated function testTypedColumns() returns error? {
+    sql:ParameterizedQuery selectQuery = `SELECT CAST(1234.56 AS DECIMAL(10, 2)) AS decimal_type,
+        CAST('2025-01-02 03:04:05.123' AS TIMESTAMP) AS timestamp_type,
+        CAST('2025-01-02' AS DATE) AS date_type,
+        CAST(NULL AS INTEGER) AS nullable_int_type;`;
+    ExecutionResponse res = check redshiftData->execute(selectQuery);
+    DescriptionResponse descriptionResponse = check waitForCompletion(redshiftData, res.statementId);
+    test:assertEquals(descriptionResponse.status, FINISHED);
+    stream<TypedColumns, Error?> resultStream = check redshiftData->getResultAsStream(res.statementId);
+    TypedColumns[] resultArray = check from TypedColumns item in resultStream
+        select item;
+
+    test:assertEquals(resultArray.length(), 1);
+    test:assertEquals(resultArray[0].decimalType, 1234.56d);
+    test:assertEquals(resultArray[0].timestampType, check time:utcFromString("2025-01-02T03:04:05.123Z"));
+    test:assertEquals(resultArray[0].dateType, check time:utcFromString("2025-01-02T00:00:00Z"));
+    test:assertEquals(resultArray[0].nullableIntType, ());
+}
+
+@test:Config {
+    groups: ["getResultAsStream"]
+}
+isolated function testResultPageCache() returns error? {
+    Client redshiftData = check new ({
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        resultPageCache: {
+            maxBytes: 1048576,
+            ttl: 60
+        }
+    });
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users ORDER BY user_id`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+    foreach int i in 0 ..< 2 {
+        stream<User, Error?> resultStream = check redshiftData->getResultAsStream(res.statementId);
+        User[] resultArray = check from User user in resultStream
+            select user;
+        test:assertEquals(resultArray.length(), 3);
+    }
+    CacheStats? stats = redshiftData.getResultPageCacheStats();
+    test:assertTrue(stats is CacheStats);
+    if stats is CacheStats {
+        test:assertEquals(stats.hits, 1);
+        test:assertEquals(stats.misses, 1);
+        test:assertEquals(stats.entries, 1);
+    }
+    check redshiftData->close();
+}
+
+@test:Config {
+    groups: ["getResultAsBatches"]
+}
+isolated function testResultAsBatches() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users ORDER BY user_id`);
+    DescriptionResponse descriptionResponse = check waitForCompletion(redshiftData, res.statementId);
+    test:assertEquals(descriptionResponse.status, FINISHED);
+    stream<User[], Error?> resultStream = check redshiftData->getResultAsBatches(res.statementId, 2);
+    User[][] batches = check from User[] batch in resultStream
+        select batch;
+
+    test:assertEquals(batches.length(), 2);
+    test:assertEquals(batches[0].length(), 2);
+    test:assertEquals(batches[1].length(), 1);
+    test:assertEquals(batches[0][0].username, "JohnDoe");
+    test:assertEquals(batches[1][0].username, "BobJohnson");
+}
+
+@test:Config {
+    groups: ["getResultAsBatches"]
+}
+isolated function testCsvResultAsBatches() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users ORDER BY user_id`, resultFormat = CSV);
+    DescriptionResponse descriptionResponse = check waitForCompletion(redshiftData, res.statementId);
+    test:assertEquals(descriptionResponse.status, FINISHED);
+    stream<User[], Error?> resultStream = check redshiftData->getResultAsBatches(res.statementId, 2,
+        resultFormat = CSV);
+    User[][] batches = check from User[] batch in resultStream
+        select batch;
+
+    test:assertEquals(batches.length(), 2);
+    test:assertEquals(batches[0][0], {userId: 1, username: "JohnDoe", email: "john.doe@example.com", age: 25});
+    test:assertEquals(batches[1][0].username, "BobJohnson");
+}
+
+@test:Config {
+    groups: ["getResultAsBatches"]
+}
+isolated function testResultAsBatchesWithInvalidBatchSize() returns error? {
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users`);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+    stream<User[], Error?>|Error resultStream = redshiftData->getResultAsBatches(res.statementId, 0);
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertEquals(resultStream.message(), "Error occurred while executing the getResultAsBatches: " +
+                "The batchSize should be greater than or equal to 1");
+    }
+}
+
 @test:Config {
     groups: ["getResultAsStream"]
 }
@@ -247,3 +361,86 @@ isolated function testResultPagination() returns error? {
 
     test:assertEquals(resultArray.length(), totalRows);
 }
+
+@test:Config {
+    groups: ["getResultAsStream"]
+}
+isolated function testResultPrefetch() returns error? {
+    Client redshiftData = check new ({
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        prefetchConfig: {
+            threshold: 0.25,
+            pages: 2
+        }
+    });
+    // The result spans many pages, hence the pages after the first one are read ahead
+    sql:ParameterizedQuery query = `SELECT 
+        a.n + b.n * 10 + c.n * 100 + d.n * 1000 AS num,
+        REPEAT('X', 100000) AS large_column -- Generates a string of 100000 'X's
+        FROM 
+            (SELECT 0 AS n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) a,
+            (SELECT 0 AS n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) b,
+            (SELECT 0 AS n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) c,
+            (SELECT 0 AS n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) d
+        WHERE 
+        a.n + b.n * 10 + c.n * 100 + d.n * 1000 <= 1600;
+        `;
+    ExecutionResponse res = check redshiftData->execute(query);
+    DescriptionResponse descriptionResponse = check waitForCompletion(redshiftData, res.statementId);
+    test:assertEquals(descriptionResponse.status, FINISHED);
+    stream<record {int num;}, Error?> resultStream = check redshiftData->getResultAsStream(res.statementId);
+    int[] numbers = check from var item in resultStream
+        select item.num;
+    int[] expectedNumbers = from int i in 0 ... 1600
+        select i;
+    test:assertEquals(numbers.length(), descriptionResponse.resultRows);
+    test:assertEquals(numbers.sort(), expectedNumbers);
+    check redshiftData->close();
+}
+
+type UserCount record {|
+    int total;
+|};
+
+@test:Config {
+    groups: ["getBatchResults"]
+}
+isolated function testGetBatchResults() returns error? {
+    ExecutionResponse res = check redshiftData->batchExecute([
+        `SELECT * FROM Users ORDER BY user_id`,
+        `UPDATE Users SET age = age WHERE user_id = 0`,
+        `SELECT COUNT(*) AS total FROM Users`
+    ]);
+    DescriptionResponse descriptionResponse = check waitForCompletion(redshiftData, res.statementId);
+    test:assertEquals(descriptionResponse.status, FINISHED);
+    stream<record {}, Error?>[] results = check redshiftData->getBatchResults(res.statementId, User, UserCount);
+    test:assertEquals(results.length(), 2);
+
+    stream<User, Error?> userStream = <stream<User, Error?>>results[0];
+    User[] users = check from User user in userStream
+        select user;
+    test:assertEquals(users.length(), 3);
+    test:assertEquals(users[0].username, "JohnDoe");
+
+    stream<UserCount, Error?> countStream = <stream<UserCount, Error?>>results[1];
+    UserCount[] counts = check from UserCount userCount in countStream
+        select userCount;
+    test:assertEquals(counts, [{total: 3}]);
+}
+
+@test:Config {
+    groups: ["getBatchResults"]
+}
+isolated function testGetBatchResultsWithMismatchedRowTypes() returns error? {
+    ExecutionResponse res = check redshiftData->batchExecute([`SELECT * FROM Users`, `SELECT * FROM Users`]);
+    _ = check waitForCompletion(redshiftData, res.statementId);
+    stream<record {}, Error?>[]|Error results = redshiftData->getBatchResults(res.statementId, User, User, User);
+    test:assertTrue(results is Error);
+    if results is Error {
+        test:assertEquals(results.message(), "Error occurred while executing the getBatchResults: Either a single " +
+                "row type or a row type for each of the 2 sub-statements with a result set should be given, " +
+                "but found 3");
+    }
+}
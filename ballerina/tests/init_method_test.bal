@@ -40,3 +40,147 @@ isolated function testNilDbAccessConfig() returns error? {
     Client redshiftData = check new (connectionConfig);
     check redshiftData->close();
 }
+
+@test:Config {
+    groups: ["init"]
+}
+isolated function testNonBlockingIoMode() returns error? {
+    ConnectionConfig connectionConfig = {
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        ioMode: NON_BLOCKING
+    };
+    Client redshiftData = check new (connectionConfig);
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users`);
+    DescriptionResponse descriptionResponse = check waitForCompletion(redshiftData, res.statementId);
+    test:assertEquals(descriptionResponse.status, FINISHED);
+    stream<record {}, Error?> resultStream = check redshiftData->getResultAsStream(res.statementId);
+    record {}[] resultArray = check from record {} user in resultStream
+        select user;
+    test:assertEquals(resultArray.length(), 3);
+    check redshiftData->close();
+}
+
+@test:Config {
+    groups: ["init"]
+}
+isolated function testBoundedExecutor() returns error? {
+    ConnectionConfig connectionConfig = {
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        executorConfig: {
+            maxThreads: 2,
+            queueCapacity: 10,
+            rejectionPolicy: CALLER_RUNS
+        }
+    };
+    Client redshiftData = check new (connectionConfig);
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users`);
+    test:assertTrue(res.statementId != "");
+    check redshiftData->close();
+}
+
+@test:Config {
+    groups: ["init"]
+}
+isolated function testInvalidExecutorConfig() returns error? {
+    ConnectionConfig connectionConfig = {
+        region: awsRegion,
+        auth,
+        executorConfig: {
+            maxThreads: 0
+        }
+    };
+    Client|Error redshiftData = new (connectionConfig);
+    test:assertTrue(redshiftData is Error);
+    if redshiftData is Error {
+        test:assertEquals(redshiftData.message(), "The maxThreads should be greater than or equal to 1.");
+    }
+}
+
+@test:Config {
+    groups: ["init"]
+}
+isolated function testExecutorConfigWithSubMillisecondKeepAliveTime() returns error? {
+    ConnectionConfig connectionConfig = {
+        region: awsRegion,
+        auth,
+        executorConfig: {
+            keepAliveTime: 0.0005
+        }
+    };
+    Client|Error redshiftData = new (connectionConfig);
+    test:assertTrue(redshiftData is Error);
+    if redshiftData is Error {
+        test:assertEquals(redshiftData.message(), "The keepAliveTime should be greater than or equal to 0.001.");
+    }
+}
+
+@test:Config {
+    groups: ["init"]
+}
+isolated function testHttpClientConfig() returns error? {
+    ConnectionConfig connectionConfig = {
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        httpClientConfig: {
+            maxConnections: 10,
+            connectionAcquisitionTimeout: 5,
+            connectionMaxIdleTime: 30,
+            connectionTimeToLive: 300,
+            tcpKeepAlive: true,
+            apiCallTimeout: 60,
+            warmup: {
+                connections: 2
+            }
+        }
+    };
+    Client redshiftData = check new (connectionConfig);
+    ExecutionResponse res = check redshiftData->execute(`SELECT * FROM Users`);
+    test:assertTrue(res.statementId != "");
+    check redshiftData->close();
+}
+
+@test:Config {
+    groups: ["init"]
+}
+isolated function testSharedSdkClient() returns error? {
+    ConnectionConfig connectionConfig = {
+        region: awsRegion,
+        auth,
+        dbAccessConfig
+    };
+    Client redshiftData1 = check new (connectionConfig);
+    Client redshiftData2 = check new (connectionConfig);
+    check redshiftData1->close();
+
+    // The SDK client is still open for the second client
+    ExecutionResponse res = check redshiftData2->execute(`SELECT * FROM Users`);
+    DescriptionResponse descriptionResponse = check waitForCompletion(redshiftData2, res.statementId);
+    test:assertEquals(descriptionResponse.status, FINISHED);
+
+    // The closed client fails its calls
+    ExecutionResponse|Error closedRes = redshiftData1->execute(`SELECT * FROM Users`);
+    test:assertTrue(closedRes is Error);
+    check redshiftData2->close();
+}
+
+@test:Config {
+    groups: ["init"]
+}
+isolated function testInvalidEndpoint() returns error? {
+    ConnectionConfig connectionConfig = {
+        region: awsRegion,
+        endpoint: "localhost:9090",
+        auth
+    };
+    Client|Error redshiftData = new (connectionConfig);
+    test:assertTrue(redshiftData is Error);
+    if redshiftData is Error {
+        test:assertEquals(redshiftData.message(), "Error occurred while initializing the Redshift client: " +
+                "The endpoint should be an absolute URL with a host: localhost:9090");
+    }
+}
@@ -0,0 +1,79 @@
+//  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated string[] finishedStatements = [];
+isolated string[] failedStatements = [];
+
+@test:Config {
+    groups: ["listener"]
+}
+isolated function testListenerCompletionEvents() returns error? {
+    Listener redshiftListener = check new (region = awsRegion, auth = auth, dbAccessConfig = dbAccessConfig,
+        pollingInterval = 1);
+    Service completionService = service object {
+        isolated remote function onFinished(DescriptionResponse description) {
+            lock {
+                finishedStatements.push(description.statementId);
+            }
+        }
+
+        isolated remote function onFailed(DescriptionResponse description) {
+            lock {
+                failedStatements.push(description.statementId);
+            }
+        }
+    };
+    check redshiftListener.attach(completionService);
+    check redshiftListener.'start();
+
+    ExecutionResponse finished = check redshiftData->execute(`SELECT * FROM Users`);
+    ExecutionResponse failed = check redshiftData->execute(`SELECT * FROM non_existent_table`);
+    check redshiftListener.track(finished);
+    check redshiftListener.track(failed.statementId);
+
+    foreach int i in 0 ..< 60 {
+        boolean completed;
+        lock {
+            completed = finishedStatements.indexOf(finished.statementId) !is () &&
+                failedStatements.indexOf(failed.statementId) !is ();
+        }
+        if completed {
+            break;
+        }
+        runtime:sleep(1);
+    }
+    lock {
+        test:assertTrue(finishedStatements.indexOf(finished.statementId) !is ());
+    }
+    lock {
+        test:assertTrue(failedStatements.indexOf(failed.statementId) !is ());
+    }
+    check redshiftListener.gracefulStop();
+}
+
+@test:Config {
+    groups: ["listener"]
+}
+isolated function testListenerWithInvalidPollingInterval() returns error? {
+    Listener|Error redshiftListener = new (region = awsRegion, auth = auth, pollingInterval = 0.01);
+    test:assertTrue(redshiftListener is Error);
+    if redshiftListener is Error {
+        test:assertEquals(redshiftListener.message(), "The pollingInterval should be greater than or equal to 0.1.");
+    }
+}
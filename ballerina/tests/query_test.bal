@@ -0,0 +1,287 @@
+//  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+
+import ballerina/jballerina.java;
+import ballerina/test;
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testBasicQuery() returns error? {
+    stream<User, Error?> resultStream = check redshiftData->query(`SELECT * FROM Users ORDER BY user_id`);
+    User[] resultArray = check from User user in resultStream
+        select user;
+
+    test:assertEquals(resultArray.length(), 3);
+    test:assertEquals(resultArray[0], {userId: 1, username: "JohnDoe", email: "john.doe@example.com", age: 25});
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testNamedQuery() returns error? {
+    // The second run is polled based on the duration observed for the first run
+    foreach int i in 0 ..< 2 {
+        stream<User, Error?> resultStream = check redshiftData->query(`SELECT * FROM Users WHERE user_id = ${i + 1}`,
+            statementName = "usersById", pollConfig = {initialInterval: 0.02, maxInterval: 1, backoffFactor: 1.5});
+        User[] resultArray = check from User user in resultStream
+            select user;
+        test:assertEquals(resultArray.length(), 1);
+        test:assertEquals(resultArray[0].userId, i + 1);
+    }
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryWithCsvResultFormat() returns error? {
+    stream<User, Error?> resultStream = check redshiftData->query(`SELECT * FROM Users ORDER BY user_id`,
+        resultFormat = CSV);
+    User[] resultArray = check from User user in resultStream
+        select user;
+
+    test:assertEquals(resultArray.length(), 3);
+    test:assertEquals(resultArray[0], {userId: 1, username: "JohnDoe", email: "john.doe@example.com", age: 25});
+    test:assertEquals(resultArray[2], {userId: 3, username: "BobJohnson", email: "bob.johnson@example.com", age: 22});
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryWithFailedStatement() returns error? {
+    stream<User, Error?>|Error resultStream = redshiftData->query(`SELECT * FROM non_existent_table`);
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertTrue(resultStream.message().startsWith("Error occurred while executing the query: The statement"));
+    }
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryWithoutResultSet() returns error? {
+    stream<User, Error?>|Error resultStream = redshiftData->query(`DROP TABLE IF EXISTS non_existent_table`);
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertTrue(resultStream.message().endsWith("does not have a result set"));
+    }
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryWithInvalidPollConfig() returns error? {
+    stream<User, Error?>|Error resultStream = redshiftData->query(`SELECT * FROM Users`,
+        pollConfig = {initialInterval: 1, maxInterval: 0.5});
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertEquals(resultStream.message(), "Error occurred while executing the query: " +
+                "The maxInterval should be greater than or equal to the initialInterval");
+    }
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryWithInvalidDeadline() returns error? {
+    stream<User, Error?>|Error resultStream = redshiftData->query(`SELECT * FROM Users`, deadline = 0);
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertEquals(resultStream.message(), "The deadline should be greater than 0.");
+    }
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryWithInvalidCacheTtl() returns error? {
+    stream<User, Error?>|Error resultStream = redshiftData->query(`SELECT * FROM Users`, cache = {ttl: 0});
+    test:assertTrue(resultStream is Error);
+    if resultStream is Error {
+        test:assertEquals(resultStream.message(), "The ttl should be greater than or equal to 0.001.");
+    }
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryResultCache() returns error? {
+    Client redshiftData = check new ({
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        queryResultCache: {
+            maxBytes: 1048576
+        }
+    });
+    int userId = 2;
+    foreach int i in 0 ..< 2 {
+        stream<User, Error?> resultStream = check redshiftData->query(
+            `SELECT *   FROM Users WHERE user_id = ${userId}`, cache = {ttl: 60, tags: ["Users"]});
+        User[] resultArray = check from User user in resultStream
+            select user;
+        test:assertEquals(resultArray.length(), 1);
+        test:assertEquals(resultArray[0].username, "JaneSmith");
+    }
+    CacheStats? stats = redshiftData.getQueryResultCacheStats();
+    test:assertTrue(stats is CacheStats);
+    if stats is CacheStats {
+        test:assertEquals(stats.hits, 1);
+        test:assertEquals(stats.misses, 1);
+        test:assertEquals(stats.entries, 1);
+    }
+    test:assertEquals(redshiftData.invalidateQueryResults("users"), 1);
+    stats = redshiftData.getQueryResultCacheStats();
+    if stats is CacheStats {
+        test:assertEquals(stats.entries, 0);
+    }
+    check redshiftData->close();
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryResultCacheWithWhitespaceInLiteral() returns error? {
+    Client redshiftData = check new ({
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        queryResultCache: {
+            maxBytes: 1048576
+        }
+    });
+    stream<User, Error?> resultStream = check redshiftData->query(
+        `SELECT * FROM Users WHERE username = 'Jane Smith'`, cache = {ttl: 60});
+    check resultStream.close();
+    resultStream = check redshiftData->query(
+        `SELECT * FROM Users WHERE username = 'Jane  Smith'`, cache = {ttl: 60});
+    check resultStream.close();
+    CacheStats? stats = redshiftData.getQueryResultCacheStats();
+    if stats is CacheStats {
+        test:assertEquals(stats.hits, 0);
+        test:assertEquals(stats.misses, 2);
+    }
+    check redshiftData->close();
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryWithSlowStatementLog() returns error? {
+    Client redshiftData = check new ({
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        slowStatementLog: {
+            threshold: 0
+        }
+    });
+    handle logger = getLogger(java:fromString("io.ballerina.lib.aws.redshiftdata"));
+    handle logOutput = newByteArrayOutputStream();
+    handle logHandler = newStreamHandler(logOutput, newSimpleFormatter());
+    addLogHandler(logger, logHandler);
+    do {
+        stream<User, Error?> resultStream = check redshiftData->query(`SELECT * FROM Users`,
+            statementName = "slowStatementLogTest");
+        User[] resultArray = check from User user in resultStream
+            select user;
+        test:assertEquals(resultArray.length(), 3);
+    } on fail error e {
+        removeLogHandler(logger, logHandler);
+        return e;
+    }
+    flushLogHandler(logHandler);
+    removeLogHandler(logger, logHandler);
+    check redshiftData->close();
+
+    string logs = java:toString(logOutput) ?: "";
+    string[] logLines = re `\r?\n`.split(logs).filter(line => line.includes("statementName=slowStatementLogTest"));
+    test:assertEquals(logLines.length(), 1);
+    string logLine = logLines[0];
+    test:assertTrue(logLine.includes("Slow Redshift statement: statementId="));
+    test:assertTrue(logLine.includes(" status=FINISHED "));
+    test:assertTrue(re `.* total=[0-9]+\.[0-9]{3}ms .* fetch=[0-9]+\.[0-9]{3}ms`.isFullMatch(logLine));
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testSlowStatementLogWithInvalidThreshold() returns error? {
+    Client|Error redshiftData = new ({
+        region: awsRegion,
+        auth,
+        dbAccessConfig,
+        slowStatementLog: {
+            threshold: -1
+        }
+    });
+    test:assertTrue(redshiftData is Error);
+    if redshiftData is Error {
+        test:assertEquals(redshiftData.message(), "The threshold should be greater than or equal to 0.");
+    }
+}
+
+@test:Config {
+    groups: ["query"]
+}
+isolated function testQueryWithDeadline() returns error? {
+    stream<record {}, Error?>|Error resultStream = redshiftData->query(`SELECT
+        a.n + b.n * 10 + c.n * 100 + d.n * 1000 AS num, REPEAT('X', 100000) AS large_column
+        FROM
+            (SELECT 0 AS n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) a,
+            (SELECT 0 AS n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) b,
+            (SELECT 0 AS n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) c,
+            (SELECT 0 AS n UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4 UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9) d`,
+            deadline = 0.001);
+    test:assertTrue(resultStream is StatementCancelledError);
+    if resultStream is StatementCancelledError {
+        test:assertTrue(resultStream.message().endsWith("did not complete before its deadline"));
+    }
+}
+
+isolated function getLogger(handle name) returns handle = @java:Method {
+    'class: "java.util.logging.Logger",
+    paramTypes: ["java.lang.String"]
+} external;
+
+isolated function newByteArrayOutputStream() returns handle = @java:Constructor {
+    'class: "java.io.ByteArrayOutputStream",
+    paramTypes: []
+} external;
+
+isolated function newSimpleFormatter() returns handle = @java:Constructor {
+    'class: "java.util.logging.SimpleFormatter"
+} external;
+
+isolated function newStreamHandler(handle output, handle formatter) returns handle = @java:Constructor {
+    'class: "java.util.logging.StreamHandler",
+    paramTypes: ["java.io.OutputStream", "java.util.logging.Formatter"]
+} external;
+
+isolated function addLogHandler(handle logger, handle handler) = @java:Method {
+    name: "addHandler",
+    'class: "java.util.logging.Logger"
+} external;
+
+isolated function removeLogHandler(handle logger, handle handler) = @java:Method {
+    name: "removeHandler",
+    'class: "java.util.logging.Logger"
+} external;
+
+isolated function flushLogHandler(handle handler) = @java:Method {
+    name: "flush",
+    'class: "java.util.logging.StreamHandler"
+} external;
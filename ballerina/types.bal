@@ -20,15 +20,66 @@ import ballerina/time;
 # Represents connection configurations related to Redshift Data API.
 #
 # + region - The AWS region with which the connector should communicate
+# + endpoint - The URL of the Redshift Data API endpoint, which overrides the endpoint of the `region`, e.g. the URL
+# of a local stand-in of the Data API
 # + auth - The authentication configurations for the Redshift Data API
 # + dbAccessConfig - The database access configurations for the Redshift Data API
 # This can be overridden in the individual `execute` and `batchExecute` requests
+# + ioMode - The I/O mode used by the connector to invoke the Redshift Data API
+# + executorConfig - The configurations of the worker executor which runs the API calls in the `BLOCKING` I/O mode
+# + httpClientConfig - The configurations of the HTTP client and its connection pool
+# + prefetchConfig - The read-ahead configurations of the streams returned from `getResultAsStream`.
+# Read-ahead is disabled if not provided
+# + resultPageCache - The configurations of the client-side cache of the result pages. Caching is disabled if not
+# provided
+# + queryResultCache - The configurations of the client-side cache of the `query` results. Caching is disabled if
+# not provided
+# + autoBatch - The configurations of the automatic batching of the `execute` calls. Batching is disabled if not
+# provided
+# + sessionPool - The configurations of the pool of warm sessions used by the `execute` and `query` calls. Pooling is
+# disabled if not provided
+# + slowStatementLog - The configurations of the log of the slow statements. The statements are not timed if not
+# provided
 public type ConnectionConfig record {|
     Region region;
+    string endpoint?;
     StaticAuthConfig|EC2IAMRoleConfig auth;
     Cluster|WorkGroup dbAccessConfig?;
+    IoMode ioMode = BLOCKING;
+    ExecutorConfig executorConfig = {};
+    HttpClientConfig httpClientConfig = {};
+    PrefetchConfig prefetchConfig?;
+    ResultPageCacheConfig resultPageCache?;
+    QueryResultCacheConfig queryResultCache?;
+    AutoBatchConfig autoBatch?;
+    SessionPoolConfig sessionPool?;
+    SlowStatementLogConfig slowStatementLog?;
 |};
 
+# Represents the configurations of the `redshiftdata:Listener`.
+#
+# + pollingInterval - The interval (in seconds) between two checks of the completion of the tracked statements
+public type ListenerConfig record {|
+    *ConnectionConfig;
+    @constraint:Number {
+        minValue: {
+            value: 0.1,
+            message: "The pollingInterval should be greater than or equal to 0.1"
+        }
+    }
+    decimal pollingInterval = 5;
+|};
+
+# The I/O mode used by the connector to invoke the Redshift Data API.
+#
+# + BLOCKING - Uses the synchronous AWS SDK client, where each in-flight API call occupies a worker thread
+# + NON_BLOCKING - Uses the asynchronous AWS SDK client backed by a Netty NIO HTTP client, where in-flight API calls
+# are bound by the HTTP connections instead of worker threads
+public enum IoMode {
+    BLOCKING,
+    NON_BLOCKING
+}
+
 # An Amazon Web Services region that hosts a set of Amazon services.
 public enum Region {
     AF_SOUTH_1 = "af-south-1",
@@ -75,6 +126,325 @@ public enum Region {
     US_WEST_2 = "us-west-2"
 }
 
+# Represents the configurations of the worker executor which runs the blocking Redshift Data API calls of a client.
+# The executor is shared by the clients with the same configurations and is released when the last of them is closed.
+#
+# + strategy - The threading strategy of the executor
+# + maxThreads - The maximum number of platform threads used by the `THREAD_POOL` strategy
+# + queueCapacity - The maximum number of API calls which can wait for a free thread in the `THREAD_POOL` strategy
+# + keepAliveTime - The time in seconds for which an idle thread is kept alive in the `THREAD_POOL` strategy. Should
+# be at least 0.001
+# + rejectionPolicy - The action taken on an API call when all the threads are busy and the queue is full
+public type ExecutorConfig record {|
+    ExecutorStrategy strategy = THREAD_POOL;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxThreads should be greater than or equal to 1"
+        }
+    }
+    int maxThreads = 50;
+    @constraint:Int {
+        minValue: {
+            value: 0,
+            message: "The queueCapacity should be greater than or equal to 0"
+        }
+    }
+    int queueCapacity = 1000;
+    @constraint:Number {
+        minValue: {
+            value: 0.001,
+            message: "The keepAliveTime should be greater than or equal to 0.001"
+        }
+    }
+    decimal keepAliveTime = 60;
+    RejectionPolicy rejectionPolicy = ABORT;
+|};
+
+# The threading strategy of the worker executor.
+#
+# + THREAD_POOL - Runs the API calls on a bounded pool of platform threads with a bounded wait queue
+# + VIRTUAL_THREADS - Runs each API call on a new virtual thread. This requires Java 21 or later
+public enum ExecutorStrategy {
+    THREAD_POOL,
+    VIRTUAL_THREADS
+}
+
+# The action taken on an API call which cannot be accepted by a saturated thread pool.
+#
+# + ABORT - Fails the API call with a `redshiftdata:Error`
+# + CALLER_RUNS - Runs the API call on the calling thread, which slows down the caller until the pool catches up.
+# The blocking call then holds the Ballerina strand and its scheduler thread, which stalls the other strands
+# scheduled on that thread, hence it only suits the workloads which rarely exceed the capacity
+public enum RejectionPolicy {
+    ABORT,
+    CALLER_RUNS
+}
+
+# Represents the configurations of the HTTP client and its connection pool. The AWS SDK defaults are used for the
+# configurations which are not provided.
+#
+# + maxConnections - The maximum number of connections in the connection pool. Defaults to 50
+# + connectionAcquisitionTimeout - The maximum time in seconds to wait for a connection from the connection pool.
+# Defaults to 10 seconds
+# + connectionTimeout - The maximum time in seconds to wait while establishing a connection. Defaults to 2 seconds
+# + socketTimeout - The maximum time in seconds to wait for data to be transferred over an open connection.
+# Defaults to 30 seconds
+# + connectionMaxIdleTime - The maximum time in seconds a connection can remain idle in the connection pool before
+# it is evicted. Defaults to 60 seconds
+# + connectionTimeToLive - The maximum time in seconds a pooled connection can be reused. By default, the
+# connections are reused until they are evicted for being idle
+# + tcpKeepAlive - Whether TCP keep-alive should be enabled on the connections. Defaults to `false`
+# + apiCallTimeout - The maximum time in seconds for an API call, including all the retry attempts
+# + apiCallAttemptTimeout - The maximum time in seconds for a single attempt of an API call
+# + warmup - The configurations to warm up the client during the initialization
+public type HttpClientConfig record {|
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxConnections should be greater than or equal to 1"
+        }
+    }
+    int maxConnections?;
+    decimal connectionAcquisitionTimeout?;
+    decimal connectionTimeout?;
+    decimal socketTimeout?;
+    decimal connectionMaxIdleTime?;
+    decimal connectionTimeToLive?;
+    boolean tcpKeepAlive?;
+    decimal apiCallTimeout?;
+    decimal apiCallAttemptTimeout?;
+    WarmupConfig warmup?;
+|};
+
+# Represents the configurations to warm up the client during the initialization. The credentials are resolved and
+# the given number of connections are opened in the background, so that the first statements do not pay the
+# credential fetch and TLS handshake latency. The initialization does not wait for the warm-up, and a failed warm-up
+# does not fail the client initialization.
+#
+# + connections - The number of connections to open
+public type WarmupConfig record {|
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The number of warm-up connections should be greater than or equal to 1"
+        }
+    }
+    int connections = 1;
+|};
+
+# Represents the read-ahead configurations of the result streams. Once the given share of the current result page
+# has been consumed, the next result pages are fetched in the background, so that the stream does not wait for a
+# round trip at each page boundary.
+#
+# + threshold - The share of the current result page to be consumed before the next pages are fetched
+# + pages - The maximum number of result pages to be fetched ahead of the current page of a stream
+# + maxBufferedBytes - The maximum number of bytes to be buffered ahead across all the open result streams of the
+# client. A new page is not fetched ahead while this limit is reached
+public type PrefetchConfig record {|
+    @constraint:Number {
+        minValue: {
+            value: 0,
+            message: "The prefetch threshold should be greater than or equal to 0"
+        },
+        maxValue: {
+            value: 1,
+            message: "The prefetch threshold should be less than or equal to 1"
+        }
+    }
+    decimal threshold = 0.5;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The number of prefetch pages should be greater than or equal to 1"
+        }
+    }
+    int pages = 1;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxBufferedBytes should be greater than or equal to 1"
+        }
+    }
+    int maxBufferedBytes = 67108864;
+|};
+
+# Represents the configurations of the client-side LRU cache of the result pages. The cached pages are served to the
+# result streams of the same statement without calling the Data API.
+#
+# + maxBytes - The maximum number of bytes held by the cache. The least recently used pages are evicted once the
+# limit is reached
+# + ttl - The time (in seconds) for which a page is cached. The Data API retains the results for 24 hours, hence
+# the pages expire within 24 hours regardless of this value
+public type ResultPageCacheConfig record {|
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxBytes should be greater than or equal to 1"
+        }
+    }
+    int maxBytes = 67108864;
+    @constraint:Number {
+        minValue: {
+            value: 1,
+            message: "The cache ttl should be greater than or equal to 1"
+        },
+        maxValue: {
+            value: 86400,
+            message: "The cache ttl should be less than or equal to 86400"
+        }
+    }
+    decimal ttl = 3600;
+|};
+
+# Represents the configurations of the client-side LRU cache of the `query` results. Only the results of the queries
+# which opt in with a `QueryCacheConfig` are cached.
+#
+# + maxBytes - The maximum number of bytes held by the cache. The least recently used results are evicted once the
+# limit is reached
+public type QueryResultCacheConfig record {|
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxBytes should be greater than or equal to 1"
+        }
+    }
+    int maxBytes = 67108864;
+|};
+
+# Represents the configurations of the automatic batching of the `execute` calls. The calls which share the same
+# effective `dbAccessConfig` and arrive within the batching window are sent as a single `BatchExecuteStatement`
+# request, and each call receives the ID of its own sub-statement (`<batchId>:<n>`). The statements of a batch run
+# in a single transaction, hence a failing statement fails the other statements of the batch. The parameter values
+# of the batched statements are inlined as escaped string literals. The calls with a `clientToken`, a `statementName`
+# or `withEvent` are never batched. Closing the client sends the pending batches and waits for their responses.
+#
+# + window - The time (in seconds) for which the first call of a batch waits for the other calls
+# + maxBatchSize - The maximum number of statements sent in a single batch
+public type AutoBatchConfig record {|
+    @constraint:Number {
+        minValue: {
+            value: 0.001,
+            message: "The batching window should be greater than or equal to 0.001"
+        },
+        maxValue: {
+            value: 1,
+            message: "The batching window should be less than or equal to 1"
+        }
+    }
+    decimal window = 0.01;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxBatchSize should be greater than or equal to 1"
+        },
+        maxValue: {
+            value: 40,
+            message: "The maxBatchSize should be less than or equal to 40"
+        }
+    }
+    int maxBatchSize = 40;
+|};
+
+# Represents the configurations of the pool of warm sessions of a client. The `execute` and `query` calls, and the
+# executions of the prepared statements, which do not use a `SessionId` or `sessionKeepAliveSeconds` are run on an
+# idle session of their `dbAccessConfig`. A new session is created if fewer than `maxSessions` sessions exist, and
+# the statement is run without a session if all the sessions are busy. The idle sessions are kept alive until they
+# are not used for `maxIdleTime`. The pool is not used by the calls batched with `autoBatch`. The session state, such
+# as the temporary tables and the `SET` parameters, is not reset, hence it is seen by the later statements of any
+# caller which are run on the same session.
+#
+# + maxSessions - The maximum number of sessions per `dbAccessConfig`
+# + sessionKeepAliveSeconds - The number of seconds a session is kept alive after its last statement
+# + maxIdleTime - The time (in seconds) after which a session not used by a statement is no longer kept alive
+public type SessionPoolConfig record {|
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxSessions should be greater than or equal to 1"
+        },
+        maxValue: {
+            value: 100,
+            message: "The maxSessions should be less than or equal to 100"
+        }
+    }
+    int maxSessions = 4;
+    @constraint:Int {
+        minValue: {
+            value: 60,
+            message: "The sessionKeepAliveSeconds should be greater than or equal to 60"
+        },
+        maxValue: {
+            value: 86400,
+            message: "The sessionKeepAliveSeconds should be less than or equal to 86400"
+        }
+    }
+    int sessionKeepAliveSeconds = 600;
+    @constraint:Number {
+        minValue: {
+            value: 1,
+            message: "The maxIdleTime should be greater than or equal to 1"
+        }
+    }
+    decimal maxIdleTime = 1800;
+|};
+
+# Represents the configurations of the slow statement log of a client. The statements run with the `execute` and
+# `query` calls, and with the prepared statements, are timed from the moment their execution is requested. A statement
+# which takes longer than the `threshold` is logged with the `WARN` level along with its `statementName`,
+# `redshiftQueryId` and the breakdown of its latency, i.e. the wait for a worker thread, the `ExecuteStatement` round
+# trip, the execution time reported by Redshift, the time to the first result page and the time taken to fetch the
+# result. A statement without a result set is logged once its completion is seen by a `describe` or `query` call, and
+# a statement with a result set is logged once its result stream is closed.
+#
+# + threshold - The time (in seconds) after which a statement is logged as a slow statement
+public type SlowStatementLogConfig record {|
+    @constraint:Number {
+        minValue: {
+            value: 0,
+            message: "The threshold should be greater than or equal to 0"
+        }
+    }
+    decimal threshold = 10;
+|};
+
+# Represents the statistics of a session pool.
+#
+# + hits - The number of statements run on an idle pooled session
+# + misses - The number of statements which created a session or ran without a session
+# + sessionsCreated - The number of sessions created
+# + sessionsDropped - The number of sessions dropped as they were broken, expired or idle
+# + refreshes - The number of keep alive statements run on the idle sessions
+# + idleSessions - The number of idle sessions
+# + busySessions - The number of sessions running a statement
+# + savedTime - The estimated time (in seconds) of session setup saved by the hits, based on the server side
+# latencies of the statements which created a session and of those which reused one
+public type SessionPoolStats record {|
+    int hits;
+    int misses;
+    int sessionsCreated;
+    int sessionsDropped;
+    int refreshes;
+    int idleSessions;
+    int busySessions;
+    decimal savedTime;
+|};
+
+# Represents the statistics of a cache.
+#
+# + hits - The number of lookups served from the cache
+# + misses - The number of lookups not served from the cache
+# + evictions - The number of entries evicted due to the size limit or expiry
+# + entries - The number of entries currently held by the cache
+# + bytes - The estimated number of bytes currently held by the cache
+public type CacheStats record {|
+    int hits;
+    int misses;
+    int evictions;
+    int entries;
+    int bytes;
+|};
+
 # Represents static authentication configurations for the Redshift Data API.
 #
 # + accessKeyId - The AWS access key ID, used to identify the user interacting with AWS
@@ -171,6 +541,12 @@ public type SessionId string;
 # + statementName - The name of the SQL statement
 # + withEvent - Flag which indicates to send an event after the SQL statement execution 
 # to an event bus instance running in Amazon EventBridge
+# + resultFormat - The format in which the result of the statement is returned. The result of a statement run in the
+# `CSV` format is retrieved by passing `resultFormat = CSV` to `getResultAsStream` or `getResultAsBatches`
+# + deadline - The time (in seconds) from the call within which the statement should complete. A statement which is
+# still running once the deadline passes is cancelled with `CancelStatement`, so that it stops holding a WLM slot. The
+# cancel call of an `execute` or `batchExecute` statement is sent at the deadline unless a `describe` call of the
+# client has seen the statement completed by then
 public type ExecutionConfig record {|
     Cluster|WorkGroup|SessionId dbAccessConfig?;
     string clientToken?;
@@ -186,6 +562,134 @@ public type ExecutionConfig record {|
     }
     string statementName?;
     boolean withEvent?;
+    ResultFormat resultFormat = JSON;
+    @constraint:Number {
+        minValueExclusive: {
+            value: 0,
+            message: "The deadline should be greater than 0"
+        }
+    }
+    decimal deadline?;
+|};
+
+# The format in which the result of a SQL statement is returned by the Data API.
+#
+# + JSON - The values are returned as typed JSON fields, retrieved with `GetStatementResult`
+# + CSV - The rows are returned as CSV records, retrieved with `GetStatementResultV2`. The CSV records are a fraction
+# of the size of the JSON fields and are decoded as the rows are read, hence the format suits wide results. The pages
+# of the CSV results are neither read ahead nor cached, and cannot be exported with `exportResult`
+public enum ResultFormat {
+    JSON,
+    CSV
+}
+
+# Represents the configuration details required for `query` method.
+#
+# + pollConfig - The configurations used to poll the completion of the statement
+# + cache - The caching configurations of the query result. The result is cached only if the client has a
+# `queryResultCache` and the statement is a `SELECT` or `WITH` query
+public type QueryConfig record {|
+    *ExecutionConfig;
+    PollConfig pollConfig = {};
+    QueryCacheConfig cache?;
+|};
+
+# Represents the caching configurations of a `query` result. The cached results are keyed by the SQL text with its
+# whitespace outside the quoted literals collapsed, the parameter values and the effective `dbAccessConfig`.
+#
+# + ttl - The time (in seconds) for which the result is cached. Should be at least 0.001
+# + tags - The tags, e.g. the names of the queried tables, by which the cached result can be invalidated
+public type QueryCacheConfig record {|
+    @constraint:Number {
+        minValue: {
+            value: 0.001,
+            message: "The ttl should be greater than or equal to 0.001"
+        }
+    }
+    decimal ttl = 60;
+    string[] tags = [];
+|};
+
+# Represents the configurations used to poll the status of a statement until it completes. The first polls are sent
+# at the initial interval, after which the interval grows by the backoff factor up to the maximum interval. The first
+# poll of a named statement is delayed by the duration observed for the previous statements with the same name.
+#
+# + initialInterval - The interval (in seconds) between the first status polls. Should be at least 0.001
+# + maxInterval - The maximum interval (in seconds) between two status polls. Should not be less than the
+# `initialInterval`
+# + backoffFactor - The factor by which the poll interval grows. Should be greater than or equal to 1
+# + timeout - The maximum time (in seconds) to wait for the statement to complete
+public type PollConfig record {|
+    decimal initialInterval = 0.05;
+    decimal maxInterval = 5;
+    decimal backoffFactor = 2;
+    decimal timeout = 300;
+|};
+
+# Represents the configuration details required for `executeMany` method. A `clientToken` is not allowed since each
+# parameter set is run as a separate statement.
+#
+# + maxInFlight - The maximum number of statements run concurrently
+# + pollingInterval - The interval (in seconds) between two bulk checks of the completion of the running statements
+public type ExecuteManyConfig record {|
+    *ExecutionConfig;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxInFlight should be greater than or equal to 1"
+        }
+    }
+    int maxInFlight = 10;
+    @constraint:Number {
+        minValue: {
+            value: 0.1,
+            message: "The pollingInterval should be greater than or equal to 0.1"
+        }
+    }
+    decimal pollingInterval = 1;
+|};
+
+# Represents the configuration details required for `bulkInsert` method. The records are inserted with multi-row
+# `INSERT` statements, which are grouped into chunks and sent as `BatchExecuteStatement` requests.
+#
+# + dbAccessConfig - The database access configurations, which override the ones of the client
+# + maxStatementBytes - The maximum size (in bytes) of the SQL text of an `INSERT` statement. The Data API limits
+# the size of a statement to 100 KB
+# + statementsPerChunk - The maximum number of `INSERT` statements sent in a single `BatchExecuteStatement` request
+# + maxInFlight - The maximum number of chunks run concurrently
+# + pollConfig - The configurations used to poll the completion of the chunks
+public type BulkInsertConfig record {|
+    Cluster|WorkGroup|SessionId dbAccessConfig?;
+    @constraint:Int {
+        minValue: {
+            value: 1024,
+            message: "The maxStatementBytes should be greater than or equal to 1024"
+        },
+        maxValue: {
+            value: 102400,
+            message: "The maxStatementBytes should be less than or equal to 102400"
+        }
+    }
+    int maxStatementBytes = 102400;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The statementsPerChunk should be greater than or equal to 1"
+        },
+        maxValue: {
+            value: 40,
+            message: "The statementsPerChunk should be less than or equal to 40"
+        }
+    }
+    int statementsPerChunk = 40;
+    @constraint:Int {
+        minValue: {
+            value: 1,
+            message: "The maxInFlight should be greater than or equal to 1"
+        }
+    }
+    int maxInFlight = 4;
+    PollConfig pollConfig = {};
 |};
 
 # The response from the `execute` method.
@@ -201,6 +705,59 @@ public type ExecutionResponse record {|
     SessionId sessionId?;
 |};
 
+# The file formats supported by `exportResult`.
+#
+# + CSV - Comma separated values with a header row. Null values are written as empty values and empty strings are
+# quoted
+# + NDJSON - Newline delimited JSON, with an object per row
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
+
+# The response from the `exportResult` method.
+#
+# + rows - The number of rows written to the file
+# + bytes - The number of bytes written to the file
+public type ExportResponse record {|
+    int rows;
+    int bytes;
+|};
+
+# The response from the `bulkInsert` method.
+#
+# + insertedRows - The number of rows inserted by the finished chunks
+# + failedRows - The number of rows of the failed or aborted chunks
+# + bytes - The total number of bytes of the SQL text sent
+# + duration - The time (in seconds) taken by the bulk insert
+# + rowsPerSecond - The number of inserted rows per second
+# + chunks - The status of each chunk, in the order of the records
+public type BulkInsertResponse record {|
+    int insertedRows;
+    int failedRows;
+    int bytes;
+    decimal duration;
+    decimal rowsPerSecond;
+    BulkInsertChunk[] chunks;
+|};
+
+# The status of a chunk of a `bulkInsert`.
+#
+# + rows - The number of rows in the chunk
+# + bytes - The number of bytes of the SQL text of the chunk
+# + statementId - The identifier of the batch statement of the chunk. Absent if the chunk could not be submitted
+# + status - The final status of the batch statement
+# + 'error - The error of the chunk, if it failed
+# + duration - The time (in seconds) taken by the chunk, including the submission and the polling
+public type BulkInsertChunk record {|
+    int rows;
+    int bytes;
+    StatementId statementId?;
+    Status status;
+    string 'error?;
+    decimal duration;
+|};
+
 # The identifier of the SQL statement
 @constraint:String {
     pattern: {
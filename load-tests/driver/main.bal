@@ -0,0 +1,206 @@
+//  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+//  
+
+import ballerina/io;
+import ballerina/lang.runtime;
+import ballerina/sql;
+import ballerina/time;
+import ballerinax/aws.redshiftdata;
+
+# The endpoint of the Data API, i.e. the stand-in
+configurable string endpoint = "http://localhost:9090";
+# The number of strands running statements concurrently
+configurable int concurrency = 16;
+# The time (in seconds) during which the statements are measured
+configurable decimal duration = 60;
+# The time (in seconds) during which the statements are run before the measurement starts
+configurable decimal warmup = 10;
+# The kind of statements run by each strand
+configurable Workload workload = QUERY;
+# The number of statements in each batch of the `BATCH` workload
+configurable int batchSize = 10;
+# The result format of the `QUERY` workload
+configurable redshiftdata:ResultFormat resultFormat = redshiftdata:JSON;
+# The I/O mode of the connector
+configurable redshiftdata:IoMode ioMode = redshiftdata:BLOCKING;
+# The maximum number of threads of the connector executor in the `BLOCKING` I/O mode
+configurable int maxThreads = 50;
+# The initial interval (in seconds) between the status polls of a statement
+configurable decimal pollInterval = 0.05;
+
+# The statements run by the load test.
+#
+# + QUERY - `query` of a `SELECT` statement, which polls until it finishes and streams all the result pages
+# + EXECUTE - `execute` of an `INSERT` statement followed by a `describe` of the submitted statement
+# + BATCH - `batchExecute` of `batchSize` `INSERT` statements followed by a `describe` of the batch
+enum Workload {
+    QUERY,
+    EXECUTE,
+    BATCH
+}
+
+type User record {|
+    @sql:Column {name: "user_id"}
+    int userId;
+    string username;
+    string email;
+    int age;
+|};
+
+# The measurements of a single strand.
+#
+# + statements - The number of statements that completed successfully
+# + rows - The number of rows streamed
+# + errors - The number of statements that failed
+# + latencies - The latency (in seconds) of each successful statement
+type Measurements record {|
+    int statements = 0;
+    int rows = 0;
+    int errors = 0;
+    decimal[] latencies = [];
+|};
+
+public function main() returns error? {
+    redshiftdata:Client redshift = check new ({
+        region: redshiftdata:US_EAST_1,
+        endpoint,
+        auth: {
+            accessKeyId: "stand-in",
+            secretAccessKey: "stand-in"
+        },
+        dbAccessConfig: {
+            id: "stand-in",
+            database: "dev",
+            dbUser: "awsuser"
+        },
+        ioMode,
+        executorConfig: {
+            maxThreads
+        }
+    });
+    io:println(string `Running the ${workload} workload with ${concurrency} strands for ${warmup}s of warm-up ` +
+            string `and ${duration}s of measurement against ${endpoint}`);
+    decimal measureFrom = time:monotonicNow() + warmup;
+    decimal deadline = measureFrom + duration;
+    future<Measurements>[] strands = [];
+    foreach int i in 0 ..< concurrency {
+        future<Measurements> strand = start run(redshift, measureFrom, deadline);
+        strands.push(strand);
+    }
+    Measurements total = {};
+    foreach future<Measurements> strand in strands {
+        Measurements measurements = check wait strand;
+        total.statements += measurements.statements;
+        total.rows += measurements.rows;
+        total.errors += measurements.errors;
+        total.latencies.push(...measurements.latencies);
+    }
+    check redshift->close();
+    report(total);
+}
+
+function run(redshiftdata:Client redshift, decimal measureFrom, decimal deadline) returns Measurements {
+    Measurements measurements = {};
+    while true {
+        decimal startTime = time:monotonicNow();
+        if startTime >= deadline {
+            return measurements;
+        }
+        int|error rows = runStatement(redshift);
+        decimal latency = time:monotonicNow() - startTime;
+        if startTime < measureFrom {
+            continue;
+        }
+        if rows is error {
+            measurements.errors += 1;
+            if measurements.errors == 1 {
+                io:println(string `Statement failed: ${rows.message()}`);
+            }
+            continue;
+        }
+        measurements.statements += 1;
+        measurements.rows += rows;
+        measurements.latencies.push(latency);
+    }
+}
+
+# Runs a single statement of the workload to its completion.
+#
+# + redshift - The connector client
+# + return - The number of rows streamed, or an error if the statement fails
+function runStatement(redshiftdata:Client redshift) returns int|error {
+    match workload {
+        QUERY => {
+            stream<User, redshiftdata:Error?> users = check redshift->query(`SELECT * FROM Users`,
+                    pollConfig = {initialInterval: pollInterval}, resultFormat = resultFormat);
+            int count = 0;
+            check from User _ in users
+                do {
+                    count += 1;
+                };
+            return count;
+        }
+        EXECUTE => {
+            redshiftdata:ExecutionResponse response = check redshift->execute(
+                    `INSERT INTO Users (username, email, age) VALUES ('load', 'load@example.com', 30)`);
+            return waitForCompletion(redshift, response.statementId);
+        }
+        _ => {
+            sql:ParameterizedQuery[] statements = from int i in 0 ..< batchSize
+                select `INSERT INTO Users (username, email, age) VALUES ('load', 'load@example.com', ${i})`;
+            redshiftdata:ExecutionResponse response = check redshift->batchExecute(statements);
+            return waitForCompletion(redshift, response.statementId);
+        }
+    }
+}
+
+function waitForCompletion(redshiftdata:Client redshift, redshiftdata:StatementId statementId) returns int|error {
+    while true {
+        redshiftdata:DescriptionResponse description = check redshift->describe(statementId);
+        if description.status == redshiftdata:FINISHED {
+            return 0;
+        }
+        if description.status == redshiftdata:FAILED || description.status == redshiftdata:ABORTED {
+            return error(string `Statement ${statementId} ${description.status}: ${description.'error ?: ""}`);
+        }
+        runtime:sleep(pollInterval);
+    }
+}
+
+function report(Measurements total) {
+    io:println(string `Statements: ${total.statements} (${rate(total.statements)} statements/s)`);
+    io:println(string `Rows: ${total.rows} (${rate(total.rows)} rows/s)`);
+    io:println(string `Errors: ${total.errors}`);
+    if total.latencies.length() == 0 {
+        return;
+    }
+    decimal[] latencies = total.latencies.sort();
+    io:println(string `Latency (ms): p50=${percentile(latencies, 0.5)} p99=${percentile(latencies, 0.99)} ` +
+            string `p999=${percentile(latencies, 0.999)} max=${percentile(latencies, 1)}`);
+}
+
+function rate(int count) returns decimal => decimal:round(<decimal>count / duration, 1);
+
+# Returns the latency (in milliseconds) at the given quantile of the sorted latencies, using the nearest rank.
+#
+# + latencies - The sorted latencies (in seconds)
+# + quantile - The quantile, between 0 and 1
+# + return - The latency in milliseconds
+function percentile(decimal[] latencies, decimal quantile) returns decimal {
+    int rank = <int>decimal:ceiling(quantile * <decimal>latencies.length());
+    return decimal:round(latencies[int:max(rank, 1) - 1] * 1000, 2);
+}
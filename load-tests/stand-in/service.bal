@@ -0,0 +1,117 @@
+//  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+//  
+
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/log;
+import ballerina/random;
+
+# The port on which the stand-in listens
+configurable int port = 9090;
+# The latency (in seconds) added to each API call
+configurable decimal latency = 0.005;
+# The latencies (in seconds) of individual operations, keyed by the operation name, e.g. `DescribeStatement`
+configurable map<decimal> operationLatencies = {};
+# The fraction of the API calls, between 0 and 1, rejected with a `ThrottlingException`
+configurable float throttleRate = 0.0;
+
+const TARGET_HEADER = "X-Amz-Target";
+const TARGET_PREFIX = "RedshiftData.";
+const CONTENT_TYPE = "application/x-amz-json-1.1";
+
+# The error returned to the client as an AWS JSON protocol error.
+#
+# + 'type - The AWS error code, e.g. `ResourceNotFoundException`
+type ApiErrorDetail record {|
+    string 'type;
+|};
+
+type ApiError error<ApiErrorDetail>;
+
+# A stand-in for the Redshift Data API, which answers the AWS JSON 1.1 requests sent by the SDK when the connector
+# is configured with `endpoint = "http://localhost:<port>"`.
+service / on new http:Listener(port) {
+
+    isolated resource function post .(http:Request request) returns http:Response {
+        string|http:HeaderNotFoundError target = request.getHeader(TARGET_HEADER);
+        if target is http:HeaderNotFoundError || !target.startsWith(TARGET_PREFIX) {
+            return errorResponse(error ApiError("Missing or invalid X-Amz-Target header",
+                    'type = "UnknownOperationException"));
+        }
+        string operation = target.substring(TARGET_PREFIX.length());
+        runtime:sleep(operationLatencies[operation] ?: latency);
+        if throttleRate > 0.0 && random:createDecimal() < throttleRate {
+            return errorResponse(error ApiError("Rate exceeded", 'type = "ThrottlingException"));
+        }
+        map<json>|ApiError result = readPayload(request);
+        if result is map<json> {
+            result = dispatch(operation, result);
+        }
+        if result is ApiError {
+            return errorResponse(result);
+        }
+        http:Response response = new;
+        response.setJsonPayload(result, CONTENT_TYPE);
+        return response;
+    }
+}
+
+isolated function dispatch(string operation, map<json> payload) returns map<json>|ApiError {
+    match operation {
+        "ExecuteStatement" => {
+            return executeStatement(payload);
+        }
+        "BatchExecuteStatement" => {
+            return batchExecuteStatement(payload);
+        }
+        "DescribeStatement" => {
+            return describeStatement(payload);
+        }
+        "GetStatementResult" => {
+            return getStatementResult(payload);
+        }
+        "GetStatementResultV2" => {
+            return getStatementResultV2(payload);
+        }
+        "ListStatements" => {
+            return listStatements(payload);
+        }
+    }
+    return error ApiError(string `Operation ${operation} is not supported by the stand-in`,
+            'type = "UnknownOperationException");
+}
+
+isolated function readPayload(http:Request request) returns map<json>|ApiError {
+    do {
+        string body = check request.getTextPayload();
+        json payload = check body.fromJsonString();
+        return check payload.ensureType();
+    } on fail error e {
+        return error ApiError(string `Invalid request payload: ${e.message()}`, 'type = "ValidationException");
+    }
+}
+
+isolated function errorResponse(ApiError apiError) returns http:Response {
+    if apiError.detail().'type != "ThrottlingException" {
+        log:printDebug("Rejected a Data API call", apiError);
+    }
+    http:Response response = new;
+    response.statusCode = http:STATUS_BAD_REQUEST;
+    response.setHeader("x-amzn-ErrorType", apiError.detail().'type);
+    response.setJsonPayload({"__type": apiError.detail().'type, "message": apiError.message()}, CONTENT_TYPE);
+    return response;
+}
@@ -0,0 +1,299 @@
+//  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+//
+//  WSO2 LLC. licenses this file to you under the Apache License,
+//  Version 2.0 (the "License"); you may not use this file except
+//  in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing,
+//  software distributed under the License is distributed on an
+//  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+//  KIND, either express or implied. See the License for the
+//  specific language governing permissions and limitations
+//  under the License.
+//  
+
+import ballerina/lang.regexp;
+import ballerina/time;
+import ballerina/uuid;
+
+# The time (in seconds) after which a statement is reported as `FINISHED`
+configurable decimal executionTime = 0.1;
+# The number of rows returned by each `SELECT` statement
+configurable int resultRows = 1000;
+# The number of rows in each page of `GetStatementResult`
+configurable int rowsPerPage = 500;
+# The number of statements kept for `DescribeStatement` and `ListStatements`, after which the oldest are dropped
+configurable int maxStatements = 100000;
+
+const int NANOS_PER_SECOND = 1000000000;
+const int ROW_SIZE = 48;
+
+final readonly & json[] columnMetadata = [
+    {name: "user_id", label: "user_id", typeName: "int4", nullable: 0, isSigned: true},
+    {name: "username", label: "username", typeName: "varchar", nullable: 1, isSigned: false},
+    {name: "email", label: "email", typeName: "varchar", nullable: 1, isSigned: false},
+    {name: "age", label: "age", typeName: "int4", nullable: 1, isSigned: true}
+];
+
+final regexp:RegExp queryPattern = re `^\s*(?i:select|with)[\s(]`;
+
+# A statement run on the stand-in. A statement is `STARTED` until `executionTime` has elapsed since its submission.
+#
+# + id - The statement identifier
+# + queryStrings - The SQL statements. A single statement unless it is a batch
+# + isBatch - Whether the statement was submitted with `BatchExecuteStatement`
+# + createdAt - The submission time in seconds since the epoch
+# + redshiftQueryId - The query identifier of the first (sub-)statement
+type StatementEntry readonly & record {|
+    string id;
+    string[] queryStrings;
+    boolean isBatch;
+    decimal createdAt;
+    int redshiftQueryId;
+|};
+
+isolated map<StatementEntry> statements = {};
+isolated int nextQueryId = 1;
+
+isolated function executeStatement(map<json> payload) returns map<json>|ApiError {
+    string sql = check stringField(payload, "Sql");
+    StatementEntry entry = track([sql], false);
+    return submitResponse(entry, payload);
+}
+
+isolated function batchExecuteStatement(map<json> payload) returns map<json>|ApiError {
+    json sqls = payload["Sqls"];
+    if sqls !is json[] || sqls.length() == 0 {
+        return error ApiError("Sqls is required", 'type = "ValidationException");
+    }
+    string[]|error queryStrings = sqls.cloneWithType();
+    if queryStrings is error {
+        return error ApiError("Sqls should be a list of strings", 'type = "ValidationException");
+    }
+    StatementEntry entry = track(queryStrings, true);
+    return submitResponse(entry, payload);
+}
+
+isolated function describeStatement(map<json> payload) returns map<json>|ApiError {
+    string id = check stringField(payload, "Id");
+    [StatementEntry, int?] [entry, subIndex] = check lookup(id);
+    decimal now = currentTime();
+    map<json> description = statementData(entry, subIndex ?: 0, now);
+    description["Id"] = id;
+    description["RedshiftPid"] = 1073741824;
+    if entry.isBatch && subIndex is () {
+        json[] subStatements = from int i in 0 ..< entry.queryStrings.length()
+            select statementData(entry, i, now);
+        description["SubStatements"] = subStatements;
+        description["HasResultSet"] = entry.queryStrings.some(isQuery);
+        _ = description.remove("QueryString");
+    }
+    return description;
+}
+
+isolated function getStatementResult(map<json> payload) returns map<json>|ApiError {
+    [int, int] [offset, end] = check resultPage(payload);
+    json[] records = from int i in offset ..< end
+        select resultRow(i);
+    map<json> result = {Records: records, ColumnMetadata: columnMetadata, TotalNumRows: resultRows};
+    if end < resultRows {
+        result["NextToken"] = end.toString();
+    }
+    return result;
+}
+
+isolated function getStatementResultV2(map<json> payload) returns map<json>|ApiError {
+    [int, int] [offset, end] = check resultPage(payload);
+    // The first page starts with a header record of the column names
+    string[] csvRecords = offset == 0 ? ["user_id,username,email,age\n"] : [];
+    foreach int i in offset ..< end {
+        csvRecords.push(csvRow(i));
+    }
+    map<json> result = {
+        Records: [{CSVRecords: string:'join("", ...csvRecords)}],
+        ColumnMetadata: columnMetadata,
+        TotalNumRows: resultRows,
+        ResultFormat: "CSV"
+    };
+    if end < resultRows {
+        result["NextToken"] = end.toString();
+    }
+    return result;
+}
+
+# Returns the offset and the end of the rows of the requested result page.
+isolated function resultPage(map<json> payload) returns [int, int]|ApiError {
+    string id = check stringField(payload, "Id");
+    [StatementEntry, int?] [entry, subIndex] = check lookup(id);
+    if entry.isBatch && subIndex is () {
+        return error ApiError("Use the Id of a sub-statement to get the results of a batch",
+                'type = "ValidationException");
+    }
+    if !isFinished(entry, currentTime()) || !isQuery(entry.queryStrings[subIndex ?: 0]) {
+        return error ApiError("Query does not have result. Please check query status with DescribeStatement",
+                'type = "ResourceNotFoundException");
+    }
+    int offset = check offsetField(payload);
+    return [offset, int:min(offset + rowsPerPage, resultRows)];
+}
+
+isolated function listStatements(map<json> payload) returns map<json>|ApiError {
+    json statusFilter = payload["Status"];
+    json maxResults = payload["MaxResults"];
+    int pageSize = maxResults is int ? maxResults : 100;
+    int offset = check offsetField(payload);
+    StatementEntry[] entries;
+    lock {
+        entries = statements.toArray().cloneReadOnly();
+    }
+    decimal now = currentTime();
+    // The most recent statements first, as listed by the Data API
+    json[] matches = from StatementEntry entry in entries.reverse()
+        let string status = isFinished(entry, now) ? "FINISHED" : "STARTED"
+        where statusFilter !is string || statusFilter == "ALL" || statusFilter == status
+        select statementSummary(entry, status, now);
+    int end = int:min(offset + pageSize, matches.length());
+    map<json> result = {Statements: offset < end ? matches.slice(offset, end) : []};
+    if end < matches.length() {
+        result["NextToken"] = end.toString();
+    }
+    return result;
+}
+
+isolated function track(string[] queryStrings, boolean isBatch) returns StatementEntry {
+    int count = queryStrings.length();
+    int redshiftQueryId;
+    lock {
+        redshiftQueryId = nextQueryId;
+        nextQueryId += count;
+    }
+    StatementEntry entry = {
+        id: uuid:createType4AsString(),
+        queryStrings: queryStrings.cloneReadOnly(),
+        isBatch,
+        createdAt: currentTime(),
+        redshiftQueryId
+    };
+    lock {
+        if statements.length() >= maxStatements {
+            _ = statements.remove(statements.keys()[0]);
+        }
+        statements[entry.id] = entry;
+    }
+    return entry;
+}
+
+# Finds a statement by its identifier, or by the `<id>:<n>` identifier of a sub-statement of a batch.
+isolated function lookup(string id) returns [StatementEntry, int?]|ApiError {
+    int? separator = id.lastIndexOf(":");
+    string parentId = separator is int ? id.substring(0, separator) : id;
+    StatementEntry? entry;
+    lock {
+        entry = statements[parentId];
+    }
+    if entry is () {
+        return error ApiError(string `Statement ${id} is not found`, 'type = "ResourceNotFoundException");
+    }
+    if separator is () {
+        return [entry, ()];
+    }
+    int|error subIndex = int:fromString(id.substring(separator + 1));
+    if subIndex is error || subIndex < 1 || subIndex > entry.queryStrings.length() {
+        return error ApiError(string `Statement ${id} is not found`, 'type = "ResourceNotFoundException");
+    }
+    return [entry, subIndex - 1];
+}
+
+isolated function submitResponse(StatementEntry entry, map<json> payload) returns map<json> {
+    map<json> response = {Id: entry.id, CreatedAt: entry.createdAt};
+    foreach string key in ["ClusterIdentifier", "WorkgroupName", "Database", "DbUser", "SecretArn"] {
+        if payload.hasKey(key) {
+            response[key] = payload[key];
+        }
+    }
+    return response;
+}
+
+isolated function statementData(StatementEntry entry, int index, decimal now) returns map<json> {
+    string queryString = entry.queryStrings[index];
+    boolean finished = isFinished(entry, now);
+    boolean hasResultSet = isQuery(queryString);
+    int rows = hasResultSet ? resultRows : 1;
+    return {
+        Id: string `${entry.id}:${index + 1}`,
+        Status: finished ? "FINISHED" : "STARTED",
+        QueryString: queryString,
+        CreatedAt: entry.createdAt,
+        UpdatedAt: finished ? entry.createdAt + executionTime : now,
+        Duration: finished ? <int>(executionTime * <decimal>NANOS_PER_SECOND) : -1,
+        HasResultSet: hasResultSet,
+        ResultRows: finished ? rows : -1,
+        ResultSize: finished && hasResultSet ? rows * ROW_SIZE : 0,
+        RedshiftQueryId: entry.redshiftQueryId + index
+    };
+}
+
+isolated function statementSummary(StatementEntry entry, string status, decimal now) returns map<json> {
+    map<json> summary = {
+        Id: entry.id,
+        Status: status,
+        IsBatchStatement: entry.isBatch,
+        CreatedAt: entry.createdAt,
+        UpdatedAt: status == "FINISHED" ? entry.createdAt + executionTime : now
+    };
+    if entry.isBatch {
+        summary["QueryStrings"] = entry.queryStrings;
+    } else {
+        summary["QueryString"] = entry.queryStrings[0];
+    }
+    return summary;
+}
+
+isolated function resultRow(int index) returns json[] {
+    int userId = index + 1;
+    return [
+        {longValue: userId},
+        {stringValue: string `user${userId}`},
+        {stringValue: string `user${userId}@example.com`},
+        {longValue: 18 + index % 60}
+    ];
+}
+
+isolated function csvRow(int index) returns string {
+    int userId = index + 1;
+    return string `${userId},user${userId},user${userId}@example.com,${18 + index % 60}` + "\n";
+}
+
+isolated function stringField(map<json> payload, string name) returns string|ApiError {
+    json value = payload[name];
+    if value is string {
+        return value;
+    }
+    return error ApiError(string `${name} is required`, 'type = "ValidationException");
+}
+
+isolated function offsetField(map<json> payload) returns int|ApiError {
+    json nextToken = payload["NextToken"];
+    if nextToken !is string {
+        return 0;
+    }
+    int|error offset = int:fromString(nextToken);
+    if offset is error || offset < 0 {
+        return error ApiError("Invalid NextToken", 'type = "ValidationException");
+    }
+    return offset;
+}
+
+isolated function isFinished(StatementEntry entry, decimal now) returns boolean =>
+    now - entry.createdAt >= executionTime;
+
+isolated function isQuery(string sql) returns boolean => queryPattern.find(sql) !is ();
+
+# Returns the current time in seconds since the epoch, as used by the AWS JSON protocol for timestamps.
+isolated function currentTime() returns decimal {
+    time:Utc now = time:utcNow();
+    return <decimal>now[0] + now[1];
+}
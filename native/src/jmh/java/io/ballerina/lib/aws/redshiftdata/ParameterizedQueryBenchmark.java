@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.services.redshiftdata.model.SqlParameter;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+
+/**
+ * Benchmarks the translation of the {@code sql:ParameterizedQuery} templates to the Data API requests, for templates
+ * with a varying number of inserted values of mixed types.
+ */
+@State(Scope.Thread)
+public class ParameterizedQueryBenchmark {
+
+    @Param({"0", "4", "32"})
+    public int insertions;
+
+    private BObject template;
+    private ParameterizedQuery query;
+
+    @Setup
+    public void setup() {
+        BString[] strings = new BString[insertions + 1];
+        Object[] values = new Object[insertions];
+        strings[0] = StringUtils.fromString(insertions == 0 ?
+                "SELECT * FROM orders WHERE region = 'emea'" : "SELECT * FROM orders WHERE id = ");
+        for (int i = 0; i < insertions; i++) {
+            strings[i + 1] = StringUtils.fromString(i == insertions - 1 ? "" : " OR id = ");
+            values[i] = switch (i % 4) {
+                case 0 -> (long) i;
+                case 1 -> StringUtils.fromString("customer-" + i);
+                case 2 -> ValueCreator.createDecimalValue(BigDecimal.valueOf(i, 2));
+                default -> null;
+            };
+        }
+        template = createTemplate(ValueCreator.createArrayValue(strings),
+                ValueCreator.createArrayValue(values, TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA)));
+        query = new ParameterizedQuery(template);
+    }
+
+    // A stand-in for the `sql:ParameterizedQuery` object, which only serves the fields read by the connector
+    private static BObject createTemplate(BArray strings, BArray insertions) {
+        return (BObject) Proxy.newProxyInstance(BObject.class.getClassLoader(), new Class<?>[]{BObject.class},
+                (proxy, method, args) -> {
+                    if ("getArrayValue".equals(method.getName())) {
+                        return ParameterizedQuery.QUERY_STRINGS.equals(args[0]) ? strings : insertions;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    @Benchmark
+    public ParameterizedQuery construct() {
+        return new ParameterizedQuery(template);
+    }
+
+    @Benchmark
+    public String getQueryString() {
+        return query.getQueryString();
+    }
+
+    @Benchmark
+    public SqlParameter[] getParameters() {
+        return query.getParameters();
+    }
+
+    @Benchmark
+    public String getPreparedQuery() {
+        return query.getPreparedQuery();
+    }
+}
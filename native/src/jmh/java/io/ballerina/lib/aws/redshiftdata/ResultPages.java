@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+import software.amazon.awssdk.services.redshiftdata.model.Field;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * {@code ResultPages} builds synthetic result pages and the matching record types for the benchmarks.
+ * <p>
+ * The values are generated from a fixed seed, so that each run of a benchmark maps the same rows. The nullable
+ * columns hold {@code NULL} in about a tenth of the rows.
+ * </p>
+ */
+final class ResultPages {
+    private static final Module BENCHMARK_MODULE = new Module("bench", "redshiftdata", "1");
+    private static final Type NULLABLE_STRING = TypeCreator.createUnionType(PredefinedTypes.TYPE_STRING,
+            PredefinedTypes.TYPE_NULL);
+    private static final Type NULLABLE_DECIMAL = TypeCreator.createUnionType(PredefinedTypes.TYPE_DECIMAL,
+            PredefinedTypes.TYPE_NULL);
+
+    private ResultPages() {
+    }
+
+    /**
+     * The column mixes of the benchmarked results.
+     */
+    enum ColumnMix {
+        // A key-value lookup, e.g. `SELECT id, name, active FROM users`
+        NARROW(List.of(
+                new Column("id", "int8", PredefinedTypes.TYPE_INT, ResultPages::longField),
+                new Column("name", "varchar", PredefinedTypes.TYPE_STRING, random -> stringField(random, 16)),
+                new Column("active", "bool", PredefinedTypes.TYPE_BOOLEAN, ResultPages::booleanField))),
+        // A typical fact table row with numeric, text and nullable columns
+        MIXED(List.of(
+                new Column("id", "int8", PredefinedTypes.TYPE_INT, ResultPages::longField),
+                new Column("customer_id", "int4", PredefinedTypes.TYPE_INT, ResultPages::longField),
+                new Column("sku", "varchar", PredefinedTypes.TYPE_STRING, random -> stringField(random, 12)),
+                new Column("description", "varchar", NULLABLE_STRING,
+                        random -> nullable(random, stringField(random, 64))),
+                new Column("quantity", "int4", PredefinedTypes.TYPE_INT, ResultPages::longField),
+                new Column("price", "numeric", PredefinedTypes.TYPE_DECIMAL, ResultPages::decimalField),
+                new Column("discount", "numeric", NULLABLE_DECIMAL,
+                        random -> nullable(random, decimalField(random))),
+                new Column("weight", "float8", PredefinedTypes.TYPE_FLOAT, ResultPages::doubleField),
+                new Column("shipped", "bool", PredefinedTypes.TYPE_BOOLEAN, ResultPages::booleanField))),
+        // A wide denormalized row with long text columns
+        WIDE(createWideColumns());
+
+        private final List<Column> columns;
+
+        ColumnMix(List<Column> columns) {
+            this.columns = columns;
+        }
+    }
+
+    /**
+     * Creates a closed record type with a field of each column.
+     *
+     * @param mix the column mix
+     * @return the record type
+     */
+    static RecordType recordType(ColumnMix mix) {
+        Map<String, io.ballerina.runtime.api.types.Field> fields = new LinkedHashMap<>();
+        for (Column column : mix.columns) {
+            fields.put(column.name, TypeCreator.createField(column.fieldType, column.name, SymbolFlags.PUBLIC));
+        }
+        return TypeCreator.createRecordType(mix.name() + "Row", BENCHMARK_MODULE, SymbolFlags.PUBLIC, fields, null,
+                true, 0);
+    }
+
+    /**
+     * Creates a result page of the given number of rows.
+     *
+     * @param mix  the column mix
+     * @param rows the number of rows
+     * @return the result page
+     */
+    static GetStatementResultResponse page(ColumnMix mix, int rows) {
+        Random random = new Random(42);
+        List<ColumnMetadata> columnMetadata = mix.columns.stream()
+                .map(column -> ColumnMetadata.builder().name(column.name).typeName(column.typeName).build())
+                .toList();
+        List<List<Field>> records = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            List<Field> row = new ArrayList<>(mix.columns.size());
+            for (Column column : mix.columns) {
+                row.add(column.generator.apply(random));
+            }
+            records.add(row);
+        }
+        return GetStatementResultResponse.builder()
+                .columnMetadata(columnMetadata)
+                .records(records)
+                .totalNumRows((long) rows)
+                .nextToken("next")
+                .build();
+    }
+
+    private static List<Column> createWideColumns() {
+        List<Column> columns = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            columns.add(new Column("key_" + i, "int8", PredefinedTypes.TYPE_INT, ResultPages::longField));
+            columns.add(new Column("code_" + i, "varchar", PredefinedTypes.TYPE_STRING,
+                    random -> stringField(random, 8)));
+            columns.add(new Column("text_" + i, "varchar", NULLABLE_STRING,
+                    random -> nullable(random, stringField(random, 256))));
+            columns.add(new Column("amount_" + i, "numeric", PredefinedTypes.TYPE_DECIMAL,
+                    ResultPages::decimalField));
+            columns.add(new Column("ratio_" + i, "float8", PredefinedTypes.TYPE_FLOAT, ResultPages::doubleField));
+        }
+        return columns;
+    }
+
+    private static Field longField(Random random) {
+        return Field.builder().longValue((long) random.nextInt(1_000_000)).build();
+    }
+
+    private static Field doubleField(Random random) {
+        return Field.builder().doubleValue(random.nextDouble() * 1000).build();
+    }
+
+    private static Field booleanField(Random random) {
+        return Field.builder().booleanValue(random.nextBoolean()).build();
+    }
+
+    private static Field decimalField(Random random) {
+        return Field.builder().stringValue(String.format("%d.%04d", random.nextInt(100_000), random.nextInt(10_000)))
+                .build();
+    }
+
+    private static Field stringField(Random random, int length) {
+        char[] value = new char[length];
+        for (int i = 0; i < length; i++) {
+            value[i] = (char) ('a' + random.nextInt(26));
+        }
+        return Field.builder().stringValue(new String(value)).build();
+    }
+
+    private static Field nullable(Random random, Field field) {
+        return random.nextInt(10) == 0 ? Field.builder().isNull(true).build() : field;
+    }
+
+    private record Column(String name, String typeName, Type fieldType, Function<Random, Field> generator) {
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.services.redshiftdata.model.Field;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+
+import java.util.List;
+
+/**
+ * Benchmarks the per-row cost of mapping the result pages to Ballerina records, i.e. the work done by
+ * {@code QueryResultProcessor.nextResult} for each row, along with the per-page work of resolving the row mapping
+ * plan and the column annotations. The row benchmarks map a full page per invocation, hence their scores and
+ * allocations are reported per row.
+ */
+@State(Scope.Thread)
+public class RowMappingBenchmark {
+    private static final int ROWS_PER_PAGE = 1000;
+
+    @Param({"NARROW", "MIXED", "WIDE"})
+    public String columnMix;
+
+    private RecordType recordType;
+    private GetStatementResultResponse page;
+    private RowMappingPlan mappingPlan;
+
+    @Setup
+    public void setup() throws Exception {
+        ResultPages.ColumnMix mix = ResultPages.ColumnMix.valueOf(columnMix);
+        recordType = ResultPages.recordType(mix);
+        page = ResultPages.page(mix, ROWS_PER_PAGE);
+        mappingPlan = QueryResultProcessor.getMappingPlan(recordType, page);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_PAGE)
+    public void mapRow(Blackhole blackhole) throws Exception {
+        for (List<Field> row : page.records()) {
+            // The records of a stream are created the same way, but from the type of a loaded Ballerina module
+            BMap<BString, Object> record = ValueCreator.createMapValue(recordType);
+            mappingPlan.populate(record, row);
+            blackhole.consume(record);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_PAGE)
+    public long estimateRowSize() {
+        return ResultPageFetcher.estimateSize(page);
+    }
+
+    @Benchmark
+    public RowMappingPlan resolveMappingPlan() throws Exception {
+        return QueryResultProcessor.getMappingPlan(recordType, page);
+    }
+
+    @Benchmark
+    public Object getAnnotationMap() {
+        return QueryResultProcessor.getAnnotationMap(recordType);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code AutoBatchConfig} represents the configurations of the automatic batching of the {@code execute} calls of a
+ * client.
+ *
+ * @param windowMillis The time in milliseconds for which the first call of a batch waits for the other calls.
+ * @param maxBatchSize The maximum number of statements sent in a single batch.
+ */
+public record AutoBatchConfig(long windowMillis, int maxBatchSize) {
+    private static final BString AUTO_BATCH_CONFIG_WINDOW = StringUtils.fromString("window");
+    private static final BString AUTO_BATCH_CONFIG_MAX_BATCH_SIZE = StringUtils.fromString("maxBatchSize");
+
+    public AutoBatchConfig(BMap<BString, Object> bAutoBatchConfig) {
+        this(
+                CommonUtils.toMillis((BDecimal) bAutoBatchConfig.get(AUTO_BATCH_CONFIG_WINDOW)),
+                (int) bAutoBatchConfig.getIntValue(AUTO_BATCH_CONFIG_MAX_BATCH_SIZE)
+        );
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.RedshiftDataClient;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.CancelStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.CancelStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Request;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Response;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@code BlockingDataApiClient} runs the operations of the synchronous {@link RedshiftDataClient} on a worker
+ * executor, so that each in-flight API call occupies one worker thread. The executor is owned by the client and is
+ * shut down when the client is closed.
+ */
+public class BlockingDataApiClient implements DataApiClient {
+    // The maximum time the submitted API calls are waited for when the client is closed
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final RedshiftDataClient nativeClient;
+    private final ExecutorService executorService;
+
+    public BlockingDataApiClient(RedshiftDataClient nativeClient, ExecutorService executorService) {
+        this.nativeClient = nativeClient;
+        this.executorService = executorService;
+        if (executorService instanceof ThreadPoolExecutor threadPoolExecutor) {
+            ConnectorMetrics.executors().add(threadPoolExecutor);
+        }
+    }
+
+    @Override
+    public CompletableFuture<ExecuteStatementResponse> executeStatement(ExecuteStatementRequest request) {
+        return supplyAsync(() -> nativeClient.executeStatement(request));
+    }
+
+    @Override
+    public CompletableFuture<BatchExecuteStatementResponse> batchExecuteStatement(
+            BatchExecuteStatementRequest request) {
+        return supplyAsync(() -> nativeClient.batchExecuteStatement(request));
+    }
+
+    @Override
+    public CompletableFuture<DescribeStatementResponse> describeStatement(DescribeStatementRequest request) {
+        return supplyAsync(() -> nativeClient.describeStatement(request));
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultResponse> getStatementResult(GetStatementResultRequest request) {
+        return supplyAsync(() -> nativeClient.getStatementResult(request));
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultV2Response> getStatementResultV2(GetStatementResultV2Request request) {
+        return supplyAsync(() -> nativeClient.getStatementResultV2(request));
+    }
+
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> apiCall) {
+        QueuedFuture<T> response = new QueuedFuture<>();
+        long submittedTime = System.nanoTime();
+        try {
+            // Completes the same way as CompletableFuture.supplyAsync, while recording the wait for a worker thread
+            executorService.execute(() -> {
+                response.queueWaitNanos = System.nanoTime() - submittedTime;
+                try {
+                    response.complete(apiCall.get());
+                } catch (Throwable throwable) {
+                    response.completeExceptionally(new CompletionException(throwable));
+                }
+            });
+            return response;
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException(
+                    "The worker executor is saturated, the API call was rejected", e));
+        }
+    }
+
+    @Override
+    public CompletableFuture<ListStatementsResponse> listStatements(ListStatementsRequest request) {
+        return supplyAsync(() -> nativeClient.listStatements(request));
+    }
+
+    @Override
+    public CompletableFuture<CancelStatementResponse> cancelStatement(CancelStatementRequest request) {
+        return supplyAsync(() -> nativeClient.cancelStatement(request));
+    }
+
+    /**
+     * The future of an API call run on the worker executor, which records how long the call waited for a worker
+     * thread.
+     *
+     * @param <T> the type of the API response
+     */
+    static final class QueuedFuture<T> extends CompletableFuture<T> {
+        private volatile long queueWaitNanos = -1;
+
+        /**
+         * Returns the time the call waited for a worker thread.
+         *
+         * @return the wait in nanoseconds, or -1 if the call has not started yet
+         */
+        long queueWaitNanos() {
+            return queueWaitNanos;
+        }
+    }
+
+    @Override
+    public void close() {
+        // Already submitted API calls are allowed to complete before the SDK client is closed underneath them
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        } finally {
+            if (executorService instanceof ThreadPoolExecutor threadPoolExecutor) {
+                ConnectorMetrics.executors().remove(threadPoolExecutor);
+            }
+            nativeClient.close();
+        }
+    }
+}
@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static io.ballerina.lib.aws.redshiftdata.CommonUtils.quoteLiteral;
+
+/**
+ * {@code BulkInserter} inserts records into a table with multi-row {@code INSERT} statements.
+ * <p>
+ * The records are encoded into {@code INSERT} statements of at most {@code maxStatementBytes} bytes of SQL text, and
+ * the statements are grouped into chunks of at most {@code statementsPerChunk} statements, each of which is sent as a
+ * single {@code BatchExecuteStatement} request. At most {@code maxInFlight} chunks are run concurrently, and the
+ * completion of each chunk is confirmed with the {@link StatementPoller}. Adding records is held back while chunks
+ * are waiting for a free slot, so that a large stream is not encoded faster than it can be inserted.
+ * </p>
+ * <p>
+ * The table name is validated to be a regular or a quoted identifier, optionally qualified by the schema and the
+ * database, since it is written into the statements as it is. The columns are taken from the fields of the first
+ * record, and are named after the {@code sql:Column} annotations of the fields as in the result streams.
+ * </p>
+ */
+public final class BulkInserter {
+    static final BString BULK_INSERT_CONFIG_MAX_STATEMENT_BYTES = StringUtils.fromString("maxStatementBytes");
+    static final BString BULK_INSERT_CONFIG_STATEMENTS_PER_CHUNK = StringUtils.fromString("statementsPerChunk");
+    static final BString BULK_INSERT_CONFIG_MAX_IN_FLIGHT = StringUtils.fromString("maxInFlight");
+    private static final String STATUS_FINISHED = "FINISHED";
+    private static final String STATUS_FAILED = "FAILED";
+    private static final BString CIVIL_YEAR = StringUtils.fromString("year");
+    private static final BString CIVIL_MONTH = StringUtils.fromString("month");
+    private static final BString CIVIL_DAY = StringUtils.fromString("day");
+    private static final BString CIVIL_HOUR = StringUtils.fromString("hour");
+    private static final BString CIVIL_MINUTE = StringUtils.fromString("minute");
+    private static final BString CIVIL_SECOND = StringUtils.fromString("second");
+    private static final BString CIVIL_UTC_OFFSET = StringUtils.fromString("utcOffset");
+    private static final BString ZONE_OFFSET_HOURS = StringUtils.fromString("hours");
+    private static final BString ZONE_OFFSET_MINUTES = StringUtils.fromString("minutes");
+    // A regular or a quoted identifier, optionally qualified by the schema and the database
+    private static final String IDENTIFIER = "(?:[\\p{L}_][\\p{L}\\p{N}_$]*|\"(?:[^\"]|\"\")+\")";
+    private static final Pattern TABLE_NAME = Pattern.compile(IDENTIFIER + "(?:\\." + IDENTIFIER + "){0,2}");
+
+    private final DataApiClient nativeClient;
+    private final BatchExecuteStatementRequest requestPrototype;
+    private final PollConfig pollConfig;
+    private final String table;
+    private final int maxStatementBytes;
+    private final int statementsPerChunk;
+    private final int maxInFlight;
+    private final long startTime = System.nanoTime();
+
+    // Encoding state, only accessed by the caller of `add` and `finish`
+    private BString[] fieldKeys;
+    private String statementPrefix;
+    private int statementPrefixBytes;
+    private final StringBuilder statement = new StringBuilder();
+    private int statementBytes;
+    private int statementRows;
+    private final List<String> chunkStatements = new ArrayList<>();
+    private int chunkRows;
+    private long chunkBytes;
+
+    // Dispatch state, guarded by this
+    private final Deque<Chunk> queuedChunks = new ArrayDeque<>();
+    private final List<ChunkResult> chunkResults = new ArrayList<>();
+    private int inFlightChunks;
+    private CompletableFuture<Void> dispatched;
+    private CompletableFuture<BulkInsertSummary> completed;
+
+    public BulkInserter(DataApiClient nativeClient, BatchExecuteStatementRequest requestPrototype,
+                        PollConfig pollConfig, String table, BMap<BString, Object> bBulkInsertConfig) {
+        this.nativeClient = nativeClient;
+        this.requestPrototype = requestPrototype;
+        this.pollConfig = pollConfig;
+        if (!TABLE_NAME.matcher(table).matches()) {
+            throw new IllegalArgumentException(String.format("Invalid table name: %s. The table name should be an " +
+                    "identifier, optionally qualified by the schema and the database", table));
+        }
+        this.table = table;
+        this.maxStatementBytes = (int) bBulkInsertConfig.getIntValue(BULK_INSERT_CONFIG_MAX_STATEMENT_BYTES);
+        this.statementsPerChunk = (int) bBulkInsertConfig.getIntValue(BULK_INSERT_CONFIG_STATEMENTS_PER_CHUNK);
+        this.maxInFlight = (int) bBulkInsertConfig.getIntValue(BULK_INSERT_CONFIG_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Encodes the records and dispatches the chunks which are filled up.
+     *
+     * @param bRows the records to be inserted
+     * @return a future which completes once all the filled up chunks have been dispatched
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Void> add(BArray bRows) {
+        try {
+            for (int i = 0; i < bRows.size(); i++) {
+                appendRow((BMap<BString, Object>) bRows.get(i));
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<Void> backPressure;
+        synchronized (this) {
+            backPressure = queuedChunks.isEmpty() ? CompletableFuture.completedFuture(null) : new CompletableFuture<>();
+            if (!backPressure.isDone()) {
+                dispatched = backPressure;
+            }
+        }
+        dispatch();
+        return backPressure;
+    }
+
+    /**
+     * Dispatches the remaining records and waits for all the chunks to complete.
+     *
+     * @return the summary of the bulk insert
+     */
+    public CompletableFuture<BulkInsertSummary> finish() {
+        if (statementRows > 0) {
+            closeStatement();
+        }
+        if (!chunkStatements.isEmpty()) {
+            closeChunk();
+        }
+        CompletableFuture<BulkInsertSummary> summary = new CompletableFuture<>();
+        synchronized (this) {
+            completed = summary;
+        }
+        dispatch();
+        return summary;
+    }
+
+    /**
+     * Drops the records which have not been dispatched yet and waits for the dispatched chunks to complete, since
+     * these are committed regardless.
+     *
+     * @return the summary of the dispatched chunks
+     */
+    public CompletableFuture<BulkInsertSummary> abort() {
+        statement.setLength(0);
+        statementRows = 0;
+        statementBytes = 0;
+        chunkStatements.clear();
+        chunkRows = 0;
+        chunkBytes = 0;
+        CompletableFuture<BulkInsertSummary> summary = new CompletableFuture<>();
+        synchronized (this) {
+            // The chunks are dispatched in order, hence the queued chunks hold the last results
+            chunkResults.subList(chunkResults.size() - queuedChunks.size(), chunkResults.size()).clear();
+            queuedChunks.clear();
+            completed = summary;
+        }
+        dispatch();
+        return summary;
+    }
+
+    private void appendRow(BMap<BString, Object> bRow) {
+        if (Objects.isNull(fieldKeys)) {
+            initColumns(bRow);
+        }
+        StringBuilder tuple = new StringBuilder("(");
+        for (int i = 0; i < fieldKeys.length; i++) {
+            if (i > 0) {
+                tuple.append(", ");
+            }
+            tuple.append(encodeValue(bRow.get(fieldKeys[i])));
+        }
+        tuple.append(')');
+        int tupleBytes = getUtf8Length(tuple);
+        if (statementRows > 0 && statementBytes + 2 + tupleBytes > maxStatementBytes) {
+            closeStatement();
+        }
+        if (statementRows == 0) {
+            if (statementPrefixBytes + tupleBytes > maxStatementBytes) {
+                throw new IllegalArgumentException(String.format("A record requires an INSERT statement of %d " +
+                        "bytes, which exceeds the maxStatementBytes of %d", statementPrefixBytes + tupleBytes,
+                        maxStatementBytes));
+            }
+            statement.append(statementPrefix);
+            statementBytes = statementPrefixBytes;
+        } else {
+            statement.append(", ");
+            statementBytes += 2;
+        }
+        statement.append(tuple);
+        statementBytes += tupleBytes;
+        statementRows++;
+    }
+
+    private void initColumns(BMap<BString, Object> bRow) {
+        RecordType recordType = (RecordType) TypeUtils.getImpliedType(bRow.getType());
+        List<String> fieldNames = new ArrayList<>(recordType.getFields().keySet());
+        if (fieldNames.isEmpty()) {
+            // An open record without declared fields, hence the fields of the first record are used
+            for (BString key : bRow.getKeys()) {
+                fieldNames.add(key.getValue());
+            }
+        }
+        if (fieldNames.isEmpty()) {
+            throw new IllegalArgumentException("The records to be inserted should have at least one field");
+        }
+        Map<String, String> annotationMap = QueryResultProcessor.getAnnotationMap(recordType);
+        String columns = fieldNames.stream()
+                .map(fieldName -> quoteIdentifier(annotationMap.getOrDefault(fieldName, fieldName.toLowerCase())))
+                .collect(Collectors.joining(", "));
+        fieldKeys = fieldNames.stream().map(StringUtils::fromString).toArray(BString[]::new);
+        statementPrefix = "INSERT INTO " + table + " (" + columns + ") VALUES ";
+        statementPrefixBytes = getUtf8Length(statementPrefix);
+    }
+
+    private void closeStatement() {
+        chunkStatements.add(statement.toString());
+        chunkRows += statementRows;
+        chunkBytes += statementBytes;
+        statement.setLength(0);
+        statementRows = 0;
+        statementBytes = 0;
+        if (chunkStatements.size() >= statementsPerChunk) {
+            closeChunk();
+        }
+    }
+
+    private void closeChunk() {
+        List<String> statements = List.copyOf(chunkStatements);
+        synchronized (this) {
+            queuedChunks.add(new Chunk(chunkResults.size(), statements, chunkRows, chunkBytes));
+            chunkResults.add(null);
+        }
+        chunkStatements.clear();
+        chunkRows = 0;
+        chunkBytes = 0;
+    }
+
+    private void dispatch() {
+        List<Chunk> startableChunks = new ArrayList<>();
+        CompletableFuture<Void> dispatchedChunks = null;
+        CompletableFuture<BulkInsertSummary> completedChunks = null;
+        BulkInsertSummary summary = null;
+        synchronized (this) {
+            while (inFlightChunks < maxInFlight && !queuedChunks.isEmpty()) {
+                startableChunks.add(queuedChunks.poll());
+                inFlightChunks++;
+            }
+            if (queuedChunks.isEmpty() && Objects.nonNull(dispatched)) {
+                dispatchedChunks = dispatched;
+                dispatched = null;
+            }
+            if (queuedChunks.isEmpty() && inFlightChunks == 0 && Objects.nonNull(completed)) {
+                completedChunks = completed;
+                completed = null;
+                summary = getSummary();
+            }
+        }
+        // The chunks are started and the futures are completed outside the lock, since the callbacks may run inline
+        startableChunks.forEach(this::start);
+        if (Objects.nonNull(dispatchedChunks)) {
+            dispatchedChunks.complete(null);
+        }
+        if (Objects.nonNull(completedChunks)) {
+            completedChunks.complete(summary);
+        }
+    }
+
+    private void start(Chunk chunk) {
+        long chunkStartTime = System.nanoTime();
+        AtomicReference<String> statementId = new AtomicReference<>();
+        CompletableFuture.completedFuture(chunk)
+                .thenCompose(startedChunk -> nativeClient.batchExecuteStatement(
+                        requestPrototype.toBuilder().sqls(startedChunk.statements()).build()))
+                .thenCompose(response -> {
+                    statementId.set(response.id());
+                    return StatementPoller.awaitCompletion(nativeClient, response.id(), null, pollConfig);
+                })
+                .whenComplete((description, throwable) -> {
+                    long durationNanos = System.nanoTime() - chunkStartTime;
+                    ChunkResult result;
+                    if (Objects.nonNull(throwable)) {
+                        Throwable cause = CommonUtils.unwrapCompletionException(throwable);
+                        result = new ChunkResult(chunk, statementId.get(), STATUS_FAILED,
+                                Objects.requireNonNullElse(cause.getMessage(), "Unknown error"), durationNanos);
+                    } else {
+                        result = new ChunkResult(chunk, description.id(), description.statusAsString(),
+                                description.error(), durationNanos);
+                    }
+                    synchronized (this) {
+                        chunkResults.set(chunk.index(), result);
+                        inFlightChunks--;
+                    }
+                    dispatch();
+                });
+    }
+
+    private BulkInsertSummary getSummary() {
+        long insertedRows = 0;
+        long failedRows = 0;
+        long bytes = 0;
+        for (ChunkResult chunkResult : chunkResults) {
+            if (STATUS_FINISHED.equals(chunkResult.status())) {
+                insertedRows += chunkResult.chunk().rows();
+            } else {
+                failedRows += chunkResult.chunk().rows();
+            }
+            bytes += chunkResult.chunk().bytes();
+        }
+        return new BulkInsertSummary(insertedRows, failedRows, bytes, System.nanoTime() - startTime,
+                List.copyOf(chunkResults));
+    }
+
+    static String encodeValue(Object value) {
+        if (Objects.isNull(value)) {
+            return "NULL";
+        }
+        if (value instanceof BString stringValue) {
+            return quoteLiteral(stringValue.getValue());
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            return value.toString();
+        }
+        if (value instanceof Double doubleValue) {
+            return Double.isFinite(doubleValue) ? doubleValue.toString() : quoteLiteral(doubleValue.toString());
+        }
+        if (value instanceof BDecimal decimalValue) {
+            return decimalValue.decimalValue().toPlainString();
+        }
+        if (value instanceof Boolean booleanValue) {
+            return booleanValue ? "TRUE" : "FALSE";
+        }
+        if (value instanceof BArray arrayValue) {
+            if (arrayValue.getElementType().getTag() == TypeTags.BYTE_TAG) {
+                return "FROM_HEX('" + HexFormat.of().formatHex(arrayValue.getBytes()) + "')";
+            }
+            if (isUtc(arrayValue)) {
+                BigDecimal fraction = ((BDecimal) arrayValue.get(1)).decimalValue();
+                return quoteLiteral(Instant.ofEpochSecond(arrayValue.getInt(0),
+                        fraction.movePointRight(9).longValue()).toString());
+            }
+        }
+        if (value instanceof BMap<?, ?> mapValue && isCivil(mapValue)) {
+            return quoteLiteral(getCivilString(mapValue));
+        }
+        return quoteLiteral(StringUtils.getJsonString(value));
+    }
+
+    private static boolean isUtc(BArray arrayValue) {
+        return TypeUtils.getImpliedType(arrayValue.getType()).getTag() == TypeTags.TUPLE_TAG &&
+                arrayValue.size() == 2 && arrayValue.get(0) instanceof Long && arrayValue.get(1) instanceof BDecimal;
+    }
+
+    private static boolean isCivil(BMap<?, ?> mapValue) {
+        return mapValue.containsKey(CIVIL_YEAR) && mapValue.containsKey(CIVIL_MONTH) &&
+                mapValue.containsKey(CIVIL_DAY) && mapValue.containsKey(CIVIL_HOUR) &&
+                mapValue.containsKey(CIVIL_MINUTE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String getCivilString(BMap<?, ?> mapValue) {
+        BMap<BString, Object> civil = (BMap<BString, Object>) mapValue;
+        BigDecimal second = civil.containsKey(CIVIL_SECOND) ?
+                ((BDecimal) civil.get(CIVIL_SECOND)).decimalValue() : BigDecimal.ZERO;
+        BigDecimal fraction = second.remainder(BigDecimal.ONE);
+        StringBuilder civilString = new StringBuilder(String.format("%04d-%02d-%02d %02d:%02d:%02d",
+                civil.getIntValue(CIVIL_YEAR), civil.getIntValue(CIVIL_MONTH), civil.getIntValue(CIVIL_DAY),
+                civil.getIntValue(CIVIL_HOUR), civil.getIntValue(CIVIL_MINUTE), second.intValue()));
+        if (fraction.signum() > 0) {
+            civilString.append(fraction.stripTrailingZeros().toPlainString().substring(1));
+        }
+        if (civil.containsKey(CIVIL_UTC_OFFSET)) {
+            BMap<BString, Object> utcOffset = (BMap<BString, Object>) civil.getMapValue(CIVIL_UTC_OFFSET);
+            long hours = utcOffset.getIntValue(ZONE_OFFSET_HOURS);
+            long minutes = utcOffset.getIntValue(ZONE_OFFSET_MINUTES);
+            civilString.append(String.format("%s%02d:%02d", hours < 0 || minutes < 0 ? "-" : "+",
+                    Math.abs(hours), Math.abs(minutes)));
+        }
+        return civilString.toString();
+    }
+
+    private static String quoteIdentifier(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    private static int getUtf8Length(CharSequence text) {
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (character < 0x80) {
+                length++;
+            } else if (character < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(character)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * A group of {@code INSERT} statements sent as a single {@code BatchExecuteStatement} request.
+     *
+     * @param index      the position of the chunk in the order of the records
+     * @param statements the {@code INSERT} statements
+     * @param rows       the number of records inserted by the statements
+     * @param bytes      the number of bytes of the SQL text of the statements
+     */
+    record Chunk(int index, List<String> statements, int rows, long bytes) {
+    }
+
+    /**
+     * The outcome of a chunk of a bulk insert.
+     *
+     * @param chunk         the chunk
+     * @param statementId   the ID of the batch statement, or {@code null} if the chunk could not be submitted
+     * @param status        the final status of the batch statement
+     * @param error         the error of the chunk, or {@code null} if the chunk succeeded
+     * @param durationNanos the time taken by the chunk in nanoseconds
+     */
+    record ChunkResult(Chunk chunk, String statementId, String status, String error, long durationNanos) {
+    }
+
+    /**
+     * The summary of a bulk insert.
+     *
+     * @param insertedRows  the number of rows of the finished chunks
+     * @param failedRows    the number of rows of the failed or aborted chunks
+     * @param bytes         the total number of bytes of the SQL text sent
+     * @param durationNanos the time taken by the bulk insert in nanoseconds
+     * @param chunks        the outcome of each chunk in the order of the records
+     */
+    record BulkInsertSummary(long insertedRows, long failedRows, long bytes, long durationNanos,
+                             List<ChunkResult> chunks) {
+    }
+}
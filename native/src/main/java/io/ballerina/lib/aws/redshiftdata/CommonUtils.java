@@ -22,8 +22,10 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
@@ -40,7 +42,11 @@ import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRespon
 import software.amazon.awssdk.services.redshiftdata.model.SubStatementData;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 
 import static io.ballerina.lib.aws.redshiftdata.Cluster.CLUSTER_ID;
 import static io.ballerina.lib.aws.redshiftdata.ConnectionConfig.CONNECTION_CONFIG_DB_ACCESS_CONFIG;
@@ -53,6 +59,7 @@ import static io.ballerina.lib.aws.redshiftdata.WorkGroup.WORK_GROUP_NAME;
 public final class CommonUtils {
     // Constants related to `Error`
     private static final String ERROR = "Error";
+    private static final String STATEMENT_CANCELLED_ERROR = "StatementCancelledError";
     private static final String ERROR_DETAILS = "ErrorDetails";
     private static final BString ERROR_DETAILS_HTTP_STATUS_CODE = StringUtils.fromString("httpStatusCode");
     private static final BString ERROR_DETAILS_HTTP_STATUS_TEXT = StringUtils.fromString("httpStatusText");
@@ -79,10 +86,34 @@ public final class CommonUtils {
     private static final BString STATEMENT_DATA_STATUS = StringUtils.fromString("status");
     private static final BString STATEMENT_DATA_UPDATED_AT = StringUtils.fromString("updatedAt");
 
+    // Constants related to `ExportResponse`
+    private static final String EXPORT_RES_RECORD = "ExportResponse";
+    private static final BString EXPORT_RES_ROWS = StringUtils.fromString("rows");
+    private static final BString EXPORT_RES_BYTES = StringUtils.fromString("bytes");
+
+    // Constants related to `BulkInsertResponse`
+    private static final String BULK_INSERT_RES_RECORD = "BulkInsertResponse";
+    private static final BString BULK_INSERT_RES_INSERTED_ROWS = StringUtils.fromString("insertedRows");
+    private static final BString BULK_INSERT_RES_FAILED_ROWS = StringUtils.fromString("failedRows");
+    private static final BString BULK_INSERT_RES_BYTES = StringUtils.fromString("bytes");
+    private static final BString BULK_INSERT_RES_DURATION = StringUtils.fromString("duration");
+    private static final BString BULK_INSERT_RES_ROWS_PER_SECOND = StringUtils.fromString("rowsPerSecond");
+    private static final BString BULK_INSERT_RES_CHUNKS = StringUtils.fromString("chunks");
+
+    // Constants related to `BulkInsertChunk`
+    private static final String BULK_INSERT_CHUNK_RECORD = "BulkInsertChunk";
+    private static final BString BULK_INSERT_CHUNK_ROWS = StringUtils.fromString("rows");
+    private static final BString BULK_INSERT_CHUNK_BYTES = StringUtils.fromString("bytes");
+    private static final BString BULK_INSERT_CHUNK_STATEMENT_ID = StringUtils.fromString("statementId");
+    private static final BString BULK_INSERT_CHUNK_STATUS = StringUtils.fromString("status");
+    private static final BString BULK_INSERT_CHUNK_ERROR = StringUtils.fromString("error");
+    private static final BString BULK_INSERT_CHUNK_DURATION = StringUtils.fromString("duration");
+
     // Constants related to `ExecutionConfig`
     private static final BString EXECUTE_STATEMENT_CONFIG_CLIENT_TOKEN = StringUtils.fromString("clientToken");
     private static final BString EXECUTE_STATEMENT_CONFIG_STATEMENT_NAME = StringUtils.fromString("statementName");
     private static final BString EXECUTE_STATEMENT_CONFIG_WITH_EVENT = StringUtils.fromString("withEvent");
+    private static final BString EXECUTE_STATEMENT_CONFIG_RESULT_FORMAT = StringUtils.fromString("resultFormat");
 
     // Constants related to `ExecutionResponse`
     private static final String EXECUTE_STATEMENT_RES_RECORD = "ExecutionResponse";
@@ -110,8 +141,25 @@ public final class CommonUtils {
             errorDetails.put(ERROR_DETAILS_ERROR_CODE, StringUtils.fromString(awsErrorDetails.errorCode()));
             errorDetails.put(ERROR_DETAILS_ERROR_MESSAGE, StringUtils.fromString(awsErrorDetails.errorMessage()));
         }
+        String errorType = exception instanceof StatementCanceller.CancelledException ?
+                STATEMENT_CANCELLED_ERROR : ERROR;
         return ErrorCreator.createError(
-                ModuleUtils.getModule(), ERROR, StringUtils.fromString(message), cause, errorDetails);
+                ModuleUtils.getModule(), errorType, StringUtils.fromString(message), cause, errorDetails);
+    }
+
+    /**
+     * Retrieves the actual failure from the wrapper exceptions used by {@code CompletableFuture}.
+     *
+     * @param throwable the exception with which a {@code CompletableFuture} completed
+     * @return the underlying cause, or the provided exception if it is not a wrapper
+     */
+    public static Throwable unwrapCompletionException(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) &&
+                Objects.nonNull(cause.getCause())) {
+            cause = cause.getCause();
+        }
+        return cause;
     }
 
     @SuppressWarnings("unchecked")
@@ -162,6 +210,9 @@ public final class CommonUtils {
         if (bConfig.containsKey(EXECUTE_STATEMENT_CONFIG_WITH_EVENT)) {
             builder.withEvent(bConfig.getBooleanValue(EXECUTE_STATEMENT_CONFIG_WITH_EVENT));
         }
+        if (bConfig.containsKey(EXECUTE_STATEMENT_CONFIG_RESULT_FORMAT)) {
+            builder.resultFormat(bConfig.getStringValue(EXECUTE_STATEMENT_CONFIG_RESULT_FORMAT).getValue());
+        }
         return builder.build();
     }
 
@@ -183,16 +234,20 @@ public final class CommonUtils {
         return response;
     }
 
-    @SuppressWarnings("unchecked")
     public static BatchExecuteStatementRequest getNativeBatchExecuteRequest(
             BArray bSqlStatements, BMap<BString, Object> bConfig, Object initLevelDbAccessConfig) throws Exception {
-        BatchExecuteStatementRequest.Builder builder = BatchExecuteStatementRequest.builder();
-
         // Set the SQL statements
         String[] sqlStatements = new String[bSqlStatements.size()];
         for (int i = 0; i < bSqlStatements.size(); i++) {
             sqlStatements[i] = new ParameterizedQuery((BObject) bSqlStatements.get(i)).getPreparedQuery();
         }
+        return getNativeBatchExecuteRequest(sqlStatements, bConfig, initLevelDbAccessConfig);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static BatchExecuteStatementRequest getNativeBatchExecuteRequest(
+            String[] sqlStatements, BMap<BString, Object> bConfig, Object initLevelDbAccessConfig) throws Exception {
+        BatchExecuteStatementRequest.Builder builder = BatchExecuteStatementRequest.builder();
         builder.sqls(sqlStatements);
 
         // If a `dbAccessConfig` is provided in the ExecutionConfig , it will override the init level dbAccessConfig.
@@ -231,6 +286,9 @@ public final class CommonUtils {
         if (bConfig.containsKey(EXECUTE_STATEMENT_CONFIG_WITH_EVENT)) {
             builder.withEvent(bConfig.getBooleanValue(EXECUTE_STATEMENT_CONFIG_WITH_EVENT));
         }
+        if (bConfig.containsKey(EXECUTE_STATEMENT_CONFIG_RESULT_FORMAT)) {
+            builder.resultFormat(bConfig.getStringValue(EXECUTE_STATEMENT_CONFIG_RESULT_FORMAT).getValue());
+        }
         return builder.build();
     }
 
@@ -317,6 +375,27 @@ public final class CommonUtils {
         return response;
     }
 
+    /**
+     * Creates a {@code (DescriptionResponse|Error)[]} with an element per result.
+     *
+     * @param results     the description of a completed statement or the cause of a failure, per element
+     * @param errorMapper the function which creates the error of a failure
+     * @return the array of the descriptions and the errors
+     */
+    public static BArray getDescriptionResponses(Object[] results, Function<Throwable, BError> errorMapper) {
+        Type descriptionType = ValueCreator.createRecordValue(ModuleUtils.getModule(), DESCRIPTION_RES_RECORD)
+                .getType();
+        Type errorType = ErrorCreator.createError(ModuleUtils.getModule(), ERROR, StringUtils.fromString(""), null,
+                ValueCreator.createRecordValue(ModuleUtils.getModule(), ERROR_DETAILS)).getType();
+        BArray responses = ValueCreator.createArrayValue(
+                TypeCreator.createArrayType(TypeCreator.createUnionType(descriptionType, errorType)));
+        for (Object result : results) {
+            responses.append(result instanceof DescribeStatementResponse description ?
+                    getDescriptionResponse(description) : errorMapper.apply((Throwable) result));
+        }
+        return responses;
+    }
+
     private static BMap<BString, Object> getSubStatementData(SubStatementData subStatementData) {
         BMap<BString, Object> record = ValueCreator.createRecordValue(
                 ModuleUtils.getModule(), STATEMENT_DATA_RECORD);
@@ -340,6 +419,56 @@ public final class CommonUtils {
         return record;
     }
 
+    public static BMap<BString, Object> getExportResponse(ResultExporter.ExportSummary exportSummary) {
+        BMap<BString, Object> response = ValueCreator.createRecordValue(ModuleUtils.getModule(), EXPORT_RES_RECORD);
+        response.put(EXPORT_RES_ROWS, exportSummary.rows());
+        response.put(EXPORT_RES_BYTES, exportSummary.bytes());
+        return response;
+    }
+
+    public static BMap<BString, Object> getBulkInsertResponse(BulkInserter.BulkInsertSummary summary) {
+        BMap<BString, Object> response = ValueCreator.createRecordValue(
+                ModuleUtils.getModule(), BULK_INSERT_RES_RECORD);
+        ArrayType chunkArrayType = TypeCreator.createArrayType(ValueCreator.createRecordValue(
+                ModuleUtils.getModule(), BULK_INSERT_CHUNK_RECORD).getType());
+        BArray chunks = ValueCreator.createArrayValue(chunkArrayType);
+        for (BulkInserter.ChunkResult chunkResult : summary.chunks()) {
+            BMap<BString, Object> chunk = ValueCreator.createRecordValue(
+                    ModuleUtils.getModule(), BULK_INSERT_CHUNK_RECORD);
+            chunk.put(BULK_INSERT_CHUNK_ROWS, (long) chunkResult.chunk().rows());
+            chunk.put(BULK_INSERT_CHUNK_BYTES, chunkResult.chunk().bytes());
+            if (Objects.nonNull(chunkResult.statementId())) {
+                chunk.put(BULK_INSERT_CHUNK_STATEMENT_ID, StringUtils.fromString(chunkResult.statementId()));
+            }
+            chunk.put(BULK_INSERT_CHUNK_STATUS, StringUtils.fromString(chunkResult.status()));
+            if (Objects.nonNull(chunkResult.error())) {
+                chunk.put(BULK_INSERT_CHUNK_ERROR, StringUtils.fromString(chunkResult.error()));
+            }
+            chunk.put(BULK_INSERT_CHUNK_DURATION,
+                    ValueCreator.createDecimalValue(convertNanosToSeconds(chunkResult.durationNanos())));
+            chunks.append(chunk);
+        }
+        BigDecimal duration = convertNanosToSeconds(summary.durationNanos());
+        response.put(BULK_INSERT_RES_INSERTED_ROWS, summary.insertedRows());
+        response.put(BULK_INSERT_RES_FAILED_ROWS, summary.failedRows());
+        response.put(BULK_INSERT_RES_BYTES, summary.bytes());
+        response.put(BULK_INSERT_RES_DURATION, ValueCreator.createDecimalValue(duration));
+        response.put(BULK_INSERT_RES_ROWS_PER_SECOND, ValueCreator.createDecimalValue(duration.signum() > 0 ?
+                BigDecimal.valueOf(summary.insertedRows()).divide(duration, 2, RoundingMode.HALF_UP) :
+                BigDecimal.ZERO));
+        response.put(BULK_INSERT_RES_CHUNKS, chunks);
+        return response;
+    }
+
+    public static String quoteLiteral(String value) {
+        // Redshift treats the backslash as an escape character in string literals
+        return "'" + value.replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+
+    public static long toMillis(BDecimal seconds) {
+        return seconds.decimalValue().movePointRight(3).longValue();
+    }
+
     private static BigDecimal convertNanosToSeconds(long nanos) {
         return BigDecimal.valueOf(nanos).divide(BigDecimal.valueOf(1_000_000_000));
     }
@@ -23,6 +23,9 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import software.amazon.awssdk.regions.Region;
 
+import java.net.URI;
+import java.util.Objects;
+
 import static io.ballerina.lib.aws.redshiftdata.Cluster.CLUSTER_ID;
 import static io.ballerina.lib.aws.redshiftdata.StaticAuthConfig.AWS_ACCESS_KEY_ID;
 
@@ -34,17 +37,70 @@ import static io.ballerina.lib.aws.redshiftdata.StaticAuthConfig.AWS_ACCESS_KEY_
  * @param authConfig     The authentication configuration required for the
  *                       Redshift Data API Client.
  * @param dbAccessConfig The database access configurations for the Redshift Data API.
+ * @param nonBlocking    Whether the non-blocking AWS SDK client should be used for the API calls.
+ * @param executorConfig The configurations of the worker executor used for the blocking API calls.
+ * @param httpClientConfig The configurations of the HTTP client and its connection pool.
+ * @param prefetchConfig The read-ahead configurations of the result streams, or {@code null} if disabled.
+ * @param resultPageCacheConfig The configurations of the result page cache, or {@code null} if disabled.
+ * @param queryResultCacheConfig The configurations of the query result cache, or {@code null} if disabled.
+ * @param autoBatchConfig The configurations of the automatic batching of the execute calls, or {@code null} if
+ *                        disabled.
+ * @param sessionPoolConfig The configurations of the session pool, or {@code null} if disabled.
+ * @param slowStatementLogConfig The configurations of the slow statement log, or {@code null} if disabled.
+ * @param endpoint       The endpoint which overrides the regional endpoint of the Redshift Data API, or
+ *                       {@code null} if not overridden.
  */
-public record ConnectionConfig(Region region, Object authConfig, Object dbAccessConfig) {
+public record ConnectionConfig(Region region, Object authConfig, Object dbAccessConfig, boolean nonBlocking,
+                               ExecutorConfig executorConfig, HttpClientConfig httpClientConfig,
+                               PrefetchConfig prefetchConfig, ResultPageCacheConfig resultPageCacheConfig,
+                               QueryResultCacheConfig queryResultCacheConfig, AutoBatchConfig autoBatchConfig,
+                               SessionPoolConfig sessionPoolConfig, SlowStatementLogConfig slowStatementLogConfig,
+                               URI endpoint) {
     static final BString CONNECTION_CONFIG_DB_ACCESS_CONFIG = StringUtils.fromString("dbAccessConfig");
     private static final BString CONNECTION_CONFIG_REGION = StringUtils.fromString("region");
     private static final BString CONNECTION_CONFIG_AUTH_CONFIG = StringUtils.fromString("auth");
+    private static final BString CONNECTION_CONFIG_ENDPOINT = StringUtils.fromString("endpoint");
+    private static final BString CONNECTION_CONFIG_IO_MODE = StringUtils.fromString("ioMode");
+    private static final String IO_MODE_NON_BLOCKING = "NON_BLOCKING";
+    private static final BString CONNECTION_CONFIG_EXECUTOR_CONFIG = StringUtils.fromString("executorConfig");
+    private static final BString CONNECTION_CONFIG_HTTP_CLIENT_CONFIG = StringUtils.fromString("httpClientConfig");
+    private static final BString CONNECTION_CONFIG_PREFETCH_CONFIG = StringUtils.fromString("prefetchConfig");
+    private static final BString CONNECTION_CONFIG_RESULT_PAGE_CACHE = StringUtils.fromString("resultPageCache");
+    private static final BString CONNECTION_CONFIG_QUERY_RESULT_CACHE = StringUtils.fromString("queryResultCache");
+    private static final BString CONNECTION_CONFIG_AUTO_BATCH = StringUtils.fromString("autoBatch");
+    private static final BString CONNECTION_CONFIG_SESSION_POOL = StringUtils.fromString("sessionPool");
+    private static final BString CONNECTION_CONFIG_SLOW_STATEMENT_LOG = StringUtils.fromString("slowStatementLog");
 
+    @SuppressWarnings("unchecked")
     public ConnectionConfig(BMap<BString, Object> bConnectionConfig) {
         this(
                 getRegion(bConnectionConfig),
                 getAuthConfig(bConnectionConfig),
-                getDbAccessConfig(bConnectionConfig)
+                getDbAccessConfig(bConnectionConfig),
+                isNonBlocking(bConnectionConfig),
+                new ExecutorConfig((BMap<BString, Object>) bConnectionConfig
+                        .getMapValue(CONNECTION_CONFIG_EXECUTOR_CONFIG)),
+                new HttpClientConfig((BMap<BString, Object>) bConnectionConfig
+                        .getMapValue(CONNECTION_CONFIG_HTTP_CLIENT_CONFIG)),
+                bConnectionConfig.containsKey(CONNECTION_CONFIG_PREFETCH_CONFIG) ?
+                        new PrefetchConfig((BMap<BString, Object>) bConnectionConfig
+                                .getMapValue(CONNECTION_CONFIG_PREFETCH_CONFIG)) : null,
+                bConnectionConfig.containsKey(CONNECTION_CONFIG_RESULT_PAGE_CACHE) ?
+                        new ResultPageCacheConfig((BMap<BString, Object>) bConnectionConfig
+                                .getMapValue(CONNECTION_CONFIG_RESULT_PAGE_CACHE)) : null,
+                bConnectionConfig.containsKey(CONNECTION_CONFIG_QUERY_RESULT_CACHE) ?
+                        new QueryResultCacheConfig((BMap<BString, Object>) bConnectionConfig
+                                .getMapValue(CONNECTION_CONFIG_QUERY_RESULT_CACHE)) : null,
+                bConnectionConfig.containsKey(CONNECTION_CONFIG_AUTO_BATCH) ?
+                        new AutoBatchConfig((BMap<BString, Object>) bConnectionConfig
+                                .getMapValue(CONNECTION_CONFIG_AUTO_BATCH)) : null,
+                bConnectionConfig.containsKey(CONNECTION_CONFIG_SESSION_POOL) ?
+                        new SessionPoolConfig((BMap<BString, Object>) bConnectionConfig
+                                .getMapValue(CONNECTION_CONFIG_SESSION_POOL)) : null,
+                bConnectionConfig.containsKey(CONNECTION_CONFIG_SLOW_STATEMENT_LOG) ?
+                        new SlowStatementLogConfig((BMap<BString, Object>) bConnectionConfig
+                                .getMapValue(CONNECTION_CONFIG_SLOW_STATEMENT_LOG)) : null,
+                getEndpoint(bConnectionConfig)
         );
     }
 
@@ -52,6 +108,17 @@ public record ConnectionConfig(Region region, Object authConfig, Object dbAccess
         return Region.of(bConnectionConfig.getStringValue(CONNECTION_CONFIG_REGION).getValue());
     }
 
+    private static URI getEndpoint(BMap<BString, Object> bConnectionConfig) {
+        if (!bConnectionConfig.containsKey(CONNECTION_CONFIG_ENDPOINT)) {
+            return null;
+        }
+        URI endpoint = URI.create(bConnectionConfig.getStringValue(CONNECTION_CONFIG_ENDPOINT).getValue());
+        if (Objects.isNull(endpoint.getScheme()) || Objects.isNull(endpoint.getHost())) {
+            throw new IllegalArgumentException("The endpoint should be an absolute URL with a host: " + endpoint);
+        }
+        return endpoint;
+    }
+
     @SuppressWarnings("unchecked")
     private static Object getAuthConfig(BMap<BString, Object> bConnectionConfig) {
         BMap<BString, Object> bAuthConfig = (BMap<BString, Object>) bConnectionConfig
@@ -74,4 +141,9 @@ public record ConnectionConfig(Region region, Object authConfig, Object dbAccess
         }
         return null;
     }
+
+    private static boolean isNonBlocking(BMap<BString, Object> bConnectionConfig) {
+        return bConnectionConfig.containsKey(CONNECTION_CONFIG_IO_MODE) && IO_MODE_NON_BLOCKING.equals(
+                bConnectionConfig.getStringValue(CONNECTION_CONFIG_IO_MODE).getValue());
+    }
 }
@@ -0,0 +1,421 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * {@code ConnectorMetrics} holds the process-wide metrics of the connector, i.e. the call counts, in-flight calls and
+ * latency histograms of each Redshift Data API operation, the queue depth and the active threads of the worker
+ * executors, and the pages, rows and bytes read by the result streams along with the per-stream throughput.
+ * <p>
+ * The metrics are updated with {@link LongAdder}s and lock-free {@link Histogram}s, so that they can be left on in
+ * production. They are exposed as MXBeans under the {@value #JMX_DOMAIN} domain, and as polled gauges of the
+ * Ballerina observability metrics when the metrics are enabled. Both are read only when they are scraped.
+ * </p>
+ */
+public final class ConnectorMetrics {
+    static final String EXECUTE_STATEMENT = "executeStatement";
+    static final String BATCH_EXECUTE_STATEMENT = "batchExecuteStatement";
+    static final String DESCRIBE_STATEMENT = "describeStatement";
+    static final String GET_STATEMENT_RESULT = "getStatementResult";
+    static final String GET_STATEMENT_RESULT_V2 = "getStatementResultV2";
+    static final String LIST_STATEMENTS = "listStatements";
+    static final String CANCEL_STATEMENT = "cancelStatement";
+    private static final String JMX_DOMAIN = "io.ballerina.lib.aws.redshiftdata";
+    private static final String METRIC_PREFIX = "redshiftdata_";
+    private static final String OPERATION_TAG = "operation";
+
+    private static final Map<String, OperationMetrics> OPERATIONS = Map.of(
+            EXECUTE_STATEMENT, new OperationMetrics(),
+            BATCH_EXECUTE_STATEMENT, new OperationMetrics(),
+            DESCRIBE_STATEMENT, new OperationMetrics(),
+            GET_STATEMENT_RESULT, new OperationMetrics(),
+            GET_STATEMENT_RESULT_V2, new OperationMetrics(),
+            LIST_STATEMENTS, new OperationMetrics(),
+            CANCEL_STATEMENT, new OperationMetrics());
+    private static final StreamMetrics STREAMS = new StreamMetrics();
+    private static final ExecutorMetrics EXECUTORS = new ExecutorMetrics();
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean(false);
+
+    private ConnectorMetrics() {
+    }
+
+    static OperationMetrics operation(String operation) {
+        return OPERATIONS.get(operation);
+    }
+
+    static StreamMetrics streams() {
+        return STREAMS;
+    }
+
+    static ExecutorMetrics executors() {
+        return EXECUTORS;
+    }
+
+    /**
+     * Publishes the metrics through JMX and the Ballerina observability metrics. The metrics are published once per
+     * process, when the first client or listener is initialized, so that the observability metric provider of the
+     * program has been set up by then. A failure to publish the metrics never fails the initialization.
+     */
+    static void register() {
+        if (!REGISTERED.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            registerMXBeans();
+        } catch (Exception | LinkageError e) {
+            // The metrics are still collected, and the other exporter may still publish them
+        }
+        try {
+            if (ObserveUtils.isMetricsEnabled()) {
+                registerGauges();
+            }
+        } catch (Exception | LinkageError e) {
+            // Same as above
+        }
+    }
+
+    private static void registerMXBeans() throws Exception {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        for (Map.Entry<String, OperationMetrics> entry : OPERATIONS.entrySet()) {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=Operation,name=" + entry.getKey());
+            if (!mBeanServer.isRegistered(name)) {
+                mBeanServer.registerMBean(entry.getValue(), name);
+            }
+        }
+        ObjectName streamsName = new ObjectName(JMX_DOMAIN + ":type=Streams");
+        if (!mBeanServer.isRegistered(streamsName)) {
+            mBeanServer.registerMBean(STREAMS, streamsName);
+        }
+        ObjectName executorsName = new ObjectName(JMX_DOMAIN + ":type=Executors");
+        if (!mBeanServer.isRegistered(executorsName)) {
+            mBeanServer.registerMBean(EXECUTORS, executorsName);
+        }
+    }
+
+    private static void registerGauges() {
+        for (Map.Entry<String, OperationMetrics> entry : OPERATIONS.entrySet()) {
+            String operation = entry.getKey();
+            OperationMetrics metrics = entry.getValue();
+            registerGauge("operation_calls_total", "Number of completed API calls", operation, metrics,
+                    OperationMetricsMXBean::getCalls);
+            registerGauge("operation_errors_total", "Number of failed API calls", operation, metrics,
+                    OperationMetricsMXBean::getErrors);
+            registerGauge("operation_in_flight", "Number of in-flight API calls", operation, metrics,
+                    OperationMetricsMXBean::getInFlight);
+            registerGauge("operation_latency_mean_ms", "Mean latency of the API calls", operation, metrics,
+                    OperationMetricsMXBean::getMeanLatencyMillis);
+            registerGauge("operation_latency_p50_ms", "Median latency of the API calls", operation, metrics,
+                    OperationMetricsMXBean::getP50LatencyMillis);
+            registerGauge("operation_latency_p99_ms", "99th percentile latency of the API calls", operation,
+                    metrics, OperationMetricsMXBean::getP99LatencyMillis);
+            registerGauge("operation_latency_max_ms", "Maximum latency of the API calls", operation, metrics,
+                    OperationMetricsMXBean::getMaxLatencyMillis);
+        }
+        registerGauge("stream_pages_total", "Number of result pages read by the streams", null, STREAMS,
+                StreamMetricsMXBean::getPages);
+        registerGauge("stream_rows_total", "Number of rows read by the streams", null, STREAMS,
+                StreamMetricsMXBean::getRows);
+        registerGauge("stream_bytes_total", "Estimated number of bytes read by the streams", null, STREAMS,
+                StreamMetricsMXBean::getBytes);
+        registerGauge("stream_open", "Number of open result streams", null, STREAMS,
+                StreamMetricsMXBean::getOpenStreams);
+        registerGauge("stream_rows_per_second_p50", "Median rows per second of the closed streams", null, STREAMS,
+                StreamMetricsMXBean::getP50RowsPerSecond);
+        registerGauge("stream_bytes_per_second_p50", "Median bytes per second of the closed streams", null,
+                STREAMS, StreamMetricsMXBean::getP50BytesPerSecond);
+        registerGauge("executor_queue_depth", "Number of API calls waiting for a worker thread", null, EXECUTORS,
+                ExecutorMetricsMXBean::getQueueDepth);
+        registerGauge("executor_active_threads", "Number of worker threads running an API call", null, EXECUTORS,
+                ExecutorMetricsMXBean::getActiveThreads);
+        registerGauge("executor_pool_size", "Number of worker threads", null, EXECUTORS,
+                ExecutorMetricsMXBean::getPoolSize);
+    }
+
+    private static <T> void registerGauge(String name, String description, String operation, T metrics,
+                                          ToDoubleFunction<T> valueFunction) {
+        PolledGauge.Builder<T> builder = PolledGauge.builder(METRIC_PREFIX + name, metrics, valueFunction)
+                .description(description);
+        if (Objects.nonNull(operation)) {
+            builder.tag(OPERATION_TAG, operation);
+        }
+        builder.register();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * The JMX view of the metrics of a Redshift Data API operation.
+     */
+    public interface OperationMetricsMXBean {
+        long getCalls();
+
+        long getErrors();
+
+        long getInFlight();
+
+        double getMeanLatencyMillis();
+
+        double getP50LatencyMillis();
+
+        double getP90LatencyMillis();
+
+        double getP99LatencyMillis();
+
+        double getMaxLatencyMillis();
+    }
+
+    /**
+     * The metrics of a Redshift Data API operation. The latencies are recorded in nanoseconds.
+     */
+    static final class OperationMetrics implements OperationMetricsMXBean {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder inFlight = new LongAdder();
+        private final Histogram latency = new Histogram();
+
+        /**
+         * Records the start of an API call.
+         *
+         * @return the start time of the call, which should be passed to {@link #end(long, Throwable)}
+         */
+        long start() {
+            inFlight.increment();
+            return System.nanoTime();
+        }
+
+        void end(long startTime, Throwable throwable) {
+            latency.record(System.nanoTime() - startTime);
+            inFlight.decrement();
+            calls.increment();
+            if (Objects.nonNull(throwable)) {
+                errors.increment();
+            }
+        }
+
+        @Override
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        @Override
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        @Override
+        public long getInFlight() {
+            return inFlight.sum();
+        }
+
+        @Override
+        public double getMeanLatencyMillis() {
+            return latency.mean() / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        @Override
+        public double getP50LatencyMillis() {
+            return toMillis(latency.percentile(50));
+        }
+
+        @Override
+        public double getP90LatencyMillis() {
+            return toMillis(latency.percentile(90));
+        }
+
+        @Override
+        public double getP99LatencyMillis() {
+            return toMillis(latency.percentile(99));
+        }
+
+        @Override
+        public double getMaxLatencyMillis() {
+            return toMillis(latency.max());
+        }
+    }
+
+    /**
+     * The JMX view of the metrics of the result streams.
+     */
+    public interface StreamMetricsMXBean {
+        long getPages();
+
+        long getRows();
+
+        long getBytes();
+
+        long getOpenStreams();
+
+        long getClosedStreams();
+
+        long getP50RowsPerSecond();
+
+        long getP90RowsPerSecond();
+
+        long getP50BytesPerSecond();
+
+        long getP90BytesPerSecond();
+    }
+
+    /**
+     * The metrics of the result streams. The throughput of a stream is recorded when it is closed, and the streams
+     * which are closed before reading any row are not included in the throughput histograms.
+     */
+    static final class StreamMetrics implements StreamMetricsMXBean {
+        private final LongAdder pages = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder openStreams = new LongAdder();
+        private final LongAdder closedStreams = new LongAdder();
+        private final Histogram rowsPerSecond = new Histogram();
+        private final Histogram bytesPerSecond = new Histogram();
+
+        void opened() {
+            openStreams.increment();
+        }
+
+        void pageRead(long pageRows, long pageBytes) {
+            pages.increment();
+            rows.add(pageRows);
+            bytes.add(pageBytes);
+        }
+
+        void closed(long streamRows, long streamBytes, long durationNanos) {
+            openStreams.decrement();
+            closedStreams.increment();
+            if (streamRows > 0 && durationNanos > 0) {
+                double seconds = durationNanos / (double) TimeUnit.SECONDS.toNanos(1);
+                rowsPerSecond.record((long) (streamRows / seconds));
+                bytesPerSecond.record((long) (streamBytes / seconds));
+            }
+        }
+
+        @Override
+        public long getPages() {
+            return pages.sum();
+        }
+
+        @Override
+        public long getRows() {
+            return rows.sum();
+        }
+
+        @Override
+        public long getBytes() {
+            return bytes.sum();
+        }
+
+        @Override
+        public long getOpenStreams() {
+            return openStreams.sum();
+        }
+
+        @Override
+        public long getClosedStreams() {
+            return closedStreams.sum();
+        }
+
+        @Override
+        public long getP50RowsPerSecond() {
+            return rowsPerSecond.percentile(50);
+        }
+
+        @Override
+        public long getP90RowsPerSecond() {
+            return rowsPerSecond.percentile(90);
+        }
+
+        @Override
+        public long getP50BytesPerSecond() {
+            return bytesPerSecond.percentile(50);
+        }
+
+        @Override
+        public long getP90BytesPerSecond() {
+            return bytesPerSecond.percentile(90);
+        }
+    }
+
+    /**
+     * The JMX view of the worker executors of the clients in the {@code BLOCKING} I/O mode.
+     */
+    public interface ExecutorMetricsMXBean {
+        int getExecutors();
+
+        long getQueueDepth();
+
+        long getActiveThreads();
+
+        long getPoolSize();
+    }
+
+    /**
+     * The gauges of the thread pool executors of the blocking clients, which are summed across the executors. The
+     * virtual thread executors are not included, since they neither queue API calls nor pool threads, and their
+     * in-flight calls are reported by the operation metrics.
+     */
+    static final class ExecutorMetrics implements ExecutorMetricsMXBean {
+        private final Set<ThreadPoolExecutor> executors = ConcurrentHashMap.newKeySet();
+
+        void add(ThreadPoolExecutor executor) {
+            executors.add(executor);
+        }
+
+        void remove(ThreadPoolExecutor executor) {
+            executors.remove(executor);
+        }
+
+        @Override
+        public int getExecutors() {
+            return executors.size();
+        }
+
+        @Override
+        public long getQueueDepth() {
+            return executors.stream().mapToLong(executor -> executor.getQueue().size()).sum();
+        }
+
+        @Override
+        public long getActiveThreads() {
+            return executors.stream().mapToLong(ThreadPoolExecutor::getActiveCount).sum();
+        }
+
+        @Override
+        public long getPoolSize() {
+            return executors.stream().mapToLong(ThreadPoolExecutor::getPoolSize).sum();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import java.util.Objects;
+
+/**
+ * {@code CsvRecordReader} decodes the CSV records returned by {@code GetStatementResultV2} one record at a time, so
+ * that the fields of a record are only materialized when the record is mapped.
+ * <p>
+ * The records follow RFC 4180. An unquoted empty field is a SQL {@code NULL}, whereas a quoted empty field is an
+ * empty string.
+ * </p>
+ */
+public final class CsvRecordReader {
+    private final String text;
+    private final int columnCount;
+    private int position = 0;
+
+    public CsvRecordReader(String text, int columnCount) {
+        this.text = text;
+        this.columnCount = columnCount;
+    }
+
+    /**
+     * Counts the records of the CSV text without decoding their fields.
+     *
+     * @param text the CSV text
+     * @return the number of records
+     */
+    public static int countRecords(String text) {
+        int records = 0;
+        boolean quoted = false;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                // An escaped quote toggles the state twice
+                quoted = !quoted;
+            } else if (!quoted && (c == '\n' || (c == '\r' && (i + 1 == length || text.charAt(i + 1) != '\n')))) {
+                records++;
+            }
+        }
+        char last = length > 0 ? text.charAt(length - 1) : '\n';
+        return last == '\n' || last == '\r' ? records : records + 1;
+    }
+
+    public boolean hasNext() {
+        return position < text.length();
+    }
+
+    /**
+     * Decodes the next record.
+     *
+     * @return the fields of the record, where {@code null} represents a SQL {@code NULL}
+     */
+    public String[] next() {
+        String[] fields = new String[columnCount];
+        int column = 0;
+        int length = text.length();
+        while (true) {
+            String field = readField();
+            if (column == columnCount) {
+                throw new IllegalStateException(String.format(
+                        "The CSV record has more fields than the %d columns of the result", columnCount));
+            }
+            fields[column++] = field;
+            if (position >= length) {
+                break;
+            }
+            char c = text.charAt(position);
+            if (c == ',') {
+                position++;
+                continue;
+            }
+            if (c != '\n' && c != '\r') {
+                throw new IllegalStateException(String.format(
+                        "Unexpected character '%c' after a quoted field of the CSV record", c));
+            }
+            position += c == '\r' && position + 1 < length && text.charAt(position + 1) == '\n' ? 2 : 1;
+            break;
+        }
+        if (column != columnCount) {
+            throw new IllegalStateException(String.format(
+                    "The CSV record has %d fields while the result has %d columns", column, columnCount));
+        }
+        return fields;
+    }
+
+    private String readField() {
+        int length = text.length();
+        if (position < length && text.charAt(position) == '"') {
+            return readQuotedField();
+        }
+        int start = position;
+        while (position < length) {
+            char c = text.charAt(position);
+            if (c == ',' || c == '\n' || c == '\r') {
+                break;
+            }
+            position++;
+        }
+        return position == start ? null : text.substring(start, position);
+    }
+
+    private String readQuotedField() {
+        int length = text.length();
+        // Skip the opening quote
+        int start = ++position;
+        StringBuilder value = null;
+        while (true) {
+            int quote = text.indexOf('"', position);
+            if (quote < 0) {
+                throw new IllegalStateException("The CSV record has an unterminated quoted field");
+            }
+            if (quote + 1 < length && text.charAt(quote + 1) == '"') {
+                // An escaped quote, which is kept once
+                if (Objects.isNull(value)) {
+                    value = new StringBuilder();
+                }
+                value.append(text, start, quote + 1);
+                position = quote + 2;
+                start = position;
+                continue;
+            }
+            position = quote + 1;
+            return Objects.isNull(value) ? text.substring(start, quote) :
+                    value.append(text, start, quote).toString();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Response;
+import software.amazon.awssdk.services.redshiftdata.model.QueryRecords;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@code CsvResultPage} is a result page of a statement run with the {@code CSV} result format. The CSV text of the
+ * page is kept as returned by {@code GetStatementResultV2}, and its records are decoded as the rows are consumed.
+ * <p>
+ * The first page starts with a header record of the column names, which is skipped.
+ * </p>
+ */
+public final class CsvResultPage {
+    private final List<ColumnMetadata> columnMetadata;
+    private final List<String> csvRecords;
+    private final String nextToken;
+    private final int rowCount;
+    private final long bytes;
+    private int chunkIndex = -1;
+    private CsvRecordReader reader;
+    private String[] pendingRow;
+
+    /**
+     * Creates a result page.
+     *
+     * @param page           the response of {@code GetStatementResultV2}
+     * @param columnMetadata the metadata of the result columns, which is returned with the first page
+     * @param firstPage      whether the page is the first page of the result
+     */
+    public CsvResultPage(GetStatementResultV2Response page, List<ColumnMetadata> columnMetadata, boolean firstPage) {
+        this.columnMetadata = columnMetadata;
+        this.csvRecords = page.records().stream().map(QueryRecords::csvRecords).filter(Objects::nonNull).toList();
+        this.nextToken = page.nextToken();
+        int records = 0;
+        long chars = 0;
+        for (String csv : csvRecords) {
+            records += CsvRecordReader.countRecords(csv);
+            chars += csv.length();
+        }
+        this.bytes = 2 * chars;
+        if (firstPage && hasRecord()) {
+            String[] firstRow = reader.next();
+            if (isHeader(firstRow)) {
+                records--;
+            } else {
+                pendingRow = firstRow;
+            }
+        }
+        this.rowCount = records;
+    }
+
+    public List<ColumnMetadata> columnMetadata() {
+        return columnMetadata;
+    }
+
+    public String nextToken() {
+        return nextToken;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the heap footprint of the CSV text of the page.
+     *
+     * @return the size of the page in bytes
+     */
+    public long bytes() {
+        return bytes;
+    }
+
+    /**
+     * Decodes the next row of the page. The rows are read in order, and each row is read once.
+     *
+     * @return the fields of the row, or {@code null} if the page is fully consumed
+     */
+    public String[] nextRow() {
+        if (Objects.nonNull(pendingRow)) {
+            String[] row = pendingRow;
+            pendingRow = null;
+            return row;
+        }
+        return hasRecord() ? reader.next() : null;
+    }
+
+    // Advances to the next chunk of CSV records when the current chunk is consumed
+    private boolean hasRecord() {
+        while (Objects.isNull(reader) || !reader.hasNext()) {
+            if (chunkIndex + 1 >= csvRecords.size()) {
+                return false;
+            }
+            chunkIndex++;
+            reader = new CsvRecordReader(csvRecords.get(chunkIndex), columnMetadata.size());
+        }
+        return true;
+    }
+
+    private boolean isHeader(String[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (!columnMetadata.get(i).name().equals(row[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
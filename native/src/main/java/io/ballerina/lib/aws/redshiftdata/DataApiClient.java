@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.CancelStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.CancelStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Request;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Response;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code DataApiClient} is the common view of the Redshift Data API operations used by the connector, regardless
+ * of whether the underlying AWS SDK client is blocking or non-blocking.
+ * <p>
+ * Every operation returns a {@link CompletableFuture} so that the Ballerina {@code Future} can be completed
+ * straight from the SDK response. Callbacks registered on the returned futures must not block, since they may run
+ * on the HTTP client's I/O threads.
+ * </p>
+ */
+public interface DataApiClient {
+
+    CompletableFuture<ExecuteStatementResponse> executeStatement(ExecuteStatementRequest request);
+
+    CompletableFuture<BatchExecuteStatementResponse> batchExecuteStatement(BatchExecuteStatementRequest request);
+
+    CompletableFuture<DescribeStatementResponse> describeStatement(DescribeStatementRequest request);
+
+    CompletableFuture<GetStatementResultResponse> getStatementResult(GetStatementResultRequest request);
+
+    CompletableFuture<GetStatementResultV2Response> getStatementResultV2(GetStatementResultV2Request request);
+
+    CompletableFuture<ListStatementsResponse> listStatements(ListStatementsRequest request);
+
+    CompletableFuture<CancelStatementResponse> cancelStatement(CancelStatementRequest request);
+
+    void close();
+}
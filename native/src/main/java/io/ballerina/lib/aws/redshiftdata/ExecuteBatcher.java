@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.SqlParameter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ExecuteBatcher} coalesces the concurrent {@code execute} calls of a client into
+ * {@code BatchExecuteStatement} requests.
+ * <p>
+ * The calls which share the same database access configurations are collected for the batching window, starting
+ * from the first call of the batch, or until the maximum batch size is reached. A batch of a single call is sent as
+ * the original {@code ExecuteStatement} request, while a larger batch is sent as a single
+ * {@code BatchExecuteStatement} request with the parameter values inlined as escaped literals, and each call receives
+ * the ID of its own sub-statement ({@code <batchId>:<n>}). Calls with a client token, a statement name or an event are
+ * never batched since these apply to a single statement.
+ * </p>
+ */
+public final class ExecuteBatcher {
+    // Only schedules the flushes, the batch requests themselves are dispatched by the Data API client
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread batcherThread = new Thread(runnable);
+        batcherThread.setName("balx-awsredshiftdata-execute-batcher-thread");
+        batcherThread.setDaemon(true);
+        return batcherThread;
+    });
+
+    private final DataApiClient nativeClient;
+    private final AutoBatchConfig autoBatchConfig;
+    // Guarded by itself, keyed by the execute request without the SQL statement and its parameters
+    private final Map<ExecuteStatementRequest, PendingBatch> pendingBatches = new HashMap<>();
+
+    public ExecuteBatcher(DataApiClient nativeClient, AutoBatchConfig autoBatchConfig) {
+        this.nativeClient = nativeClient;
+        this.autoBatchConfig = autoBatchConfig;
+    }
+
+    /**
+     * Adds the statement to the pending batch of its database access configurations.
+     *
+     * @param request     the execute request of the statement
+     * @param preparedSql the SQL statement with the parameter values inlined as escaped literals, used if the
+     *                    statement is batched
+     * @return the response of the statement
+     */
+    public CompletableFuture<ExecuteStatementResponse> execute(ExecuteStatementRequest request, String preparedSql) {
+        if (Objects.nonNull(request.clientToken()) || Objects.nonNull(request.statementName())
+                || Objects.nonNull(request.withEvent())) {
+            return nativeClient.executeStatement(request);
+        }
+        ExecuteStatementRequest batchKey = request.toBuilder()
+                .sql(null)
+                .parameters((Collection<SqlParameter>) null)
+                .build();
+        PendingStatement statement = new PendingStatement(request, preparedSql, new CompletableFuture<>());
+        PendingBatch fullBatch = null;
+        synchronized (pendingBatches) {
+            PendingBatch batch = pendingBatches.get(batchKey);
+            if (Objects.isNull(batch)) {
+                batch = new PendingBatch(autoBatchConfig.maxBatchSize());
+                pendingBatches.put(batchKey, batch);
+                PendingBatch scheduledBatch = batch;
+                SCHEDULER.schedule(() -> flush(batchKey, scheduledBatch), autoBatchConfig.windowMillis(),
+                        TimeUnit.MILLISECONDS);
+            }
+            batch.statements.add(statement);
+            if (batch.statements.size() >= autoBatchConfig.maxBatchSize()) {
+                pendingBatches.remove(batchKey);
+                fullBatch = batch;
+            }
+        }
+        if (Objects.nonNull(fullBatch)) {
+            send(batchKey, fullBatch);
+        }
+        return statement.response();
+    }
+
+    /**
+     * Sends all the pending batches without waiting for their batching windows to elapse.
+     *
+     * @return a future which completes once the responses of all the flushed statements are received
+     */
+    public CompletableFuture<Void> flushAll() {
+        Map<ExecuteStatementRequest, PendingBatch> batches;
+        synchronized (pendingBatches) {
+            batches = new HashMap<>(pendingBatches);
+            pendingBatches.clear();
+        }
+        batches.forEach(this::send);
+        return CompletableFuture.allOf(batches.values().stream()
+                .flatMap(batch -> batch.statements.stream())
+                .map(PendingStatement::response)
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private void flush(ExecuteStatementRequest batchKey, PendingBatch batch) {
+        synchronized (pendingBatches) {
+            // The batch has already been sent if it was filled up or flushed before its window elapsed
+            if (pendingBatches.get(batchKey) != batch) {
+                return;
+            }
+            pendingBatches.remove(batchKey);
+        }
+        send(batchKey, batch);
+    }
+
+    private void send(ExecuteStatementRequest batchKey, PendingBatch batch) {
+        List<PendingStatement> statements = batch.statements;
+        if (statements.size() == 1) {
+            PendingStatement statement = statements.get(0);
+            forward(nativeClient.executeStatement(statement.request()), statement.response());
+            return;
+        }
+        BatchExecuteStatementRequest batchRequest;
+        try {
+            batchRequest = BatchExecuteStatementRequest.builder()
+                    .sqls(statements.stream().map(PendingStatement::preparedSql).toList())
+                    .clusterIdentifier(batchKey.clusterIdentifier())
+                    .workgroupName(batchKey.workgroupName())
+                    .database(batchKey.database())
+                    .dbUser(batchKey.dbUser())
+                    .secretArn(batchKey.secretArn())
+                    .sessionId(batchKey.sessionId())
+                    .sessionKeepAliveSeconds(batchKey.sessionKeepAliveSeconds())
+                    .resultFormat(batchKey.resultFormat())
+                    .build();
+        } catch (RuntimeException e) {
+            statements.forEach(statement -> statement.response().completeExceptionally(e));
+            return;
+        }
+        nativeClient.batchExecuteStatement(batchRequest).whenComplete((batchResponse, throwable) -> {
+            for (int i = 0; i < statements.size(); i++) {
+                CompletableFuture<ExecuteStatementResponse> response = statements.get(i).response();
+                if (Objects.nonNull(throwable)) {
+                    response.completeExceptionally(throwable);
+                } else {
+                    // The sub-statements of a batch are numbered from 1
+                    response.complete(getSubStatementResponse(batchResponse, i + 1));
+                }
+            }
+        });
+    }
+
+    private static ExecuteStatementResponse getSubStatementResponse(BatchExecuteStatementResponse batchResponse,
+                                                                    int subStatementNumber) {
+        ExecuteStatementResponse.Builder builder = ExecuteStatementResponse.builder()
+                .id(batchResponse.id() + ":" + subStatementNumber)
+                .createdAt(batchResponse.createdAt())
+                .clusterIdentifier(batchResponse.clusterIdentifier())
+                .workgroupName(batchResponse.workgroupName())
+                .database(batchResponse.database())
+                .dbUser(batchResponse.dbUser())
+                .secretArn(batchResponse.secretArn())
+                .sessionId(batchResponse.sessionId());
+        if (batchResponse.hasDbGroups()) {
+            builder.dbGroups(batchResponse.dbGroups());
+        }
+        return builder.build();
+    }
+
+    private static <T> void forward(CompletableFuture<T> source, CompletableFuture<T> target) {
+        source.whenComplete((value, throwable) -> {
+            if (Objects.nonNull(throwable)) {
+                target.completeExceptionally(throwable);
+            } else {
+                target.complete(value);
+            }
+        });
+    }
+
+    private record PendingStatement(ExecuteStatementRequest request, String preparedSql,
+                                    CompletableFuture<ExecuteStatementResponse> response) {
+    }
+
+    private static final class PendingBatch {
+        private final List<PendingStatement> statements;
+
+        private PendingBatch(int maxBatchSize) {
+            this.statements = new ArrayList<>(maxBatchSize);
+        }
+    }
+}
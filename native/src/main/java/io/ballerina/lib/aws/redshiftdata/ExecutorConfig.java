@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ExecutorConfig} represents the configurations of the worker executor which runs the blocking
+ * Redshift Data API calls of a client.
+ *
+ * @param virtualThreads  Whether a virtual-thread-per-task executor should be used instead of a thread pool.
+ * @param maxThreads      The maximum number of platform threads in the thread pool.
+ * @param queueCapacity   The maximum number of API calls which can wait for a free thread in the thread pool.
+ * @param keepAliveMillis The time in milliseconds for which an idle thread is kept alive in the thread pool.
+ * @param callerRuns      Whether a rejected API call should be run on the calling thread instead of failing.
+ */
+public record ExecutorConfig(boolean virtualThreads, int maxThreads, int queueCapacity, long keepAliveMillis,
+                             boolean callerRuns) {
+    private static final BString EXECUTOR_CONFIG_STRATEGY = StringUtils.fromString("strategy");
+    private static final BString EXECUTOR_CONFIG_MAX_THREADS = StringUtils.fromString("maxThreads");
+    private static final BString EXECUTOR_CONFIG_QUEUE_CAPACITY = StringUtils.fromString("queueCapacity");
+    private static final BString EXECUTOR_CONFIG_KEEP_ALIVE_TIME = StringUtils.fromString("keepAliveTime");
+    private static final BString EXECUTOR_CONFIG_REJECTION_POLICY = StringUtils.fromString("rejectionPolicy");
+    private static final String STRATEGY_VIRTUAL_THREADS = "VIRTUAL_THREADS";
+    private static final String REJECTION_POLICY_CALLER_RUNS = "CALLER_RUNS";
+
+    public ExecutorConfig(BMap<BString, Object> bExecutorConfig) {
+        this(
+                STRATEGY_VIRTUAL_THREADS.equals(
+                        bExecutorConfig.getStringValue(EXECUTOR_CONFIG_STRATEGY).getValue()),
+                bExecutorConfig.getIntValue(EXECUTOR_CONFIG_MAX_THREADS).intValue(),
+                bExecutorConfig.getIntValue(EXECUTOR_CONFIG_QUEUE_CAPACITY).intValue(),
+                CommonUtils.toMillis((BDecimal) bExecutorConfig.get(EXECUTOR_CONFIG_KEEP_ALIVE_TIME)),
+                REJECTION_POLICY_CALLER_RUNS.equals(
+                        bExecutorConfig.getStringValue(EXECUTOR_CONFIG_REJECTION_POLICY).getValue())
+        );
+    }
+
+    /**
+     * Creates a new executor according to the configured strategy.
+     *
+     * @return the executor which should be used to run the blocking API calls of a single client
+     * @throws Exception if virtual threads are requested on a Java runtime which does not support them
+     */
+    public ExecutorService createExecutorService() throws Exception {
+        if (virtualThreads) {
+            return newVirtualThreadPerTaskExecutor();
+        }
+        BlockingQueue<Runnable> workQueue = queueCapacity == 0 ?
+                new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueCapacity);
+        RejectedExecutionHandler rejectionHandler = callerRuns ?
+                new ThreadPoolExecutor.CallerRunsPolicy() : new ThreadPoolExecutor.AbortPolicy();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, keepAliveMillis,
+                TimeUnit.MILLISECONDS, workQueue, new RedshiftDataThreadFactory(), rejectionHandler);
+        // Let the idle threads expire so that the pool shrinks back after a burst of API calls
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        // The connector is compiled against Java 17, hence the Java 21 API is looked up at runtime
+        Method factoryMethod;
+        try {
+            factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            throw new Exception("Virtual threads are not supported in Java " +
+                    Runtime.version().feature() + ", use Java 21 or later");
+        }
+        return (ExecutorService) factoryMethod.invoke(null);
+    }
+}
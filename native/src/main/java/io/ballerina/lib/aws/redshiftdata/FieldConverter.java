@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.Field;
+
+import java.util.Objects;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * {@code FieldConverter} converts a result {@link Field} to the Ballerina value of a record field.
+ */
+@FunctionalInterface
+public interface FieldConverter {
+
+    /**
+     * Converts the field to a Ballerina value based on the populated value of the field.
+     */
+    FieldConverter DEFAULT = field -> {
+        if (Objects.nonNull(field.stringValue())) {
+            return fromString(field.stringValue());
+        }
+        if (Objects.nonNull(field.booleanValue())) {
+            return field.booleanValue();
+        }
+        if (Objects.nonNull(field.longValue())) {
+            return field.longValue();
+        }
+        if (Objects.nonNull(field.doubleValue())) {
+            return field.doubleValue();
+        }
+        return null;
+    };
+
+    Object convert(Field field) throws Exception;
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.stdlib.time.nativeimpl.Civil;
+import io.ballerina.stdlib.time.nativeimpl.Utc;
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * {@code FieldConverters} selects the {@link FieldConverter} of a result column once, based on the column metadata
+ * and the type of the target Ballerina record field, so that the values are built directly in the target type
+ * without being parsed again in Ballerina.
+ */
+public final class FieldConverters {
+    private static final String TIME_MODULE_ORG = "ballerina";
+    private static final String TIME_MODULE_NAME = "time";
+    private static final String TIME_UTC_TYPE = "Utc";
+    private static final String TIME_CIVIL_TYPE = "Civil";
+
+    // Redshift type names of the date and time columns
+    private static final String DATE_TYPE = "date";
+    private static final String TIMESTAMP_TYPE = "timestamp";
+    private static final String TIMESTAMPTZ_TYPE = "timestamptz";
+    // Redshift type names of the columns returned as long, double and boolean values in the JSON result format
+    private static final List<String> LONG_TYPES = List.of("int2", "int4", "int8");
+    private static final List<String> DOUBLE_TYPES = List.of("float4", "float8");
+    private static final String BOOLEAN_TYPE = "bool";
+
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .appendLiteral(' ')
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .toFormatter(Locale.ROOT);
+    private static final DateTimeFormatter TIMESTAMPTZ_FORMATTER = new DateTimeFormatterBuilder()
+            .append(TIMESTAMP_FORMATTER)
+            .appendOffset("+HH:mm", "Z")
+            .toFormatter(Locale.ROOT);
+
+    private static final FieldConverter STRING_CONVERTER = field -> {
+        if (Boolean.TRUE.equals(field.isNull())) {
+            return null;
+        }
+        if (Objects.nonNull(field.stringValue())) {
+            return fromString(field.stringValue());
+        }
+        return fromString(String.valueOf(FieldConverter.DEFAULT.convert(field)));
+    };
+
+    private static final FieldConverter INT_CONVERTER = field -> {
+        if (Boolean.TRUE.equals(field.isNull())) {
+            return null;
+        }
+        if (Objects.nonNull(field.longValue())) {
+            return field.longValue();
+        }
+        if (Objects.nonNull(field.stringValue())) {
+            String value = field.stringValue();
+            return value.indexOf('.') < 0 ? Long.parseLong(value) : new BigDecimal(value).longValueExact();
+        }
+        if (Objects.nonNull(field.doubleValue())) {
+            return BigDecimal.valueOf(field.doubleValue()).longValueExact();
+        }
+        return FieldConverter.DEFAULT.convert(field);
+    };
+
+    private static final FieldConverter FLOAT_CONVERTER = field -> {
+        if (Boolean.TRUE.equals(field.isNull())) {
+            return null;
+        }
+        if (Objects.nonNull(field.doubleValue())) {
+            return field.doubleValue();
+        }
+        if (Objects.nonNull(field.longValue())) {
+            return field.longValue().doubleValue();
+        }
+        if (Objects.nonNull(field.stringValue())) {
+            return Double.parseDouble(field.stringValue());
+        }
+        return FieldConverter.DEFAULT.convert(field);
+    };
+
+    private static final FieldConverter DECIMAL_CONVERTER = field -> {
+        if (Boolean.TRUE.equals(field.isNull())) {
+            return null;
+        }
+        if (Objects.nonNull(field.stringValue())) {
+            return ValueCreator.createDecimalValue(new BigDecimal(field.stringValue()));
+        }
+        if (Objects.nonNull(field.longValue())) {
+            return ValueCreator.createDecimalValue(BigDecimal.valueOf(field.longValue()));
+        }
+        if (Objects.nonNull(field.doubleValue())) {
+            return ValueCreator.createDecimalValue(BigDecimal.valueOf(field.doubleValue()));
+        }
+        return FieldConverter.DEFAULT.convert(field);
+    };
+
+    private static final FieldConverter BOOLEAN_CONVERTER = field -> {
+        if (Boolean.TRUE.equals(field.isNull())) {
+            return null;
+        }
+        if (Objects.nonNull(field.booleanValue())) {
+            return field.booleanValue();
+        }
+        if (Objects.nonNull(field.stringValue())) {
+            String value = field.stringValue();
+            return "t".equalsIgnoreCase(value) || "true".equalsIgnoreCase(value);
+        }
+        if (Objects.nonNull(field.longValue())) {
+            return field.longValue() != 0;
+        }
+        return FieldConverter.DEFAULT.convert(field);
+    };
+
+    private static final FieldConverter NULL_AWARE_DEFAULT_CONVERTER = field -> {
+        if (Boolean.TRUE.equals(field.isNull())) {
+            return null;
+        }
+        return FieldConverter.DEFAULT.convert(field);
+    };
+
+    private static final TextConverter TEXT_STRING_CONVERTER = value -> Objects.isNull(value) ? null :
+            fromString(value);
+
+    private static final TextConverter TEXT_INT_CONVERTER = value -> {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        return value.indexOf('.') < 0 ? Long.parseLong(value) : new BigDecimal(value).longValueExact();
+    };
+
+    private static final TextConverter TEXT_FLOAT_CONVERTER = value -> Objects.isNull(value) ? null :
+            Double.parseDouble(value);
+
+    private static final TextConverter TEXT_DECIMAL_CONVERTER = value -> Objects.isNull(value) ? null :
+            ValueCreator.createDecimalValue(new BigDecimal(value));
+
+    private static final TextConverter TEXT_BOOLEAN_CONVERTER = value -> Objects.isNull(value) ? null :
+            "t".equalsIgnoreCase(value) || "true".equalsIgnoreCase(value);
+
+    private FieldConverters() {
+    }
+
+    /**
+     * Selects the converter of a result column.
+     *
+     * @param column     the metadata of the result column
+     * @param targetType the type of the target record field, or {@code null} if the column is mapped to a rest field
+     * @return the converter of the column values
+     */
+    public static FieldConverter getConverter(ColumnMetadata column, Type targetType) {
+        if (Objects.isNull(targetType)) {
+            return NULL_AWARE_DEFAULT_CONVERTER;
+        }
+        Type effectiveType = getNonNilType(targetType);
+        if (isTimeType(effectiveType, TIME_UTC_TYPE)) {
+            String typeName = getTypeName(column);
+            return field -> Boolean.TRUE.equals(field.isNull()) ? null :
+                    new Utc(toInstant(typeName, field.stringValue())).build();
+        }
+        if (isTimeType(effectiveType, TIME_CIVIL_TYPE)) {
+            String typeName = getTypeName(column);
+            return field -> Boolean.TRUE.equals(field.isNull()) ? null :
+                    new Civil(toZonedDateTime(typeName, field.stringValue())).build();
+        }
+        return switch (TypeUtils.getReferredType(effectiveType).getTag()) {
+            case TypeTags.STRING_TAG -> STRING_CONVERTER;
+            case TypeTags.INT_TAG -> INT_CONVERTER;
+            case TypeTags.FLOAT_TAG -> FLOAT_CONVERTER;
+            case TypeTags.DECIMAL_TAG -> DECIMAL_CONVERTER;
+            case TypeTags.BOOLEAN_TAG -> BOOLEAN_CONVERTER;
+            default -> NULL_AWARE_DEFAULT_CONVERTER;
+        };
+    }
+
+    /**
+     * Selects the converter of a result column read in the CSV result format.
+     *
+     * @param column     the metadata of the result column
+     * @param targetType the type of the target record field, or {@code null} if the column is mapped to a rest field
+     * @return the converter of the column values
+     */
+    public static TextConverter getTextConverter(ColumnMetadata column, Type targetType) {
+        if (Objects.isNull(targetType)) {
+            return getColumnTextConverter(column);
+        }
+        Type effectiveType = getNonNilType(targetType);
+        if (isTimeType(effectiveType, TIME_UTC_TYPE)) {
+            String typeName = getTypeName(column);
+            return value -> Objects.isNull(value) ? null : new Utc(toInstant(typeName, value)).build();
+        }
+        if (isTimeType(effectiveType, TIME_CIVIL_TYPE)) {
+            String typeName = getTypeName(column);
+            return value -> Objects.isNull(value) ? null : new Civil(toZonedDateTime(typeName, value)).build();
+        }
+        return switch (TypeUtils.getReferredType(effectiveType).getTag()) {
+            case TypeTags.STRING_TAG -> TEXT_STRING_CONVERTER;
+            case TypeTags.INT_TAG -> TEXT_INT_CONVERTER;
+            case TypeTags.FLOAT_TAG -> TEXT_FLOAT_CONVERTER;
+            case TypeTags.DECIMAL_TAG -> TEXT_DECIMAL_CONVERTER;
+            case TypeTags.BOOLEAN_TAG -> TEXT_BOOLEAN_CONVERTER;
+            default -> getColumnTextConverter(column);
+        };
+    }
+
+    // The values of the untyped fields are built based on the column type, as they are in the JSON result format
+    private static TextConverter getColumnTextConverter(ColumnMetadata column) {
+        String typeName = Objects.requireNonNullElse(column.typeName(), "").toLowerCase(Locale.ROOT);
+        if (LONG_TYPES.contains(typeName)) {
+            return TEXT_INT_CONVERTER;
+        }
+        if (DOUBLE_TYPES.contains(typeName)) {
+            return TEXT_FLOAT_CONVERTER;
+        }
+        return BOOLEAN_TYPE.equals(typeName) ? TEXT_BOOLEAN_CONVERTER : TEXT_STRING_CONVERTER;
+    }
+
+    // Resolves `T?` to `T`, so that the converter is selected based on the non-nil member
+    private static Type getNonNilType(Type type) {
+        Type referredType = TypeUtils.getReferredType(type);
+        if (referredType instanceof UnionType unionType) {
+            List<Type> nonNilMembers = unionType.getMemberTypes().stream()
+                    .filter(member -> TypeUtils.getReferredType(member).getTag() != TypeTags.NULL_TAG)
+                    .toList();
+            if (nonNilMembers.size() == 1) {
+                return nonNilMembers.get(0);
+            }
+        }
+        return type;
+    }
+
+    private static boolean isTimeType(Type type, String typeName) {
+        Module module = type.getPackage();
+        return typeName.equals(type.getName()) && Objects.nonNull(module) &&
+                TIME_MODULE_ORG.equals(module.getOrg()) && TIME_MODULE_NAME.equals(module.getName());
+    }
+
+    private static String getTypeName(ColumnMetadata column) {
+        return Objects.requireNonNullElse(column.typeName(), TIMESTAMP_TYPE).toLowerCase(Locale.ROOT);
+    }
+
+    private static Instant toInstant(String typeName, String value) {
+        return toZonedDateTime(typeName, value).toInstant();
+    }
+
+    private static ZonedDateTime toZonedDateTime(String typeName, String value) {
+        if (DATE_TYPE.equals(typeName)) {
+            return LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC);
+        }
+        if (TIMESTAMPTZ_TYPE.equals(typeName)) {
+            // Redshift omits the minutes of whole-hour offsets, e.g. `2025-01-01 10:00:00+00`
+            String timestamp = hasHourOffset(value) ? value + ":00" : value;
+            return OffsetDateTime.parse(timestamp, TIMESTAMPTZ_FORMATTER).toZonedDateTime();
+        }
+        // Timestamps without a time zone are in UTC
+        return LocalDateTime.parse(value, TIMESTAMP_FORMATTER).atZone(ZoneOffset.UTC);
+    }
+
+    // Whether the value ends with a sign and two digits, checked by hand since it runs for each value of the column
+    private static boolean hasHourOffset(String value) {
+        int length = value.length();
+        if (length < 3) {
+            return false;
+        }
+        char sign = value.charAt(length - 3);
+        return (sign == '+' || sign == '-') && isAsciiDigit(value.charAt(length - 2)) &&
+                isAsciiDigit(value.charAt(length - 1));
+    }
+
+    private static boolean isAsciiDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code Histogram} is a lock-free histogram of non-negative values with log-linear buckets, in the spirit of the
+ * HDR histogram.
+ * <p>
+ * Each power of two range is split into {@value #SUB_BUCKETS} linear sub-buckets, so that a recorded value is
+ * reported with a relative error of at most 1/{@value #SUB_BUCKETS} across the whole {@code long} range using a
+ * fixed array of counters. Recording a value is a few bit operations and an atomic increment, hence the histogram
+ * can be updated on every API call.
+ * </p>
+ */
+public final class Histogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     *
+     * @param value the value to be recorded
+     */
+    public void record(long value) {
+        long recordedValue = Math.max(value, 0);
+        counts.incrementAndGet(bucketIndex(recordedValue));
+        count.increment();
+        sum.add(recordedValue);
+        max.accumulate(recordedValue);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public double mean() {
+        long recordedCount = count.sum();
+        return recordedCount == 0 ? 0 : (double) sum.sum() / recordedCount;
+    }
+
+    /**
+     * Returns the value below which the given percentage of the recorded values fall. The value is the upper bound
+     * of the bucket of the percentile, capped at the maximum recorded value.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the percentile, or zero if no value has been recorded
+     */
+    public long percentile(double percentile) {
+        long recordedCount = count.sum();
+        if (recordedCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(recordedCount * Math.min(percentile, 100) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), max.get());
+            }
+        }
+        // The counts of the concurrent recordings may not be visible yet
+        return max.get();
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * {@code HttpClientConfig} represents the configurations of the HTTP client and the connection pool used by the
+ * ballerina Redshift Data API Client. A {@code null} component keeps the default value of the AWS SDK.
+ *
+ * @param maxConnections               The maximum number of connections in the connection pool.
+ * @param connectionAcquisitionTimeout The maximum time to wait for a connection from the connection pool.
+ * @param connectionTimeout            The maximum time to wait while establishing a connection.
+ * @param socketTimeout                The maximum time to wait for data to be transferred over an open connection.
+ * @param connectionMaxIdleTime        The maximum time a connection can remain idle in the connection pool.
+ * @param connectionTimeToLive         The maximum time a pooled connection can be reused.
+ * @param tcpKeepAlive                 Whether TCP keep-alive should be enabled on the connections.
+ * @param apiCallTimeout               The maximum time for an API call, including all the retry attempts.
+ * @param apiCallAttemptTimeout        The maximum time for a single attempt of an API call.
+ * @param warmupConnections            The number of connections to open during the client initialization.
+ */
+public record HttpClientConfig(Integer maxConnections, Duration connectionAcquisitionTimeout,
+                               Duration connectionTimeout, Duration socketTimeout, Duration connectionMaxIdleTime,
+                               Duration connectionTimeToLive, Boolean tcpKeepAlive, Duration apiCallTimeout,
+                               Duration apiCallAttemptTimeout, int warmupConnections) {
+    private static final BString HTTP_CONFIG_MAX_CONNECTIONS = StringUtils.fromString("maxConnections");
+    private static final BString HTTP_CONFIG_CONNECTION_ACQUISITION_TIMEOUT = StringUtils
+            .fromString("connectionAcquisitionTimeout");
+    private static final BString HTTP_CONFIG_CONNECTION_TIMEOUT = StringUtils.fromString("connectionTimeout");
+    private static final BString HTTP_CONFIG_SOCKET_TIMEOUT = StringUtils.fromString("socketTimeout");
+    private static final BString HTTP_CONFIG_CONNECTION_MAX_IDLE_TIME = StringUtils
+            .fromString("connectionMaxIdleTime");
+    private static final BString HTTP_CONFIG_CONNECTION_TIME_TO_LIVE = StringUtils
+            .fromString("connectionTimeToLive");
+    private static final BString HTTP_CONFIG_TCP_KEEP_ALIVE = StringUtils.fromString("tcpKeepAlive");
+    private static final BString HTTP_CONFIG_API_CALL_TIMEOUT = StringUtils.fromString("apiCallTimeout");
+    private static final BString HTTP_CONFIG_API_CALL_ATTEMPT_TIMEOUT = StringUtils
+            .fromString("apiCallAttemptTimeout");
+    private static final BString HTTP_CONFIG_WARMUP = StringUtils.fromString("warmup");
+    private static final BString WARMUP_CONFIG_CONNECTIONS = StringUtils.fromString("connections");
+
+    @SuppressWarnings("unchecked")
+    public HttpClientConfig(BMap<BString, Object> bHttpClientConfig) {
+        this(
+                bHttpClientConfig.containsKey(HTTP_CONFIG_MAX_CONNECTIONS) ?
+                        bHttpClientConfig.getIntValue(HTTP_CONFIG_MAX_CONNECTIONS).intValue() : null,
+                getDuration(bHttpClientConfig, HTTP_CONFIG_CONNECTION_ACQUISITION_TIMEOUT),
+                getDuration(bHttpClientConfig, HTTP_CONFIG_CONNECTION_TIMEOUT),
+                getDuration(bHttpClientConfig, HTTP_CONFIG_SOCKET_TIMEOUT),
+                getDuration(bHttpClientConfig, HTTP_CONFIG_CONNECTION_MAX_IDLE_TIME),
+                getDuration(bHttpClientConfig, HTTP_CONFIG_CONNECTION_TIME_TO_LIVE),
+                bHttpClientConfig.containsKey(HTTP_CONFIG_TCP_KEEP_ALIVE) ?
+                        bHttpClientConfig.getBooleanValue(HTTP_CONFIG_TCP_KEEP_ALIVE) : null,
+                getDuration(bHttpClientConfig, HTTP_CONFIG_API_CALL_TIMEOUT),
+                getDuration(bHttpClientConfig, HTTP_CONFIG_API_CALL_ATTEMPT_TIMEOUT),
+                bHttpClientConfig.containsKey(HTTP_CONFIG_WARMUP) ?
+                        ((BMap<BString, Object>) bHttpClientConfig.getMapValue(HTTP_CONFIG_WARMUP))
+                                .getIntValue(WARMUP_CONFIG_CONNECTIONS).intValue() : 0
+        );
+    }
+
+    private static Duration getDuration(BMap<BString, Object> bHttpClientConfig, BString key) {
+        if (!bHttpClientConfig.containsKey(key)) {
+            return null;
+        }
+        return Duration.ofMillis(CommonUtils.toMillis((BDecimal) bHttpClientConfig.get(key)));
+    }
+
+    public ApacheHttpClient.Builder getApacheHttpClientBuilder() {
+        ApacheHttpClient.Builder builder = ApacheHttpClient.builder();
+        if (Objects.nonNull(maxConnections)) {
+            builder.maxConnections(maxConnections);
+        }
+        if (Objects.nonNull(connectionAcquisitionTimeout)) {
+            builder.connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        }
+        if (Objects.nonNull(connectionTimeout)) {
+            builder.connectionTimeout(connectionTimeout);
+        }
+        if (Objects.nonNull(socketTimeout)) {
+            builder.socketTimeout(socketTimeout);
+        }
+        if (Objects.nonNull(connectionMaxIdleTime)) {
+            builder.connectionMaxIdleTime(connectionMaxIdleTime);
+        }
+        if (Objects.nonNull(connectionTimeToLive)) {
+            builder.connectionTimeToLive(connectionTimeToLive);
+        }
+        if (Objects.nonNull(tcpKeepAlive)) {
+            builder.tcpKeepAlive(tcpKeepAlive);
+        }
+        return builder;
+    }
+
+    public NettyNioAsyncHttpClient.Builder getNettyHttpClientBuilder() {
+        NettyNioAsyncHttpClient.Builder builder = NettyNioAsyncHttpClient.builder();
+        if (Objects.nonNull(maxConnections)) {
+            builder.maxConcurrency(maxConnections);
+        }
+        if (Objects.nonNull(connectionAcquisitionTimeout)) {
+            builder.connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        }
+        if (Objects.nonNull(connectionTimeout)) {
+            builder.connectionTimeout(connectionTimeout);
+        }
+        if (Objects.nonNull(socketTimeout)) {
+            builder.readTimeout(socketTimeout);
+            builder.writeTimeout(socketTimeout);
+        }
+        if (Objects.nonNull(connectionMaxIdleTime)) {
+            builder.connectionMaxIdleTime(connectionMaxIdleTime);
+        }
+        if (Objects.nonNull(connectionTimeToLive)) {
+            builder.connectionTimeToLive(connectionTimeToLive);
+        }
+        if (Objects.nonNull(tcpKeepAlive)) {
+            builder.tcpKeepAlive(tcpKeepAlive);
+        }
+        return builder;
+    }
+
+    public ClientOverrideConfiguration getOverrideConfiguration() {
+        ClientOverrideConfiguration.Builder builder = ClientOverrideConfiguration.builder();
+        if (Objects.nonNull(apiCallTimeout)) {
+            builder.apiCallTimeout(apiCallTimeout);
+        }
+        if (Objects.nonNull(apiCallAttemptTimeout)) {
+            builder.apiCallAttemptTimeout(apiCallAttemptTimeout);
+        }
+        return builder.build();
+    }
+}
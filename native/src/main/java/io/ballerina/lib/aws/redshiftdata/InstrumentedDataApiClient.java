@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.CancelStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.CancelStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Request;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Response;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * {@code InstrumentedDataApiClient} records the {@link ConnectorMetrics} of each API call made through a
+ * {@link DataApiClient}. The latency of a call spans from its submission to the completion of its future, hence it
+ * includes the time spent waiting for a worker thread or a pooled connection.
+ */
+public class InstrumentedDataApiClient implements DataApiClient {
+    private final DataApiClient nativeClient;
+
+    public InstrumentedDataApiClient(DataApiClient nativeClient) {
+        this.nativeClient = nativeClient;
+    }
+
+    @Override
+    public CompletableFuture<ExecuteStatementResponse> executeStatement(ExecuteStatementRequest request) {
+        return record(ConnectorMetrics.EXECUTE_STATEMENT, request, nativeClient::executeStatement);
+    }
+
+    @Override
+    public CompletableFuture<BatchExecuteStatementResponse> batchExecuteStatement(
+            BatchExecuteStatementRequest request) {
+        return record(ConnectorMetrics.BATCH_EXECUTE_STATEMENT, request, nativeClient::batchExecuteStatement);
+    }
+
+    @Override
+    public CompletableFuture<DescribeStatementResponse> describeStatement(DescribeStatementRequest request) {
+        return record(ConnectorMetrics.DESCRIBE_STATEMENT, request, nativeClient::describeStatement);
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultResponse> getStatementResult(GetStatementResultRequest request) {
+        return record(ConnectorMetrics.GET_STATEMENT_RESULT, request, nativeClient::getStatementResult);
+    }
+
+    @Override
+    public CompletableFuture<GetStatementResultV2Response> getStatementResultV2(GetStatementResultV2Request request) {
+        return record(ConnectorMetrics.GET_STATEMENT_RESULT_V2, request, nativeClient::getStatementResultV2);
+    }
+
+    @Override
+    public CompletableFuture<ListStatementsResponse> listStatements(ListStatementsRequest request) {
+        return record(ConnectorMetrics.LIST_STATEMENTS, request, nativeClient::listStatements);
+    }
+
+    @Override
+    public CompletableFuture<CancelStatementResponse> cancelStatement(CancelStatementRequest request) {
+        return record(ConnectorMetrics.CANCEL_STATEMENT, request, nativeClient::cancelStatement);
+    }
+
+    // The future of the call is returned as is rather than the dependent stage, so that cancelling it still cancels
+    // the call
+    private static <Q, R> CompletableFuture<R> record(String operation, Q request,
+                                                      Function<Q, CompletableFuture<R>> apiCall) {
+        ConnectorMetrics.OperationMetrics metrics = ConnectorMetrics.operation(operation);
+        long startTime = metrics.start();
+        CompletableFuture<R> response;
+        try {
+            response = apiCall.apply(request);
+        } catch (RuntimeException e) {
+            metrics.end(startTime, e);
+            throw e;
+        }
+        response.whenComplete((result, throwable) -> metrics.end(startTime, throwable));
+        return response;
+    }
+
+    @Override
+    public void close() {
+        nativeClient.close();
+    }
+}
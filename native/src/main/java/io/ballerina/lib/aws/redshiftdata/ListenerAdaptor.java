@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Representation of the {@code redshiftdata:Listener} with utility methods to invoke as inter-op functions.
+ * <p>
+ * The listener tracks the completion of the submitted statements with a {@link StatementCompletionTracker} and
+ * dispatches the completion events to the attached services.
+ * </p>
+ */
+public final class ListenerAdaptor {
+    private static final Logger LOGGER = Logger.getLogger(ListenerAdaptor.class.getPackageName());
+    private static final long GRACEFUL_STOP_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final String NATIVE_TRACKER = "nativeTracker";
+    private static final String NATIVE_SERVICES = "nativeServices";
+    private static final String NATIVE_RUNTIME = "nativeRuntime";
+    private static final BString LISTENER_CONFIG_POLLING_INTERVAL = StringUtils.fromString("pollingInterval");
+    private static final BString EXECUTION_RESPONSE_STATEMENT_ID = StringUtils.fromString("statementId");
+    private static final BString EXECUTION_RESPONSE_CREATED_AT = StringUtils.fromString("createdAt");
+    private static final String ON_FINISHED = "onFinished";
+    private static final String ON_FAILED = "onFailed";
+    private static final String ON_ABORTED = "onAborted";
+    private static final String ON_ERROR = "onError";
+
+    private ListenerAdaptor() {
+    }
+
+    public static Object init(BObject bListener, BMap<BString, Object> bListenerConfig) {
+        try {
+            ConnectionConfig connectionConfig = new ConnectionConfig(bListenerConfig);
+            ConnectorMetrics.register();
+            DataApiClient nativeClient = SharedClientRegistry.acquire(connectionConfig);
+            long pollingInterval = CommonUtils.toMillis(
+                    (BDecimal) bListenerConfig.get(LISTENER_CONFIG_POLLING_INTERVAL));
+            StatementCompletionTracker tracker = new StatementCompletionTracker(nativeClient,
+                    getListRequest(connectionConfig.dbAccessConfig()), pollingInterval);
+            bListener.addNativeData(NativeClientAdaptor.NATIVE_CLIENT, nativeClient);
+            bListener.addNativeData(NATIVE_TRACKER, tracker);
+            bListener.addNativeData(NATIVE_SERVICES, new CopyOnWriteArrayList<BObject>());
+        } catch (Exception e) {
+            String errorMsg = String.format("Error occurred while initializing the Redshift listener: %s",
+                    e.getMessage());
+            return CommonUtils.createError(errorMsg, e);
+        }
+        return null;
+    }
+
+    // Restricts the listings to the statements of the configured database, if any
+    private static ListStatementsRequest getListRequest(Object dbAccessConfig) {
+        ListStatementsRequest.Builder builder = ListStatementsRequest.builder();
+        if (dbAccessConfig instanceof Cluster cluster) {
+            builder.clusterIdentifier(cluster.id()).database(cluster.database());
+        } else if (dbAccessConfig instanceof WorkGroup workGroup) {
+            builder.workgroupName(workGroup.name()).database(workGroup.database());
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object attach(BObject bListener, BObject bService, Object name) {
+        ((List<BObject>) bListener.getNativeData(NATIVE_SERVICES)).add(bService);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object detach(BObject bListener, BObject bService) {
+        ((List<BObject>) bListener.getNativeData(NATIVE_SERVICES)).remove(bService);
+        return null;
+    }
+
+    public static Object start(Environment env, BObject bListener) {
+        bListener.addNativeData(NATIVE_RUNTIME, env.getRuntime());
+        ((StatementCompletionTracker) bListener.getNativeData(NATIVE_TRACKER)).start();
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object track(BObject bListener, Object bStatement) {
+        StatementCompletionTracker tracker = (StatementCompletionTracker) bListener.getNativeData(NATIVE_TRACKER);
+        String statementId;
+        Instant createdAt = null;
+        if (bStatement instanceof BMap<?, ?> bExecutionResponse) {
+            BMap<BString, Object> executionResponse = (BMap<BString, Object>) bExecutionResponse;
+            statementId = executionResponse.getStringValue(EXECUTION_RESPONSE_STATEMENT_ID).getValue();
+            createdAt = toInstant((BArray) executionResponse.get(EXECUTION_RESPONSE_CREATED_AT));
+        } else {
+            statementId = ((BString) bStatement).getValue();
+        }
+        tracker.track(statementId, createdAt).whenComplete((response, throwable) -> {
+            if (Objects.nonNull(throwable)) {
+                Throwable cause = CommonUtils.unwrapCompletionException(throwable);
+                String errorMsg = String.format("Error occurred while tracking the statement %s: %s", statementId,
+                        Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+                dispatch(bListener, ON_ERROR, CommonUtils.createError(errorMsg, cause));
+                return;
+            }
+            dispatch(bListener, getEventMethod(response), CommonUtils.getDescriptionResponse(response));
+        });
+        return null;
+    }
+
+    // The statements which are already seen to be completed are still dispatched
+    public static Object gracefulStop(BObject bListener) {
+        ((StatementCompletionTracker) bListener.getNativeData(NATIVE_TRACKER)).stop(GRACEFUL_STOP_TIMEOUT_MILLIS);
+        return closeClient(bListener);
+    }
+
+    // The events which are not yet dispatched are dropped, the service methods which are already running are not
+    // interrupted
+    public static Object immediateStop(BObject bListener) {
+        bListener.addNativeData(NATIVE_RUNTIME, null);
+        ((StatementCompletionTracker) bListener.getNativeData(NATIVE_TRACKER)).stopNow();
+        return closeClient(bListener);
+    }
+
+    private static Object closeClient(BObject bListener) {
+        DataApiClient nativeClient = (DataApiClient) bListener.getNativeData(NativeClientAdaptor.NATIVE_CLIENT);
+        try {
+            nativeClient.close();
+        } catch (Exception e) {
+            String errorMsg = String.format("Error occurred while stopping the Redshift listener: %s",
+                    e.getMessage());
+            return CommonUtils.createError(errorMsg, e);
+        }
+        return null;
+    }
+
+    private static String getEventMethod(DescribeStatementResponse response) {
+        if (response.status() == StatusString.FAILED) {
+            return ON_FAILED;
+        }
+        return response.status() == StatusString.ABORTED ? ON_ABORTED : ON_FINISHED;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void dispatch(BObject bListener, String methodName, Object event) {
+        Runtime runtime = (Runtime) bListener.getNativeData(NATIVE_RUNTIME);
+        if (Objects.isNull(runtime)) {
+            return;
+        }
+        Module module = ModuleUtils.getModule();
+        StrandMetadata metadata = new StrandMetadata(module.getOrg(), module.getName(), module.getMajorVersion(),
+                methodName);
+        for (BObject bService : (List<BObject>) bListener.getNativeData(NATIVE_SERVICES)) {
+            ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(bService));
+            if (!hasMethod(serviceType, methodName)) {
+                continue;
+            }
+            Callback callback = new Callback() {
+                @Override
+                public void notifySuccess(Object result) {
+                    if (result instanceof BError error) {
+                        logDispatchError(methodName, error);
+                    }
+                }
+
+                @Override
+                public void notifyFailure(BError error) {
+                    logDispatchError(methodName, error);
+                }
+            };
+            if (serviceType.isIsolated() && serviceType.isIsolated(methodName)) {
+                runtime.invokeMethodAsyncConcurrently(bService, methodName, null, metadata, callback, null,
+                        PredefinedTypes.TYPE_NULL, event, true);
+            } else {
+                runtime.invokeMethodAsyncSequentially(bService, methodName, null, metadata, callback, null,
+                        PredefinedTypes.TYPE_NULL, event, true);
+            }
+        }
+    }
+
+    private static void logDispatchError(String methodName, BError error) {
+        LOGGER.log(Level.SEVERE, String.format("The %s method of the Redshift listener service returned an error: %s",
+                methodName, error.getMessage()), error);
+    }
+
+    private static boolean hasMethod(ObjectType serviceType, String methodName) {
+        for (MethodType method : serviceType.getMethods()) {
+            if (method.getName().equals(methodName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Instant toInstant(BArray utc) {
+        long seconds = utc.getInt(0);
+        BDecimal fraction = (BDecimal) utc.getRefValue(1);
+        return Instant.ofEpochSecond(seconds, fraction.decimalValue().movePointRight(9).longValue());
+    }
+}
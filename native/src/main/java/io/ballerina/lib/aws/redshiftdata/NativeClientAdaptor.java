@@ -20,8 +20,18 @@ package io.ballerina.lib.aws.redshiftdata;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BHandle;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BStream;
@@ -33,46 +43,108 @@ import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.credentials.InstanceProfileCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.services.redshiftdata.RedshiftDataAsyncClient;
+import software.amazon.awssdk.services.redshiftdata.RedshiftDataAsyncClientBuilder;
 import software.amazon.awssdk.services.redshiftdata.RedshiftDataClient;
+import software.amazon.awssdk.services.redshiftdata.RedshiftDataClientBuilder;
 import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
 import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.CancelStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.CancelStatementResponse;
 import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
 import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
 import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
 import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
-import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
-import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ResultFormatString;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
+import software.amazon.awssdk.services.redshiftdata.model.SubStatementData;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
- * Representation of {@link RedshiftDataClient} with
+ * Representation of {@link DataApiClient} with
  * utility methods to invoke as inter-op functions.
  */
 public class NativeClientAdaptor {
     static final String NATIVE_CLIENT = "nativeClient";
     private static final String NATIVE_DB_ACCESS_CONFIG = "nativeDbAccessConfig";
-    private static final ExecutorService EXECUTOR_SERVICE = Executors
-            .newCachedThreadPool(new RedshiftDataThreadFactory());
+    private static final String NATIVE_PREFETCH_CONFIG = "nativePrefetchConfig";
+    private static final String NATIVE_PREFETCH_BUDGET = "nativePrefetchBudget";
+    private static final String NATIVE_RESULT_PAGE_CACHE = "nativeResultPageCache";
+    private static final String NATIVE_QUERY_RESULT_CACHE = "nativeQueryResultCache";
+    private static final String NATIVE_EXECUTE_BATCHER = "nativeExecuteBatcher";
+    private static final String NATIVE_SESSION_POOL = "nativeSessionPool";
+    private static final String NATIVE_STATEMENT_TIMINGS = "nativeStatementTimings";
+    private static final String NATIVE_PREPARED_STATEMENT = "nativePreparedStatement";
+    private static final String PREPARED_STATEMENT_OBJECT = "PreparedStatement";
+    private static final String VALIDATE_QUERY_CONFIG = "validateQueryConfig";
+    private static final ArrayType STREAM_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY);
+    // The maximum time the warm-up calls are waited for before they are cancelled
+    private static final long WARMUP_TIMEOUT_SECONDS = 30;
+    private static final long FLUSH_TIMEOUT_SECONDS = 30;
+    private static final BString EXECUTION_CONFIG_DEADLINE = StringUtils.fromString("deadline");
+    private static final BString QUERY_CONFIG_POLL_CONFIG = StringUtils.fromString("pollConfig");
+    private static final BString QUERY_CONFIG_CACHE = StringUtils.fromString("cache");
+    private static final BString QUERY_CACHE_CONFIG_TTL = StringUtils.fromString("ttl");
+    private static final BString QUERY_CACHE_CONFIG_TAGS = StringUtils.fromString("tags");
+    private static final BString BULK_INSERT_CONFIG_POLL_CONFIG = StringUtils.fromString("pollConfig");
+    private static final BString EXECUTE_MANY_CONFIG_MAX_IN_FLIGHT = StringUtils.fromString("maxInFlight");
+    private static final BString EXECUTE_MANY_CONFIG_POLLING_INTERVAL = StringUtils.fromString("pollingInterval");
 
     private NativeClientAdaptor() {
     }
 
     public static Object init(BObject bClient, BMap<BString, Object> bConnectionConfig) {
+        SharedClientRegistry.Lease nativeClient = null;
         try {
+            ConnectorMetrics.register();
             ConnectionConfig connectionConfig = new ConnectionConfig(bConnectionConfig);
-            AwsCredentialsProvider credentialsProvider = getCredentialsProvider(connectionConfig.authConfig());
-            RedshiftDataClient nativeClient = RedshiftDataClient.builder()
-                    .region(connectionConfig.region())
-                    .credentialsProvider(credentialsProvider)
-                    .build();
+            nativeClient = SharedClientRegistry.acquire(connectionConfig);
             bClient.addNativeData(NATIVE_CLIENT, nativeClient);
             bClient.addNativeData(NATIVE_DB_ACCESS_CONFIG, connectionConfig.dbAccessConfig());
+            PrefetchConfig prefetchConfig = connectionConfig.prefetchConfig();
+            bClient.addNativeData(NATIVE_PREFETCH_CONFIG, prefetchConfig);
+            bClient.addNativeData(NATIVE_PREFETCH_BUDGET, Objects.nonNull(prefetchConfig) ?
+                    new PrefetchBudget(prefetchConfig.maxBufferedBytes()) : null);
+            ResultPageCacheConfig resultPageCacheConfig = connectionConfig.resultPageCacheConfig();
+            bClient.addNativeData(NATIVE_RESULT_PAGE_CACHE, Objects.nonNull(resultPageCacheConfig) ?
+                    new ResultPageCache(resultPageCacheConfig) : null);
+            QueryResultCacheConfig queryResultCacheConfig = connectionConfig.queryResultCacheConfig();
+            bClient.addNativeData(NATIVE_QUERY_RESULT_CACHE, Objects.nonNull(queryResultCacheConfig) ?
+                    new QueryResultCache(queryResultCacheConfig.maxBytes()) : null);
+            AutoBatchConfig autoBatchConfig = connectionConfig.autoBatchConfig();
+            bClient.addNativeData(NATIVE_EXECUTE_BATCHER, Objects.nonNull(autoBatchConfig) ?
+                    new ExecuteBatcher(nativeClient, autoBatchConfig) : null);
+            SessionPoolConfig sessionPoolConfig = connectionConfig.sessionPoolConfig();
+            bClient.addNativeData(NATIVE_SESSION_POOL, Objects.nonNull(sessionPoolConfig) ?
+                    new SessionPool(nativeClient, sessionPoolConfig) : null);
+            SlowStatementLogConfig slowStatementLogConfig = connectionConfig.slowStatementLogConfig();
+            bClient.addNativeData(NATIVE_STATEMENT_TIMINGS, Objects.nonNull(slowStatementLogConfig) ?
+                    new StatementTimings(slowStatementLogConfig.thresholdMillis()) : null);
+            // A shared SDK client has already been warmed up by the client which created it
+            if (nativeClient.created()) {
+                warmup(nativeClient, nativeClient.credentialsProvider(),
+                        connectionConfig.httpClientConfig().warmupConnections());
+            }
         } catch (Exception e) {
+            if (Objects.nonNull(nativeClient)) {
+                nativeClient.close();
+            }
             String errorMsg = String.format("Error occurred while initializing the Redshift client: %s",
                     e.getMessage());
             return CommonUtils.createError(errorMsg, e);
@@ -80,7 +152,85 @@ public class NativeClientAdaptor {
         return null;
     }
 
-    private static AwsCredentialsProvider getCredentialsProvider(Object authConfig) {
+    static DataApiClient createNativeClient(ConnectionConfig connectionConfig,
+                                            AwsCredentialsProvider credentialsProvider) throws Exception {
+        DataApiClient nativeClient = connectionConfig.nonBlocking() ?
+                new AsyncDataApiClient(getAsyncClient(connectionConfig, credentialsProvider)) :
+                new BlockingDataApiClient(getSyncClient(connectionConfig, credentialsProvider),
+                        connectionConfig.executorConfig().createExecutorService());
+        return new InstrumentedDataApiClient(nativeClient);
+    }
+
+    private static RedshiftDataClient getSyncClient(ConnectionConfig connectionConfig,
+                                                    AwsCredentialsProvider credentialsProvider) {
+        HttpClientConfig httpClientConfig = connectionConfig.httpClientConfig();
+        RedshiftDataClientBuilder builder = RedshiftDataClient.builder()
+                .region(connectionConfig.region())
+                .credentialsProvider(credentialsProvider)
+                .httpClientBuilder(httpClientConfig.getApacheHttpClientBuilder())
+                .overrideConfiguration(httpClientConfig.getOverrideConfiguration());
+        if (Objects.nonNull(connectionConfig.endpoint())) {
+            builder.endpointOverride(connectionConfig.endpoint());
+        }
+        return builder.build();
+    }
+
+    private static RedshiftDataAsyncClient getAsyncClient(ConnectionConfig connectionConfig,
+                                                          AwsCredentialsProvider credentialsProvider) {
+        HttpClientConfig httpClientConfig = connectionConfig.httpClientConfig();
+        RedshiftDataAsyncClientBuilder builder = RedshiftDataAsyncClient.builder()
+                .region(connectionConfig.region())
+                .credentialsProvider(credentialsProvider)
+                .httpClientBuilder(httpClientConfig.getNettyHttpClientBuilder())
+                .overrideConfiguration(httpClientConfig.getOverrideConfiguration())
+                // Response callbacks only convert the SDK response and complete the Ballerina future, hence they
+                // are run directly on the thread which completes the SDK future instead of hopping to another pool.
+                .asyncConfiguration(config -> config.advancedOption(
+                        SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, Runnable::run));
+        if (Objects.nonNull(connectionConfig.endpoint())) {
+            builder.endpointOverride(connectionConfig.endpoint());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Resolves the credentials and opens the requested number of pooled connections ahead of the first statement,
+     * so that it does not pay the credential fetch and TLS handshake latency. The warm-up runs on its own thread so
+     * that the initialization does not wait for the network, and the calls which do not complete within the warm-up
+     * timeout are cancelled. Failures are ignored, since a failed warm-up only means that the first statements pay
+     * that latency as they would without a warm-up.
+     */
+    private static void warmup(DataApiClient nativeClient, AwsCredentialsProvider credentialsProvider,
+                               int connections) {
+        if (connections <= 0) {
+            return;
+        }
+        Thread warmupThread = new Thread(() -> {
+            try {
+                credentialsProvider.resolveCredentials();
+            } catch (Exception e) {
+                return;
+            }
+            // Concurrent lightweight calls force the pool to open one connection for each call
+            CompletableFuture<?>[] warmupCalls = IntStream.range(0, connections)
+                    .mapToObj(i -> nativeClient.listStatements(ListStatementsRequest.builder().maxResults(1).build()))
+                    .toArray(CompletableFuture[]::new);
+            try {
+                CompletableFuture.allOf(warmupCalls).get(WARMUP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // The warm-up is best effort, hence the failed and the pending calls are only cleaned up
+            } finally {
+                Arrays.stream(warmupCalls).forEach(warmupCall -> warmupCall.cancel(true));
+            }
+        });
+        warmupThread.setName("balx-awsredshiftdata-warmup-thread");
+        warmupThread.setDaemon(true);
+        warmupThread.start();
+    }
+
+    static AwsCredentialsProvider getCredentialsProvider(Object authConfig) {
         if (authConfig instanceof StaticAuthConfig staticAuth) {
             AwsCredentials credentials = Objects.nonNull(staticAuth.sessionToken()) ?
                     AwsSessionCredentials.create(
@@ -103,102 +253,527 @@ public class NativeClientAdaptor {
         return instanceCredentialBuilder.build();
     }
 
-    @SuppressWarnings("unchecked")
     public static Object execute(Environment env, BObject bClient, BObject bSqlStatement,
                                  BMap<BString, Object> bExecutionConfig) {
-        RedshiftDataClient nativeClient = (RedshiftDataClient) bClient.getNativeData(NATIVE_CLIENT);
+        DataApiClient nativeClient = (DataApiClient) bClient.getNativeData(NATIVE_CLIENT);
         Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
+        ExecuteBatcher executeBatcher = (ExecuteBatcher) bClient.getNativeData(NATIVE_EXECUTE_BATCHER);
+        SessionPool sessionPool = (SessionPool) bClient.getNativeData(NATIVE_SESSION_POOL);
+        StatementTimings statementTimings = (StatementTimings) bClient.getNativeData(NATIVE_STATEMENT_TIMINGS);
         Future future = env.markAsync();
-        EXECUTOR_SERVICE.execute(() -> {
-            try {
-                ExecuteStatementRequest executeRequest = CommonUtils.getNativeExecuteRequest(
-                        bSqlStatement, bExecutionConfig, initLevelDbAccessConfig);
-                ExecuteStatementResponse executionResponse = nativeClient
-                        .executeStatement(executeRequest);
-                BMap<BString, Object> bResponse = CommonUtils.getExecutionResponse(executionResponse);
-                future.complete(bResponse);
-            } catch (Exception e) {
-                String errorMsg = String.format("Error occurred while executing the execute: %s",
-                        Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
-                BError bError = CommonUtils.createError(errorMsg, e);
-                future.complete(bError);
+        try {
+            Long deadline = getDeadline(bExecutionConfig);
+            ExecuteStatementRequest executeRequest = CommonUtils.getNativeExecuteRequest(
+                    bSqlStatement, bExecutionConfig, initLevelDbAccessConfig);
+            CompletableFuture<ExecuteStatementResponse> response = executeStatement(statementTimings,
+                    executeRequest, () -> {
+                        // A batched call cannot be cancelled on its own, hence the calls with a deadline are not
+                        // batched
+                        if (Objects.nonNull(executeBatcher) && Objects.isNull(deadline)) {
+                            return executeBatcher.execute(executeRequest,
+                                    new ParameterizedQuery(bSqlStatement).getInlinedQuery());
+                        }
+                        return Objects.nonNull(sessionPool) ? sessionPool.execute(executeRequest) :
+                                nativeClient.executeStatement(executeRequest);
+                    });
+            if (Objects.nonNull(deadline)) {
+                response.thenAccept(executeResponse ->
+                        StatementCanceller.cancelAtDeadline(nativeClient, executeResponse.id(), deadline));
             }
-        });
+            completeFuture(future, "execute", response, CommonUtils::getExecutionResponse);
+        } catch (Exception e) {
+            future.complete(createOperationError("execute", e));
+        }
         return null;
     }
 
-    @SuppressWarnings("unchecked")
+    private static CompletableFuture<ExecuteStatementResponse> executeStatement(
+            StatementTimings statementTimings, ExecuteStatementRequest executeRequest,
+            Supplier<CompletableFuture<ExecuteStatementResponse>> apiCall) {
+        return Objects.nonNull(statementTimings) ?
+                statementTimings.execute(executeRequest.statementName(), apiCall) : apiCall.get();
+    }
+
     public static Object batchExecute(Environment env, BObject bClient, BArray bSqlStatements,
                                       BMap<BString, Object> bExecutionConfig) {
-        RedshiftDataClient nativeClient = (RedshiftDataClient) bClient.getNativeData(NATIVE_CLIENT);
+        DataApiClient nativeClient = (DataApiClient) bClient.getNativeData(NATIVE_CLIENT);
         Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
         Future future = env.markAsync();
-        EXECUTOR_SERVICE.execute(() -> {
-            try {
-                BatchExecuteStatementRequest batchExecuteStatementRequest = CommonUtils
-                        .getNativeBatchExecuteRequest(
-                                bSqlStatements, bExecutionConfig, initLevelDbAccessConfig);
-                BatchExecuteStatementResponse batchExecutionResponse = nativeClient
-                        .batchExecuteStatement(batchExecuteStatementRequest);
-                BMap<BString, Object> bResponse = CommonUtils
-                        .getBatchExecutionResponse(batchExecutionResponse);
-                future.complete(bResponse);
-            } catch (Exception e) {
-                String errorMsg = String.format("Error occurred while executing the batchExecute: %s",
-                        Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
-                BError bError = CommonUtils.createError(errorMsg, e);
-                future.complete(bError);
+        try {
+            Long deadline = getDeadline(bExecutionConfig);
+            BatchExecuteStatementRequest batchExecuteStatementRequest = CommonUtils
+                    .getNativeBatchExecuteRequest(
+                            bSqlStatements, bExecutionConfig, initLevelDbAccessConfig);
+            CompletableFuture<BatchExecuteStatementResponse> response =
+                    nativeClient.batchExecuteStatement(batchExecuteStatementRequest);
+            if (Objects.nonNull(deadline)) {
+                response.thenAccept(batchResponse ->
+                        StatementCanceller.cancelAtDeadline(nativeClient, batchResponse.id(), deadline));
             }
-        });
+            completeFuture(future, "batchExecute", response, CommonUtils::getBatchExecutionResponse);
+        } catch (Exception e) {
+            future.complete(createOperationError("batchExecute", e));
+        }
+        return null;
+    }
+
+    public static Object prepare(BObject bClient, BObject bTemplate, BMap<BString, Object> bExecutionConfig) {
+        Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
+        try {
+            ExecuteStatementRequest requestPrototype = CommonUtils.getNativeExecuteRequest(
+                    bTemplate, bExecutionConfig, initLevelDbAccessConfig);
+            BObject bPreparedStatement = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                    PREPARED_STATEMENT_OBJECT);
+            bPreparedStatement.addNativeData(NATIVE_CLIENT, bClient.getNativeData(NATIVE_CLIENT));
+            bPreparedStatement.addNativeData(NATIVE_SESSION_POOL, bClient.getNativeData(NATIVE_SESSION_POOL));
+            bPreparedStatement.addNativeData(NATIVE_STATEMENT_TIMINGS,
+                    bClient.getNativeData(NATIVE_STATEMENT_TIMINGS));
+            bPreparedStatement.addNativeData(NATIVE_PREPARED_STATEMENT,
+                    new PreparedStatement(bTemplate, requestPrototype));
+            return bPreparedStatement;
+        } catch (Exception e) {
+            return createOperationError("prepare", e);
+        }
+    }
+
+    public static Object executePrepared(Environment env, BObject bPreparedStatement, BArray bParameters) {
+        DataApiClient nativeClient = (DataApiClient) bPreparedStatement.getNativeData(NATIVE_CLIENT);
+        PreparedStatement preparedStatement = (PreparedStatement) bPreparedStatement
+                .getNativeData(NATIVE_PREPARED_STATEMENT);
+        SessionPool sessionPool = (SessionPool) bPreparedStatement.getNativeData(NATIVE_SESSION_POOL);
+        StatementTimings statementTimings = (StatementTimings) bPreparedStatement
+                .getNativeData(NATIVE_STATEMENT_TIMINGS);
+        Future future = env.markAsync();
+        try {
+            ExecuteStatementRequest executeRequest = preparedStatement.bind(bParameters);
+            completeFuture(future, "execute", executeStatement(statementTimings, executeRequest,
+                    () -> Objects.nonNull(sessionPool) ? sessionPool.execute(executeRequest) :
+                            nativeClient.executeStatement(executeRequest)), CommonUtils::getExecutionResponse);
+        } catch (Exception e) {
+            future.complete(createOperationError("execute", e));
+        }
+        return null;
+    }
+
+    public static Object executeMany(Environment env, BObject bClient, BObject bTemplate, BArray bParameterSets,
+                                     BMap<BString, Object> bExecuteManyConfig) {
+        DataApiClient nativeClient = (DataApiClient) bClient.getNativeData(NATIVE_CLIENT);
+        Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
+        Future future = env.markAsync();
+        try {
+            Long deadline = getDeadline(bExecuteManyConfig);
+            ExecuteStatementRequest requestPrototype = CommonUtils.getNativeExecuteRequest(
+                    bTemplate, bExecuteManyConfig, initLevelDbAccessConfig);
+            StatementFanOut fanOut = new StatementFanOut(nativeClient,
+                    new PreparedStatement(bTemplate, requestPrototype), bParameterSets,
+                    (int) bExecuteManyConfig.getIntValue(EXECUTE_MANY_CONFIG_MAX_IN_FLIGHT),
+                    CommonUtils.toMillis((BDecimal) bExecuteManyConfig.get(EXECUTE_MANY_CONFIG_POLLING_INTERVAL)),
+                    deadline);
+            completeFuture(future, "executeMany", fanOut.run(), results -> CommonUtils.getDescriptionResponses(
+                    results, throwable -> createOperationError("executeMany", throwable)));
+        } catch (Exception e) {
+            future.complete(createOperationError("executeMany", e));
+        }
         return null;
     }
 
-    @SuppressWarnings("unchecked")
     public static Object describe(Environment env, BObject bClient, BString bStatementId) {
-        RedshiftDataClient nativeClient = (RedshiftDataClient) bClient.getNativeData(NATIVE_CLIENT);
+        DataApiClient nativeClient = (DataApiClient) bClient.getNativeData(NATIVE_CLIENT);
+        StatementTimings statementTimings = (StatementTimings) bClient.getNativeData(NATIVE_STATEMENT_TIMINGS);
         String statementId = bStatementId.getValue();
         Future future = env.markAsync();
-        EXECUTOR_SERVICE.execute(() -> {
+        CompletableFuture<DescribeStatementResponse> response =
+                nativeClient.describeStatement(DescribeStatementRequest.builder().id(statementId).build());
+        response.thenAccept(StatementCanceller::described);
+        if (Objects.nonNull(statementTimings)) {
+            response.thenAccept(statementTimings::described);
+        }
+        completeFuture(future, "describe", response, CommonUtils::getDescriptionResponse);
+        return null;
+    }
+
+    public static Object cancel(Environment env, BObject bClient, BString bStatementId) {
+        DataApiClient nativeClient = (DataApiClient) bClient.getNativeData(NATIVE_CLIENT);
+        Future future = env.markAsync();
+        completeFuture(future, "cancel",
+                nativeClient.cancelStatement(CancelStatementRequest.builder().id(bStatementId.getValue()).build()),
+                CancelStatementResponse::status);
+        return null;
+    }
+
+    public static Object getResultAsStream(Environment env, BObject bClient, BString bStatementId,
+                                           BTypedesc recordType, BString bResultFormat) {
+        ResultPageFetcher pageFetcher = getPageFetcher(bClient, bStatementId.getValue());
+        Future future = env.markAsync();
+        if (isCsv(bResultFormat)) {
+            completeFuture(future, "getResultAsStream", pageFetcher.firstCsvPage(),
+                    firstPage -> {
+                        try {
+                            return QueryResultProcessor.getRecordStream(pageFetcher, firstPage, recordType);
+                        } catch (Exception e) {
+                            return createOperationError("getResultAsStream", e);
+                        }
+                    });
+            return null;
+        }
+        completeFuture(future, "getResultAsStream", pageFetcher.firstPage(),
+                nativeResultResponse -> {
+                    try {
+                        return QueryResultProcessor.getRecordStream(pageFetcher, nativeResultResponse, recordType);
+                    } catch (Exception e) {
+                        return createOperationError("getResultAsStream", e);
+                    }
+                });
+        return null;
+    }
+
+    public static Object query(Environment env, BObject bClient, BObject bSqlStatement,
+                               BMap<BString, Object> bQueryConfig, BTypedesc recordType) {
+        Future future = env.markAsync();
+        // The `query` API infers the row type, hence it is an external function and the constraints of the query
+        // configurations are validated by calling back into the client before the statement is run
+        Module module = ModuleUtils.getModule();
+        StrandMetadata metadata = new StrandMetadata(module.getOrg(), module.getName(), module.getMajorVersion(),
+                VALIDATE_QUERY_CONFIG);
+        Callback callback = new Callback() {
+            @Override
+            public void notifySuccess(Object result) {
+                if (result instanceof BError validationError) {
+                    future.complete(validationError);
+                    return;
+                }
+                runQuery(future, bClient, bSqlStatement, bQueryConfig, recordType);
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                future.complete(error);
+            }
+        };
+        env.getRuntime().invokeMethodAsyncSequentially(bClient, VALIDATE_QUERY_CONFIG, null, metadata, callback,
+                null, PredefinedTypes.TYPE_NULL, bQueryConfig, true);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void runQuery(Future future, BObject bClient, BObject bSqlStatement,
+                                 BMap<BString, Object> bQueryConfig, BTypedesc recordType) {
+        DataApiClient nativeClient = (DataApiClient) bClient.getNativeData(NATIVE_CLIENT);
+        Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
+        try {
+            Long deadline = getDeadline(bQueryConfig);
+            PollConfig pollConfig = new PollConfig(
+                    (BMap<BString, Object>) bQueryConfig.getMapValue(QUERY_CONFIG_POLL_CONFIG));
+            ExecuteStatementRequest executeRequest = CommonUtils.getNativeExecuteRequest(
+                    bSqlStatement, bQueryConfig, initLevelDbAccessConfig);
+            if (executeRequest.sql().isBlank()) {
+                throw new IllegalArgumentException("SQL statement cannot be empty.");
+            }
+            QueryResultCache.Recorder pageRecorder = null;
+            QueryResultCache resultCache = (QueryResultCache) bClient.getNativeData(NATIVE_QUERY_RESULT_CACHE);
+            // The pages of the CSV results are not cached
+            boolean csv = executeRequest.resultFormat() == ResultFormatString.CSV;
+            ExecuteStatementRequest cacheKey = Objects.nonNull(resultCache) && !csv &&
+                    bQueryConfig.containsKey(QUERY_CONFIG_CACHE) ? QueryResultCache.getCacheKey(executeRequest) : null;
+            if (Objects.nonNull(cacheKey)) {
+                QueryResultCache.CachedResult cachedResult = resultCache.get(cacheKey);
+                if (Objects.nonNull(cachedResult)) {
+                    future.complete(QueryResultProcessor.getRecordStream(
+                            ResultPageFetcher.ofCachedResult(cachedResult), cachedResult.page(null), recordType));
+                    return;
+                }
+                BMap<BString, Object> bCacheConfig = (BMap<BString, Object>) bQueryConfig
+                        .getMapValue(QUERY_CONFIG_CACHE);
+                pageRecorder = resultCache.newRecorder(cacheKey,
+                        CommonUtils.toMillis((BDecimal) bCacheConfig.get(QUERY_CACHE_CONFIG_TTL)),
+                        Arrays.asList(bCacheConfig.getArrayValue(QUERY_CACHE_CONFIG_TAGS).getStringArray()));
+            }
+            QueryResultCache.Recorder recorder = pageRecorder;
+            SessionPool sessionPool = (SessionPool) bClient.getNativeData(NATIVE_SESSION_POOL);
+            StatementTimings statementTimings = (StatementTimings) bClient.getNativeData(NATIVE_STATEMENT_TIMINGS);
+            long startTime = System.nanoTime();
+            CompletableFuture<DescribeStatementResponse> completion = Objects.nonNull(sessionPool) ?
+                    sessionPool.executeAndAwait(executeRequest, pollConfig, deadline) :
+                    executeStatement(statementTimings, executeRequest,
+                            () -> nativeClient.executeStatement(executeRequest))
+                            .thenCompose(executeResponse -> StatementPoller.awaitCompletion(nativeClient,
+                                    executeResponse.id(), executeRequest.statementName(), pollConfig, deadline));
+            if (Objects.nonNull(statementTimings)) {
+                completion = completion.thenApply(description -> {
+                    statementTimings.completed(startTime, executeRequest.statementName(), description);
+                    return description;
+                });
+            }
+            // The first result page is requested as soon as the statement is seen to be finished
+            CompletableFuture<Object> response = completion
+                    .thenCompose(description -> getQueryResult(bClient, description, recordType, recorder, csv));
+            completeFuture(future, "query", response, Function.identity());
+        } catch (Exception e) {
+            future.complete(createOperationError("query", e));
+        }
+    }
+
+    private static CompletableFuture<Object> getQueryResult(BObject bClient, DescribeStatementResponse description,
+                                                            BTypedesc recordType,
+                                                            QueryResultCache.Recorder pageRecorder, boolean csv) {
+        String statementId = description.id();
+        if (description.status() == StatusString.FAILED) {
+            return CompletableFuture.failedFuture(new IllegalStateException(String.format(
+                    "The statement %s failed: %s", statementId, description.error())));
+        }
+        if (description.status() == StatusString.ABORTED) {
+            return CompletableFuture.failedFuture(new IllegalStateException(String.format(
+                    "The statement %s was aborted", statementId)));
+        }
+        if (!Boolean.TRUE.equals(description.hasResultSet())) {
+            return CompletableFuture.failedFuture(new IllegalStateException(String.format(
+                    "The statement %s does not have a result set", statementId)));
+        }
+        ResultPageFetcher pageFetcher = getPageFetcher(bClient, statementId);
+        pageFetcher.setPageRecorder(pageRecorder);
+        return getRecordStream(pageFetcher, recordType, csv);
+    }
+
+    private static CompletableFuture<Object> getRecordStream(ResultPageFetcher pageFetcher, BTypedesc recordType,
+                                                             boolean csv) {
+        if (csv) {
+            return pageFetcher.firstCsvPage().thenApply(firstPage -> {
+                try {
+                    return QueryResultProcessor.getRecordStream(pageFetcher, firstPage, recordType);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            });
+        }
+        return pageFetcher.firstPage().thenApply(nativeResultResponse -> {
             try {
-                DescribeStatementResponse describeStatementResponse = nativeClient.describeStatement(
-                        DescribeStatementRequest.builder().id(statementId).build());
-                BMap<BString, Object> bResponse = CommonUtils.getDescriptionResponse(describeStatementResponse);
-                future.complete(bResponse);
+                return QueryResultProcessor.getRecordStream(pageFetcher, nativeResultResponse, recordType);
             } catch (Exception e) {
-                String errorMsg = String.format("Error occurred while executing the describe: %s",
-                        Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
-                BError bError = CommonUtils.createError(errorMsg, e);
-                future.complete(bError);
+                throw new CompletionException(e);
             }
         });
+    }
+
+    public static Object getBatchResults(Environment env, BObject bClient, BString bStatementId, BArray bRowTypes) {
+        DataApiClient nativeClient = (DataApiClient) bClient.getNativeData(NATIVE_CLIENT);
+        Future future = env.markAsync();
+        CompletableFuture<Object> response = nativeClient
+                .describeStatement(DescribeStatementRequest.builder().id(bStatementId.getValue()).build())
+                .thenCompose(description -> getSubStatementResults(bClient, description, bRowTypes));
+        completeFuture(future, "getBatchResults", response, Function.identity());
         return null;
     }
 
-    public static Object getResultAsStream(Environment env, BObject bClient, BString bStatementId,
-                                           BTypedesc recordType) {
-        RedshiftDataClient nativeClient = (RedshiftDataClient) bClient.getNativeData(NATIVE_CLIENT);
-        String statementId = bStatementId.getValue();
+    private static CompletableFuture<Object> getSubStatementResults(BObject bClient,
+                                                                    DescribeStatementResponse description,
+                                                                    BArray bRowTypes) {
+        String statementId = description.id();
+        if (!description.hasSubStatements()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(String.format(
+                    "The statement %s is not a batch statement", statementId)));
+        }
+        if (description.status() != StatusString.FINISHED) {
+            return CompletableFuture.failedFuture(new IllegalStateException(String.format(
+                    "The statement %s is not finished: %s", statementId, description.statusAsString())));
+        }
+        List<SubStatementData> subStatements = description.subStatements().stream()
+                .filter(subStatement -> Boolean.TRUE.equals(subStatement.hasResultSet()))
+                .toList();
+        int rowTypeCount = bRowTypes.size();
+        if (rowTypeCount != 1 && rowTypeCount != subStatements.size()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(String.format(
+                    "Either a single row type or a row type for each of the %d sub-statements with a result set " +
+                            "should be given, but found %d", subStatements.size(), rowTypeCount)));
+        }
+        boolean csv = description.resultFormat() == ResultFormatString.CSV;
+        // The first result pages of all the sub-statements are requested at once
+        List<CompletableFuture<Object>> streams = new ArrayList<>(subStatements.size());
+        for (int i = 0; i < subStatements.size(); i++) {
+            BTypedesc recordType = (BTypedesc) bRowTypes.get(rowTypeCount == 1 ? 0 : i);
+            streams.add(getRecordStream(getPageFetcher(bClient, subStatements.get(i).id()), recordType, csv));
+        }
+        return CompletableFuture.allOf(streams.toArray(CompletableFuture[]::new))
+                .handle((ignored, throwable) -> {
+                    if (Objects.nonNull(throwable)) {
+                        // The streams which are already created are never returned, hence they are closed here
+                        streams.stream()
+                                .filter(stream -> stream.isDone() && !stream.isCompletedExceptionally())
+                                .forEach(stream -> QueryResultProcessor.closeResult(
+                                        ((BStream) stream.join()).getIteratorObj()));
+                        throw new CompletionException(CommonUtils.unwrapCompletionException(throwable));
+                    }
+                    BArray results = ValueCreator.createArrayValue(STREAM_ARRAY_TYPE);
+                    streams.forEach(stream -> results.append(stream.join()));
+                    return results;
+                });
+    }
+
+    public static Object getResultAsBatches(Environment env, BObject bClient, BString bStatementId, long batchSize,
+                                            BTypedesc recordType, BString bResultFormat) {
+        if (batchSize < 1) {
+            return createOperationError("getResultAsBatches",
+                    new IllegalArgumentException("The batchSize should be greater than or equal to 1"));
+        }
+        ResultPageFetcher pageFetcher = getPageFetcher(bClient, bStatementId.getValue());
+        Future future = env.markAsync();
+        int maxBatchSize = (int) Math.min(batchSize, Integer.MAX_VALUE);
+        if (isCsv(bResultFormat)) {
+            completeFuture(future, "getResultAsBatches", pageFetcher.firstCsvPage(),
+                    firstPage -> {
+                        try {
+                            return QueryResultProcessor.getBatchStream(pageFetcher, firstPage, recordType,
+                                    maxBatchSize);
+                        } catch (Exception e) {
+                            return createOperationError("getResultAsBatches", e);
+                        }
+                    });
+            return null;
+        }
+        completeFuture(future, "getResultAsBatches", pageFetcher.firstPage(),
+                nativeResultResponse -> {
+                    try {
+                        return QueryResultProcessor.getBatchStream(pageFetcher, nativeResultResponse, recordType,
+                                maxBatchSize);
+                    } catch (Exception e) {
+                        return createOperationError("getResultAsBatches", e);
+                    }
+                });
+        return null;
+    }
+
+    public static Object exportResult(Environment env, BObject bClient, BString bStatementId, BString bPath,
+                                      BString bFormat, boolean gzip) {
+        ResultPageFetcher pageFetcher = getPageFetcher(bClient, bStatementId.getValue());
         Future future = env.markAsync();
-        EXECUTOR_SERVICE.execute(() -> {
+        try {
+            completeFuture(future, "exportResult", ResultExporter.export(pageFetcher, Path.of(bPath.getValue()),
+                    ResultExporter.Format.valueOf(bFormat.getValue()), gzip), CommonUtils::getExportResponse);
+        } catch (Exception e) {
+            pageFetcher.close();
+            future.complete(createOperationError("exportResult", e));
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object createBulkInserter(BObject bClient, BString bTable, BMap<BString, Object> bBulkInsertConfig) {
+        DataApiClient nativeClient = (DataApiClient) bClient.getNativeData(NATIVE_CLIENT);
+        Object initLevelDbAccessConfig = bClient.getNativeData(NATIVE_DB_ACCESS_CONFIG);
+        try {
+            PollConfig pollConfig = new PollConfig(
+                    (BMap<BString, Object>) bBulkInsertConfig.getMapValue(BULK_INSERT_CONFIG_POLL_CONFIG));
+            BatchExecuteStatementRequest requestPrototype = CommonUtils.getNativeBatchExecuteRequest(
+                    new String[0], bBulkInsertConfig, initLevelDbAccessConfig);
+            return ValueCreator.createHandleValue(new BulkInserter(nativeClient, requestPrototype, pollConfig,
+                    bTable.getValue(), bBulkInsertConfig));
+        } catch (Exception e) {
+            return createOperationError("bulkInsert", e);
+        }
+    }
+
+    public static Object addBulkInsertRows(Environment env, BHandle bBulkInserter, BArray bRows) {
+        BulkInserter bulkInserter = (BulkInserter) bBulkInserter.getValue();
+        Future future = env.markAsync();
+        completeFuture(future, "bulkInsert", bulkInserter.add(bRows), ignored -> null);
+        return null;
+    }
+
+    public static Object finishBulkInsert(Environment env, BHandle bBulkInserter) {
+        BulkInserter bulkInserter = (BulkInserter) bBulkInserter.getValue();
+        Future future = env.markAsync();
+        completeFuture(future, "bulkInsert", bulkInserter.finish(), CommonUtils::getBulkInsertResponse);
+        return null;
+    }
+
+    public static Object abortBulkInsert(Environment env, BHandle bBulkInserter) {
+        BulkInserter bulkInserter = (BulkInserter) bBulkInserter.getValue();
+        Future future = env.markAsync();
+        completeFuture(future, "bulkInsert", bulkInserter.abort(), CommonUtils::getBulkInsertResponse);
+        return null;
+    }
+
+    private static Long getDeadline(BMap<BString, Object> bExecutionConfig) {
+        if (!bExecutionConfig.containsKey(EXECUTION_CONFIG_DEADLINE)) {
+            return null;
+        }
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(
+                CommonUtils.toMillis((BDecimal) bExecutionConfig.get(EXECUTION_CONFIG_DEADLINE)));
+    }
+
+    private static boolean isCsv(BString bResultFormat) {
+        return ResultFormatString.fromValue(bResultFormat.getValue()) == ResultFormatString.CSV;
+    }
+
+    private static ResultPageFetcher getPageFetcher(BObject bClient, String statementId) {
+        DataApiClient nativeClient = (DataApiClient) bClient.getNativeData(NATIVE_CLIENT);
+        PrefetchConfig prefetchConfig = (PrefetchConfig) bClient.getNativeData(NATIVE_PREFETCH_CONFIG);
+        PrefetchBudget prefetchBudget = (PrefetchBudget) bClient.getNativeData(NATIVE_PREFETCH_BUDGET);
+        ResultPageCache pageCache = (ResultPageCache) bClient.getNativeData(NATIVE_RESULT_PAGE_CACHE);
+        ResultPageFetcher pageFetcher = new ResultPageFetcher(nativeClient, statementId, prefetchConfig,
+                prefetchBudget, pageCache);
+        pageFetcher.setStatementTimings((StatementTimings) bClient.getNativeData(NATIVE_STATEMENT_TIMINGS));
+        return pageFetcher;
+    }
+
+    public static Object getResultPageCacheStats(BObject bClient) {
+        ResultPageCache pageCache = (ResultPageCache) bClient.getNativeData(NATIVE_RESULT_PAGE_CACHE);
+        return Objects.nonNull(pageCache) ? pageCache.getStats() : null;
+    }
+
+    public static Object getSessionPoolStats(BObject bClient) {
+        SessionPool sessionPool = (SessionPool) bClient.getNativeData(NATIVE_SESSION_POOL);
+        return Objects.nonNull(sessionPool) ? sessionPool.getStats() : null;
+    }
+
+    public static Object getQueryResultCacheStats(BObject bClient) {
+        QueryResultCache resultCache = (QueryResultCache) bClient.getNativeData(NATIVE_QUERY_RESULT_CACHE);
+        return Objects.nonNull(resultCache) ? resultCache.getStats() : null;
+    }
+
+    public static long invalidateQueryResults(BObject bClient, BArray bTags) {
+        QueryResultCache resultCache = (QueryResultCache) bClient.getNativeData(NATIVE_QUERY_RESULT_CACHE);
+        return Objects.nonNull(resultCache) ? resultCache.invalidate(Arrays.asList(bTags.getStringArray())) : 0;
+    }
+
+    private static <T> void completeFuture(Future future, String operation, CompletableFuture<T> response,
+                                           Function<T, Object> responseMapper) {
+        response.whenComplete((nativeResponse, throwable) -> {
+            if (Objects.nonNull(throwable)) {
+                future.complete(createOperationError(operation, throwable));
+                return;
+            }
             try {
-                GetStatementResultResponse nativeResultResponse = nativeClient
-                        .getStatementResult(GetStatementResultRequest.builder().id(statementId).build());
-                BStream resultStream = QueryResultProcessor
-                        .getRecordStream(nativeClient, statementId, nativeResultResponse, recordType);
-                future.complete(resultStream);
+                future.complete(responseMapper.apply(nativeResponse));
             } catch (Exception e) {
-                String errorMsg = String.format("Error occurred while executing the getResultAsStream: %s",
-                        Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
-                BError bError = CommonUtils.createError(errorMsg, e);
-                future.complete(bError);
+                future.complete(createOperationError(operation, e));
             }
         });
-        return null;
+    }
+
+    private static BError createOperationError(String operation, Throwable throwable) {
+        Throwable cause = CommonUtils.unwrapCompletionException(throwable);
+        String errorMsg = String.format("Error occurred while executing the %s: %s", operation,
+                Objects.requireNonNullElse(cause.getMessage(), "Unknown error"));
+        return CommonUtils.createError(errorMsg, cause);
     }
 
     public static Object close(BObject bClient) {
-        RedshiftDataClient nativeClient = (RedshiftDataClient) bClient.getNativeData(NATIVE_CLIENT);
+        DataApiClient nativeClient = (DataApiClient) bClient.getNativeData(NATIVE_CLIENT);
+        ExecuteBatcher executeBatcher = (ExecuteBatcher) bClient.getNativeData(NATIVE_EXECUTE_BATCHER);
+        SessionPool sessionPool = (SessionPool) bClient.getNativeData(NATIVE_SESSION_POOL);
         try {
+            if (Objects.nonNull(executeBatcher)) {
+                // The flushed statements are sent before the client is closed, their failures are returned to the
+                // callers which executed them
+                try {
+                    executeBatcher.flushAll().get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (ExecutionException | TimeoutException e) {
+                    // The client is closed regardless
+                }
+            }
+            if (Objects.nonNull(sessionPool)) {
+                sessionPool.close();
+            }
             nativeClient.close();
         } catch (Exception e) {
             String errorMsg = String.format("Error occurred while closing the Redshift client: %s",
@@ -64,7 +64,7 @@ import java.util.Objects;
  * </p>
  */
 public class ParameterizedQuery {
-    private static final BString QUERY_STRINGS = StringUtils.fromString("strings");
+    static final BString QUERY_STRINGS = StringUtils.fromString("strings");
     private static final BString QUERY_INSERTIONS = StringUtils.fromString("insertions");
     private final String[] strings;
     private final String[] insertions;
@@ -132,6 +132,26 @@ public class ParameterizedQuery {
         return query.toString();
     }
 
+    /**
+     * Constructs the query string with the parameter values inlined as escaped string literals.
+     * <p>
+     * The values are quoted as they are passed by {@link #getParameters()}, as text, hence the query can be run
+     * where the parameters are not supported, such as in a batch of statements.
+     * </p>
+     *
+     * @return the query string with the escaped parameter values
+     */
+    public String getInlinedQuery() {
+        StringBuilder query = new StringBuilder();
+        for (int i = 0; i < strings.length; i++) {
+            query.append(strings[i]);
+            if (i < insertions.length) {
+                query.append(CommonUtils.quoteLiteral(insertions[i]));
+            }
+        }
+        return query.toString();
+    }
+
     /**
      * Converts the parameter values into an array of SqlParameter objects.
      * <p>
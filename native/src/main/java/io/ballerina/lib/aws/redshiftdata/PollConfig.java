@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code PollConfig} represents the configurations used to poll the status of a statement until it completes.
+ *
+ * @param initialIntervalMillis The interval between the first status polls in milliseconds.
+ * @param maxIntervalMillis     The maximum interval between two status polls in milliseconds.
+ * @param backoffFactor         The factor by which the poll interval grows after the initial polls.
+ * @param timeoutMillis         The maximum time to wait for the statement to complete in milliseconds.
+ */
+public record PollConfig(long initialIntervalMillis, long maxIntervalMillis, double backoffFactor,
+                         long timeoutMillis) {
+    private static final BString POLL_CONFIG_INITIAL_INTERVAL = StringUtils.fromString("initialInterval");
+    private static final BString POLL_CONFIG_MAX_INTERVAL = StringUtils.fromString("maxInterval");
+    private static final BString POLL_CONFIG_BACKOFF_FACTOR = StringUtils.fromString("backoffFactor");
+    private static final BString POLL_CONFIG_TIMEOUT = StringUtils.fromString("timeout");
+
+    public PollConfig {
+        // The poll configurations are also built for the internal polls, hence they are validated here instead of
+        // with the constraint module
+        if (initialIntervalMillis <= 0) {
+            throw new IllegalArgumentException("The initialInterval should be at least 0.001 seconds");
+        }
+        if (maxIntervalMillis < initialIntervalMillis) {
+            throw new IllegalArgumentException("The maxInterval should be greater than or equal to the " +
+                    "initialInterval");
+        }
+        if (backoffFactor < 1) {
+            throw new IllegalArgumentException("The backoffFactor should be greater than or equal to 1");
+        }
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("The timeout should be at least 0.001 seconds");
+        }
+    }
+
+    public PollConfig(BMap<BString, Object> bPollConfig) {
+        this(
+                CommonUtils.toMillis((BDecimal) bPollConfig.get(POLL_CONFIG_INITIAL_INTERVAL)),
+                CommonUtils.toMillis((BDecimal) bPollConfig.get(POLL_CONFIG_MAX_INTERVAL)),
+                ((BDecimal) bPollConfig.get(POLL_CONFIG_BACKOFF_FACTOR)).floatValue(),
+                CommonUtils.toMillis((BDecimal) bPollConfig.get(POLL_CONFIG_TIMEOUT))
+        );
+    }
+}
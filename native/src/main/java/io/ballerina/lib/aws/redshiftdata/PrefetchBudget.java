@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code PrefetchBudget} tracks the bytes of the result pages buffered ahead by all the open result streams of a
+ * client. A read-ahead reserves the estimated size of its page before the page is requested, and only if the
+ * estimate fits in the budget. The difference to the actual size is settled once the page arrives, hence the limit
+ * is only exceeded by the estimation error of the pages in flight.
+ */
+public class PrefetchBudget {
+    private final long maxBytes;
+    private final AtomicLong bufferedBytes = new AtomicLong();
+
+    public PrefetchBudget(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Reserves the given bytes if they fit in the budget.
+     *
+     * @param bytes the number of bytes to reserve
+     * @return whether the bytes were reserved
+     */
+    public boolean tryReserve(long bytes) {
+        long buffered;
+        do {
+            buffered = bufferedBytes.get();
+            if (buffered + bytes > maxBytes) {
+                return false;
+            }
+        } while (!bufferedBytes.compareAndSet(buffered, buffered + bytes));
+        return true;
+    }
+
+    public void reserve(long bytes) {
+        bufferedBytes.addAndGet(bytes);
+    }
+
+    public void release(long bytes) {
+        bufferedBytes.addAndGet(-bytes);
+    }
+
+    public long bufferedBytes() {
+        return bufferedBytes.get();
+    }
+}
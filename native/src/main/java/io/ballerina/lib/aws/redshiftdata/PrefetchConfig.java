@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code PrefetchConfig} represents the read-ahead configurations of the result streams of a client.
+ *
+ * @param threshold        The share of the current result page to be consumed before the next page is fetched.
+ * @param pages            The maximum number of result pages to be fetched ahead of the current page.
+ * @param maxBufferedBytes The maximum number of bytes buffered ahead across all the open result streams of the
+ *                         client.
+ */
+public record PrefetchConfig(double threshold, int pages, long maxBufferedBytes) {
+    private static final BString PREFETCH_CONFIG_THRESHOLD = StringUtils.fromString("threshold");
+    private static final BString PREFETCH_CONFIG_PAGES = StringUtils.fromString("pages");
+    private static final BString PREFETCH_CONFIG_MAX_BUFFERED_BYTES = StringUtils.fromString("maxBufferedBytes");
+
+    public PrefetchConfig(BMap<BString, Object> bPrefetchConfig) {
+        this(
+                ((BDecimal) bPrefetchConfig.get(PREFETCH_CONFIG_THRESHOLD)).floatValue(),
+                bPrefetchConfig.getIntValue(PREFETCH_CONFIG_PAGES).intValue(),
+                bPrefetchConfig.getIntValue(PREFETCH_CONFIG_MAX_BUFFERED_BYTES)
+        );
+    }
+}
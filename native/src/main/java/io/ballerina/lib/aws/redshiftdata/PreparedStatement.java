@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.SqlParameter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@code PreparedStatement} holds the parts of an execute request which do not change between the executions of a
+ * statement template.
+ * <p>
+ * The SQL text with a named placeholder ({@code :paramN}) for each interpolation of the template, the parameter
+ * names and the request prototype with the resolved database access configurations are built once, so that an
+ * execution only binds the parameter values. The Data API does not accept null parameter values, hence the
+ * executions with a null value render the SQL text again with {@code NULL} in place of the null parameters.
+ * </p>
+ */
+public final class PreparedStatement {
+    private static final String PARAMETER_NAME_PREFIX = "param";
+
+    private final String[] strings;
+    private final String[] parameterNames;
+    private final ExecuteStatementRequest requestPrototype;
+
+    public PreparedStatement(BObject bTemplate, ExecuteStatementRequest requestPrototype) {
+        this.strings = bTemplate.getArrayValue(ParameterizedQuery.QUERY_STRINGS).getStringArray();
+        this.parameterNames = new String[strings.length - 1];
+        for (int i = 0; i < parameterNames.length; i++) {
+            parameterNames[i] = PARAMETER_NAME_PREFIX + i;
+        }
+        // The values interpolated into the template are placeholders, hence their parameters are dropped
+        this.requestPrototype = requestPrototype.toBuilder()
+                .sql(getSql(null))
+                .parameters((Collection<SqlParameter>) null)
+                .build();
+    }
+
+    /**
+     * Binds the parameter values to the request prototype.
+     *
+     * @param bParameters the values of the parameters, in the order of the interpolations of the template
+     * @return the execute request
+     */
+    public ExecuteStatementRequest bind(BArray bParameters) {
+        if (bParameters.size() != parameterNames.length) {
+            throw new IllegalArgumentException(String.format("The prepared statement expects %d parameters, but " +
+                    "%d were given", parameterNames.length, bParameters.size()));
+        }
+        if (parameterNames.length == 0) {
+            return requestPrototype;
+        }
+        Object[] values = new Object[parameterNames.length];
+        List<SqlParameter> parameters = new ArrayList<>(parameterNames.length);
+        boolean hasNullValues = false;
+        for (int i = 0; i < parameterNames.length; i++) {
+            values[i] = bParameters.get(i);
+            if (Objects.isNull(values[i])) {
+                hasNullValues = true;
+                continue;
+            }
+            parameters.add(SqlParameter.builder().name(parameterNames[i]).value(values[i].toString()).build());
+        }
+        ExecuteStatementRequest.Builder builder = requestPrototype.toBuilder();
+        if (hasNullValues) {
+            builder.sql(getSql(values));
+        }
+        if (!parameters.isEmpty()) {
+            builder.parameters(parameters);
+        }
+        return builder.build();
+    }
+
+    public ExecuteStatementRequest requestPrototype() {
+        return requestPrototype;
+    }
+
+    private String getSql(Object[] values) {
+        StringBuilder sql = new StringBuilder();
+        for (int i = 0; i < strings.length; i++) {
+            sql.append(strings[i]);
+            if (i < parameterNames.length) {
+                if (Objects.nonNull(values) && Objects.isNull(values[i])) {
+                    sql.append("NULL");
+                } else {
+                    sql.append(':').append(parameterNames[i]);
+                }
+            }
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * {@code QueryResultCache} is a byte bounded LRU cache of the complete results of the read-only queries of a client.
+ * <p>
+ * An entry is keyed by the normalized SQL text, the parameter values and the effective database access
+ * configurations of the query, and holds all the result pages of the statement. A result is recorded while it is
+ * streamed to the consumer and is only cached once its last page has been fetched. Each entry expires after the TTL
+ * of the query that cached it and can be invalidated by the tags, e.g. the table names, given with the query. A
+ * result which is still being recorded when one of its tags is invalidated is not cached, since it may predate the
+ * write which caused the invalidation.
+ * </p>
+ */
+public class QueryResultCache {
+    // The Data API retains the statement results for 24 hours
+    private static final long MAX_TTL_MILLIS = TimeUnit.HOURS.toMillis(24);
+    private static final Pattern READ_ONLY_QUERY = Pattern.compile("^(select|with)\\b.*",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    // A `SELECT ... INTO` creates a table and a `WITH` clause can precede a data modifying statement
+    private static final Pattern WRITE_CLAUSE = Pattern.compile("\\b(into|insert|update|delete|merge)\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final String CACHE_STATS_RECORD = "CacheStats";
+    private static final BString CACHE_STATS_HITS = StringUtils.fromString("hits");
+    private static final BString CACHE_STATS_MISSES = StringUtils.fromString("misses");
+    private static final BString CACHE_STATS_EVICTIONS = StringUtils.fromString("evictions");
+    private static final BString CACHE_STATS_ENTRIES = StringUtils.fromString("entries");
+    private static final BString CACHE_STATS_BYTES = StringUtils.fromString("bytes");
+
+    private final long maxBytes;
+    // Access ordered, hence the eldest entry is the least recently used one
+    private final LinkedHashMap<ExecuteStatementRequest, CachedResult> results = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    // The invalidation generation at which each tag was last invalidated
+    private final Map<String, Long> tagInvalidations = new HashMap<>();
+    private long cachedBytes = 0;
+    private long invalidationGeneration = 0;
+
+    public QueryResultCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Derives the cache key of a query from its execute request. The whitespace of the SQL text outside the quoted
+     * literals and identifiers is collapsed and the options which do not affect the result, such as the statement
+     * name and the client token, are dropped.
+     *
+     * @param executeRequest the execute request of the query
+     * @return the cache key, or {@code null} if the query is not a read-only query
+     */
+    public static ExecuteStatementRequest getCacheKey(ExecuteStatementRequest executeRequest) {
+        String sql = normalizeSql(executeRequest.sql());
+        if (!READ_ONLY_QUERY.matcher(sql).matches() || WRITE_CLAUSE.matcher(sql).find()) {
+            return null;
+        }
+        return executeRequest.toBuilder()
+                .sql(sql)
+                .clientToken(null)
+                .statementName(null)
+                .withEvent(null)
+                .sessionKeepAliveSeconds(null)
+                .build();
+    }
+
+    private static String normalizeSql(String sql) {
+        StringBuilder normalizedSql = new StringBuilder(sql.length());
+        char quote = 0;
+        boolean whitespace = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (quote == 0 && Character.isWhitespace(c)) {
+                whitespace = !normalizedSql.isEmpty();
+                continue;
+            }
+            if (whitespace) {
+                normalizedSql.append(' ');
+                whitespace = false;
+            }
+            normalizedSql.append(c);
+            if (quote == 0) {
+                if (c == '\'' || c == '"') {
+                    quote = c;
+                }
+            } else if (c == '\\' && quote == '\'' && i + 1 < sql.length()) {
+                // A backslash escaped character of a string literal, which may be the quote itself
+                normalizedSql.append(sql.charAt(++i));
+            } else if (c == quote) {
+                // A doubled quote is read as closing and reopening the literal, which keeps its text intact
+                quote = 0;
+            }
+        }
+        return normalizedSql.toString();
+    }
+
+    public synchronized CachedResult get(ExecuteStatementRequest cacheKey) {
+        CachedResult cachedResult = results.get(cacheKey);
+        if (Objects.isNull(cachedResult)) {
+            misses.increment();
+            return null;
+        }
+        if (cachedResult.expiresAt - System.nanoTime() <= 0) {
+            results.remove(cacheKey);
+            cachedBytes -= cachedResult.bytes;
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return cachedResult;
+    }
+
+    /**
+     * Creates a recorder which caches the result pages of a query once all of them have been fetched.
+     *
+     * @param cacheKey  the cache key of the query
+     * @param ttlMillis the time to live of the cached result in milliseconds
+     * @param tags      the tags by which the cached result can be invalidated
+     * @return the recorder of the result pages
+     */
+    public synchronized Recorder newRecorder(ExecuteStatementRequest cacheKey, long ttlMillis,
+                                             Collection<String> tags) {
+        Set<String> normalizedTags = tags.stream()
+                .map(tag -> tag.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        return new Recorder(cacheKey, Math.min(ttlMillis, MAX_TTL_MILLIS), normalizedTags, invalidationGeneration);
+    }
+
+    private synchronized void put(ExecuteStatementRequest cacheKey, CachedResult cachedResult, long generation) {
+        // The result may predate a write which invalidated one of its tags after the recording started
+        for (String tag : cachedResult.tags) {
+            if (tagInvalidations.getOrDefault(tag, 0L) > generation) {
+                return;
+            }
+        }
+        CachedResult previous = results.put(cacheKey, cachedResult);
+        if (Objects.nonNull(previous)) {
+            cachedBytes -= previous.bytes;
+        }
+        cachedBytes += cachedResult.bytes;
+        Iterator<CachedResult> eldest = results.values().iterator();
+        while (cachedBytes > maxBytes && eldest.hasNext()) {
+            cachedBytes -= eldest.next().bytes;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Removes the cached results of the queries tagged with any of the given tags.
+     *
+     * @param tags the tags to be invalidated
+     * @return the number of removed results
+     */
+    public synchronized long invalidate(Collection<String> tags) {
+        Set<String> normalizedTags = tags.stream()
+                .map(tag -> tag.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        invalidationGeneration++;
+        normalizedTags.forEach(tag -> tagInvalidations.put(tag, invalidationGeneration));
+        long removed = 0;
+        Iterator<CachedResult> iterator = results.values().iterator();
+        while (iterator.hasNext()) {
+            CachedResult cachedResult = iterator.next();
+            if (cachedResult.tags.stream().anyMatch(normalizedTags::contains)) {
+                cachedBytes -= cachedResult.bytes;
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized BMap<BString, Object> getStats() {
+        BMap<BString, Object> stats = ValueCreator.createRecordValue(ModuleUtils.getModule(), CACHE_STATS_RECORD);
+        stats.put(CACHE_STATS_HITS, hits.sum());
+        stats.put(CACHE_STATS_MISSES, misses.sum());
+        stats.put(CACHE_STATS_EVICTIONS, evictions.sum());
+        stats.put(CACHE_STATS_ENTRIES, (long) results.size());
+        stats.put(CACHE_STATS_BYTES, cachedBytes);
+        return stats;
+    }
+
+    /**
+     * The cached result pages of a query, keyed by the token of each page.
+     */
+    public static final class CachedResult {
+        private final String statementId;
+        private final Map<String, GetStatementResultResponse> pages;
+        private final long bytes;
+        private final long expiresAt;
+        private final Set<String> tags;
+
+        private CachedResult(String statementId, Map<String, GetStatementResultResponse> pages, long bytes,
+                             long expiresAt, Set<String> tags) {
+            this.statementId = statementId;
+            this.pages = pages;
+            this.bytes = bytes;
+            this.expiresAt = expiresAt;
+            this.tags = tags;
+        }
+
+        public String statementId() {
+            return statementId;
+        }
+
+        /**
+         * Retrieves a cached page.
+         *
+         * @param nextToken the token of the page, or {@code null} for the first page
+         * @return the cached page
+         */
+        public GetStatementResultResponse page(String nextToken) {
+            return pages.get(nextToken);
+        }
+    }
+
+    /**
+     * Records the result pages of a query as they are fetched, and caches them once the last page is fetched.
+     * Recording is abandoned if the result does not fit into the cache.
+     */
+    public final class Recorder {
+        private final ExecuteStatementRequest cacheKey;
+        private final long ttlMillis;
+        private final Set<String> tags;
+        private final long generation;
+        private final Map<String, GetStatementResultResponse> pages = new HashMap<>();
+        private long bytes = 0;
+        private boolean completed = false;
+
+        private Recorder(ExecuteStatementRequest cacheKey, long ttlMillis, Set<String> tags, long generation) {
+            this.cacheKey = cacheKey;
+            this.ttlMillis = ttlMillis;
+            this.tags = tags;
+            this.generation = generation;
+        }
+
+        public synchronized void record(String statementId, String nextToken, GetStatementResultResponse page) {
+            if (completed) {
+                return;
+            }
+            bytes += ResultPageFetcher.estimateSize(page);
+            if (bytes > maxBytes) {
+                completed = true;
+                pages.clear();
+                return;
+            }
+            pages.put(nextToken, page);
+            if (Objects.isNull(page.nextToken())) {
+                // The recorded pages are handed over to the cache, hence nothing is recorded further
+                completed = true;
+                put(cacheKey, new CachedResult(statementId, pages, bytes,
+                        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMillis), tags), generation);
+            }
+        }
+    }
+}
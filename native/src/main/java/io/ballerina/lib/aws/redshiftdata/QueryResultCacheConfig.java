@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code QueryResultCacheConfig} represents the configurations of the query result cache of a client.
+ *
+ * @param maxBytes The maximum number of bytes held by the cache.
+ */
+public record QueryResultCacheConfig(long maxBytes) {
+    private static final BString QUERY_RESULT_CACHE_MAX_BYTES = StringUtils.fromString("maxBytes");
+
+    public QueryResultCacheConfig(BMap<BString, Object> bQueryResultCacheConfig) {
+        this(bQueryResultCacheConfig.getIntValue(QUERY_RESULT_CACHE_MAX_BYTES));
+    }
+}
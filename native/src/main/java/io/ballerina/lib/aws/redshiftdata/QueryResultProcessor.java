@@ -18,28 +18,31 @@
 
 package io.ballerina.lib.aws.redshiftdata;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BStream;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
-import software.amazon.awssdk.services.redshiftdata.RedshiftDataClient;
 import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
-import software.amazon.awssdk.services.redshiftdata.model.Field;
-import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
 import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Response;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
-import static io.ballerina.lib.aws.redshiftdata.NativeClientAdaptor.NATIVE_CLIENT;
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 
 /**
@@ -47,67 +50,61 @@ import static io.ballerina.runtime.api.utils.StringUtils.fromString;
  */
 public class QueryResultProcessor {
     private static final String RESULT_ITERATOR_OBJECT = "ResultIterator";
-    private static final String RESULT_ITERATOR_RESULT_RESPONSE = "ResultResponse";
-    private static final String RESULT_ITERATOR_RECORD_TYPE = "RecordType";
-    private static final String RESULT_ITERATOR_CURRENT_RESULT_INDEX = "Index";
-    private static final String RESULT_ITERATOR_COLUMN_INDEX_MAP = "IndexMap"; // field name -> result column index
-    private static final String RESULT_ITERATOR_NATIVE_CLIENT = "nativeClient";
-    private static final String RESULT_ITERATOR_STATEMENT_ID = "statementId";
+    private static final String BATCH_RESULT_ITERATOR_OBJECT = "BatchResultIterator";
+    private static final String RESULT_ITERATOR_CURSOR = "ResultCursor";
     private static final String RECORD_FIELD_ANN_PREFIX = "$field$.";
     private static final String SQL_COLUMN_ANNOTATION = "ballerina/sql:1:Column";
     private static final BString ANN_COLUMN_NAME_FIELD = fromString("name");
+    // record type -> (ballerina field name -> annotated column name)
+    private static final Map<RecordType, Map<String, String>> ANNOTATION_MAP_CACHE = new ConcurrentHashMap<>();
 
     private QueryResultProcessor() {
     }
 
-    public static BStream getRecordStream(RedshiftDataClient nativeClient, String statementId,
+    public static BStream getRecordStream(ResultPageFetcher pageFetcher,
                                           GetStatementResultResponse nativeResultResponse, BTypedesc recordType)
             throws Exception {
         try {
-            List<ColumnMetadata> columnMetadata = nativeResultResponse.columnMetadata();
-            RecordType streamConstraint = (RecordType) TypeUtils.getReferredType(
-                    recordType.getDescribingType());
-
-            List<String> resultFields = columnMetadata.stream().map(ColumnMetadata::name).toList();
-            // Get the ballerina field names and the corresponding annotated column names
-            Map<String, String> ballerinaFieldMap = getAnnotationMap(streamConstraint);
-
-            // Map the field name with result column index
-            Map<String, Integer> columnIndexMap = new HashMap<>();
-            int columnIndex = -1;
-            for (String ballerinaField : ballerinaFieldMap.keySet()) {
-                String annotatedColumnName = ballerinaFieldMap.get(ballerinaField);
-                columnIndex = resultFields.indexOf(annotatedColumnName);
-                if (columnIndex == -1) {
-                    throw new Exception("Field '" + annotatedColumnName + "' not found in the result set.");
-                }
-                columnIndexMap.put(ballerinaField, columnIndex);
-            }
-            if (streamConstraint.isSealed()) {
-                // Ensure no extra fields are present in result set
-                for (String resultField : resultFields) {
-                    if (!columnIndexMap.containsKey(resultField) && !ballerinaFieldMap.containsValue(resultField)) {
-                        throw new Exception("Field '" + resultField + "' not found in the record type.");
-                    }
-                }
-            } else {
-                // Add all the fields from the result set to the record type
-                for (int i = 0; i < resultFields.size(); i++) {
-                    if (!columnIndexMap.containsKey(resultFields.get(i))) {
-                        columnIndexMap.put(resultFields.get(i), i);
-                    }
-                }
-            }
-
+            RecordType streamConstraint = getRecordType(recordType);
+            ResultCursor cursor = new ResultCursor(pageFetcher, streamConstraint,
+                    getMappingPlan(streamConstraint, nativeResultResponse), nativeResultResponse);
             BObject resultIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(), RESULT_ITERATOR_OBJECT);
-            resultIterator.addNativeData(RESULT_ITERATOR_RESULT_RESPONSE, nativeResultResponse);
-            resultIterator.addNativeData(RESULT_ITERATOR_CURRENT_RESULT_INDEX, 0L);
-            resultIterator.addNativeData(RESULT_ITERATOR_COLUMN_INDEX_MAP, columnIndexMap);
-            resultIterator.addNativeData(RESULT_ITERATOR_RECORD_TYPE, streamConstraint);
-            // Add additional data for fetching the next result set
-            resultIterator.addNativeData(RESULT_ITERATOR_STATEMENT_ID, statementId);
-            resultIterator.addNativeData(NATIVE_CLIENT, nativeClient);
+            resultIterator.addNativeData(RESULT_ITERATOR_CURSOR, cursor);
+            return ValueCreator.createStreamValue(TypeCreator.createStreamType(streamConstraint,
+                    PredefinedTypes.TYPE_NULL), resultIterator);
+        } catch (Exception e) {
+            throw new Exception("Error occurred while creating the Record Stream: "
+                    + Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
+        }
+    }
+
+    public static BStream getBatchStream(ResultPageFetcher pageFetcher,
+                                         GetStatementResultResponse nativeResultResponse, BTypedesc recordType,
+                                         int batchSize) throws Exception {
+        try {
+            RecordType streamConstraint = getRecordType(recordType);
+            ResultCursor cursor = new ResultCursor(pageFetcher, streamConstraint,
+                    getMappingPlan(streamConstraint, nativeResultResponse), nativeResultResponse, batchSize);
+            BObject batchIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                    BATCH_RESULT_ITERATOR_OBJECT);
+            batchIterator.addNativeData(RESULT_ITERATOR_CURSOR, cursor);
+            return ValueCreator.createStreamValue(TypeCreator.createStreamType(cursor.batchType(),
+                    PredefinedTypes.TYPE_NULL), batchIterator);
+        } catch (Exception e) {
+            throw new Exception("Error occurred while creating the Record Batch Stream: "
+                    + Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
+        }
+    }
 
+    public static BStream getRecordStream(ResultPageFetcher pageFetcher, GetStatementResultV2Response firstPage,
+                                          BTypedesc recordType) throws Exception {
+        try {
+            RecordType streamConstraint = getRecordType(recordType);
+            ResultCursor cursor = new ResultCursor(pageFetcher, streamConstraint,
+                    getMappingPlan(streamConstraint, firstPage.columnMetadata()),
+                    new CsvResultPage(firstPage, firstPage.columnMetadata(), true), 1);
+            BObject resultIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(), RESULT_ITERATOR_OBJECT);
+            resultIterator.addNativeData(RESULT_ITERATOR_CURSOR, cursor);
             return ValueCreator.createStreamValue(TypeCreator.createStreamType(streamConstraint,
                     PredefinedTypes.TYPE_NULL), resultIterator);
         } catch (Exception e) {
@@ -116,8 +113,102 @@ public class QueryResultProcessor {
         }
     }
 
+    public static BStream getBatchStream(ResultPageFetcher pageFetcher, GetStatementResultV2Response firstPage,
+                                         BTypedesc recordType, int batchSize) throws Exception {
+        try {
+            RecordType streamConstraint = getRecordType(recordType);
+            ResultCursor cursor = new ResultCursor(pageFetcher, streamConstraint,
+                    getMappingPlan(streamConstraint, firstPage.columnMetadata()),
+                    new CsvResultPage(firstPage, firstPage.columnMetadata(), true), batchSize);
+            BObject batchIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                    BATCH_RESULT_ITERATOR_OBJECT);
+            batchIterator.addNativeData(RESULT_ITERATOR_CURSOR, cursor);
+            return ValueCreator.createStreamValue(TypeCreator.createStreamType(cursor.batchType(),
+                    PredefinedTypes.TYPE_NULL), batchIterator);
+        } catch (Exception e) {
+            throw new Exception("Error occurred while creating the Record Batch Stream: "
+                    + Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
+        }
+    }
+
+    private static RecordType getRecordType(BTypedesc recordType) {
+        return (RecordType) TypeUtils.getReferredType(recordType.getDescribingType());
+    }
+
+    static RowMappingPlan getMappingPlan(RecordType streamConstraint,
+                                         GetStatementResultResponse nativeResultResponse) throws Exception {
+        return getMappingPlan(streamConstraint, nativeResultResponse.columnMetadata());
+    }
+
+    private static RowMappingPlan getMappingPlan(RecordType streamConstraint, List<ColumnMetadata> columnMetadata)
+            throws Exception {
+        return RowMappingPlan.getPlan(streamConstraint, columnMetadata,
+                () -> createMappingPlan(streamConstraint, columnMetadata));
+    }
+
+    private static RowMappingPlan createMappingPlan(RecordType streamConstraint, List<ColumnMetadata> columnMetadata)
+            throws Exception {
+        List<String> resultFields = columnMetadata.stream().map(ColumnMetadata::name).toList();
+        // Get the ballerina field names and the corresponding annotated column names
+        Map<String, String> ballerinaFieldMap = getAnnotationMap(streamConstraint);
+
+        // Map the field name with result column index
+        Map<String, Integer> columnIndexMap = new LinkedHashMap<>();
+        int columnIndex = -1;
+        for (String ballerinaField : ballerinaFieldMap.keySet()) {
+            String annotatedColumnName = ballerinaFieldMap.get(ballerinaField);
+            columnIndex = resultFields.indexOf(annotatedColumnName);
+            if (columnIndex == -1) {
+                throw new Exception("Field '" + annotatedColumnName + "' not found in the result set.");
+            }
+            columnIndexMap.put(ballerinaField, columnIndex);
+        }
+        if (streamConstraint.isSealed()) {
+            // Ensure no extra fields are present in result set
+            for (String resultField : resultFields) {
+                if (!columnIndexMap.containsKey(resultField) && !ballerinaFieldMap.containsValue(resultField)) {
+                    throw new Exception("Field '" + resultField + "' not found in the record type.");
+                }
+            }
+        } else {
+            // Add all the fields from the result set to the record type
+            for (int i = 0; i < resultFields.size(); i++) {
+                if (!columnIndexMap.containsKey(resultFields.get(i))) {
+                    columnIndexMap.put(resultFields.get(i), i);
+                }
+            }
+        }
+
+        // Flatten the mapping into parallel arrays
+        BString[] fieldNames = new BString[columnIndexMap.size()];
+        int[] columnIndexes = new int[columnIndexMap.size()];
+        FieldConverter[] converters = new FieldConverter[columnIndexMap.size()];
+        TextConverter[] textConverters = new TextConverter[columnIndexMap.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> mapping : columnIndexMap.entrySet()) {
+            fieldNames[i] = fromString(mapping.getKey());
+            columnIndexes[i] = mapping.getValue();
+            ColumnMetadata column = columnMetadata.get(mapping.getValue());
+            Type fieldType = getFieldType(streamConstraint, mapping.getKey());
+            converters[i] = FieldConverters.getConverter(column, fieldType);
+            textConverters[i] = FieldConverters.getTextConverter(column, fieldType);
+            i++;
+        }
+        return new RowMappingPlan(fieldNames, columnIndexes, converters, textConverters);
+    }
+
+    // Returns the declared type of the record field, or null for the columns mapped to the rest field
+    private static Type getFieldType(RecordType recordType, String fieldName) {
+        Field recordField = recordType.getFields().get(fieldName);
+        return Objects.isNull(recordField) ? null : recordField.getFieldType();
+    }
+
+    static Map<String, String> getAnnotationMap(RecordType streamConstraint) {
+        return ANNOTATION_MAP_CACHE.computeIfAbsent(streamConstraint, QueryResultProcessor::createAnnotationMap);
+    }
+
     @SuppressWarnings("unchecked")
-    private static Map<String, String> getAnnotationMap(RecordType streamConstraint) {
+    private static Map<String, String> createAnnotationMap(RecordType streamConstraint) {
         Map<String, String> annotatationMap = new HashMap<>();
         String[] fields = streamConstraint.getFields().keySet().toArray(new String[0]);
         for (String fieldName : fields) {
@@ -138,81 +229,76 @@ public class QueryResultProcessor {
         return annotatationMap;
     }
 
-    @SuppressWarnings("unchecked")
-    public static Object nextResult(BObject bResultIterator) {
-        RecordType recordType = (RecordType) bResultIterator.getNativeData(RESULT_ITERATOR_RECORD_TYPE);
-        long index = (long) bResultIterator.getNativeData(RESULT_ITERATOR_CURRENT_RESULT_INDEX);
-        Map<String, Integer> columnIndexMap = (Map<String, Integer>) bResultIterator
-                .getNativeData(RESULT_ITERATOR_COLUMN_INDEX_MAP);
-        GetStatementResultResponse resultResponse = (GetStatementResultResponse) bResultIterator
-                .getNativeData(RESULT_ITERATOR_RESULT_RESPONSE);
-
-        List<List<Field>> rows = resultResponse.records();
-        try {
-            // Fetch the next record when the current result set is processed
-            if (index >= rows.size() && Objects.nonNull(resultResponse.nextToken())) {
-                RedshiftDataClient nativeClient = (RedshiftDataClient) bResultIterator
-                        .getNativeData(RESULT_ITERATOR_NATIVE_CLIENT);
-                String statementId = (String) bResultIterator.getNativeData(RESULT_ITERATOR_STATEMENT_ID);
-
-                resultResponse = nativeClient.getStatementResult(
-                        GetStatementResultRequest.builder()
-                                .id(statementId).nextToken(resultResponse.nextToken()).build());
-                rows = resultResponse.records();
-                index = 0;
-                bResultIterator.addNativeData(RESULT_ITERATOR_CURRENT_RESULT_INDEX, index);
-                bResultIterator.addNativeData(RESULT_ITERATOR_RESULT_RESPONSE, resultResponse);
-            }
+    public static Object nextResult(Environment env, BObject bResultIterator) {
+        return next(env, bResultIterator, ResultCursor::nextRecord);
+    }
 
-            if (index < rows.size()) {
-                List<Field> row = rows.get((int) index);
-                BMap<BString, Object> record = ValueCreator.createRecordValue(recordType.getPackage(),
-                        recordType.getName());
+    public static Object nextBatch(Environment env, BObject bBatchIterator) {
+        return next(env, bBatchIterator, ResultCursor::nextBatch);
+    }
 
-                for (String fieldName : columnIndexMap.keySet()) {
-                    int columnIndex = columnIndexMap.get(fieldName);
-                    Field field = row.get(columnIndex);
-                    record.put(fromString(fieldName), getFieldValue(field));
-                }
-                bResultIterator.addNativeData(RESULT_ITERATOR_CURRENT_RESULT_INDEX, index + 1);
-                return record;
-            }
-            closeResult(bResultIterator);
+    private static Object next(Environment env, BObject bIterator, CursorReader reader) {
+        ResultCursor cursor = (ResultCursor) bIterator.getNativeData(RESULT_ITERATOR_CURSOR);
+        // Fetch the next result page when the current result page is processed
+        if (cursor.needsNextPage()) {
+            Future future = env.markAsync();
+            fetchNextPage(future, bIterator, cursor, reader);
             return null;
-        } catch (Exception e) {
-            closeResult(bResultIterator);
-            String errorMsg = String.format("Error occurred while iterating the Query result: %s",
-                    Objects.requireNonNullElse(e.getMessage(), "Unknown error"));
-            return CommonUtils.createError(errorMsg, e);
         }
+        return read(bIterator, cursor, reader);
     }
 
-    private static Object getFieldValue(Field field) {
-        if (field.stringValue() != null) {
-            return fromString(field.stringValue());
-        }
-        if (field.booleanValue() != null) {
-            return field.booleanValue();
-        }
-        if (field.longValue() != null) {
-            return field.longValue();
-        }
-        if (field.doubleValue() != null) {
-            return field.doubleValue();
+    private static void fetchNextPage(Future future, BObject bIterator, ResultCursor cursor,
+                                      CursorReader reader) {
+        cursor.fetchNextPage()
+                .whenComplete((ignored, throwable) -> {
+                    if (Objects.nonNull(throwable)) {
+                        future.complete(createIterationError(bIterator,
+                                CommonUtils.unwrapCompletionException(throwable)));
+                        return;
+                    }
+                    // Skip over empty result pages until a row or the end of the result is reached
+                    if (cursor.needsNextPage()) {
+                        fetchNextPage(future, bIterator, cursor, reader);
+                        return;
+                    }
+                    future.complete(read(bIterator, cursor, reader));
+                });
+    }
+
+    private static Object read(BObject bIterator, ResultCursor cursor, CursorReader reader) {
+        try {
+            Object value = reader.read(cursor);
+            if (Objects.isNull(value)) {
+                closeResult(bIterator);
+            }
+            return value;
+        } catch (Exception e) {
+            return createIterationError(bIterator, e);
         }
-        return null;
+    }
+
+    private static Object createIterationError(BObject bIterator, Throwable throwable) {
+        closeResult(bIterator);
+        String errorMsg = String.format("Error occurred while iterating the Query result: %s",
+                Objects.requireNonNullElse(throwable.getMessage(), "Unknown error"));
+        return CommonUtils.createError(errorMsg, throwable);
     }
 
     public static void closeResult(BObject recordIterator) {
         try {
-            recordIterator.addNativeData(RESULT_ITERATOR_RESULT_RESPONSE, null);
-            recordIterator.addNativeData(RESULT_ITERATOR_RECORD_TYPE, null);
-            recordIterator.addNativeData(RESULT_ITERATOR_CURRENT_RESULT_INDEX, null);
-            recordIterator.addNativeData(RESULT_ITERATOR_COLUMN_INDEX_MAP, null);
-            recordIterator.addNativeData(RESULT_ITERATOR_NATIVE_CLIENT, null);
-            recordIterator.addNativeData(RESULT_ITERATOR_STATEMENT_ID, null);
+            Object cursor = recordIterator.getNativeData(RESULT_ITERATOR_CURSOR);
+            if (cursor instanceof ResultCursor resultCursor) {
+                resultCursor.close();
+            }
+            recordIterator.addNativeData(RESULT_ITERATOR_CURSOR, null);
         } catch (Exception e) {
             throw new RuntimeException("Error occurred while closing the Query result: " + e.getMessage());
         }
     }
+
+    @FunctionalInterface
+    private interface CursorReader {
+        Object read(ResultCursor cursor) throws Exception;
+    }
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.Field;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code ResultCursor} holds the iteration state of a result stream, i.e. the current result page, the position in
+ * the page, the row mapping plan and the page fetcher of the statement.
+ * <p>
+ * The state is kept in a single object so that the iterators retrieve it with a single native data lookup. The
+ * current page is either a JSON page of {@code GetStatementResult} or a {@link CsvResultPage}, depending on the
+ * result format of the statement.
+ * </p>
+ */
+public final class ResultCursor {
+    private final ResultPageFetcher pageFetcher;
+    private final RecordType recordType;
+    private final RowMappingPlan mappingPlan;
+    private final ArrayType batchType;
+    private final int batchSize;
+    private final long startTime = System.nanoTime();
+    private GetStatementResultResponse currentPage;
+    private CsvResultPage currentCsvPage;
+    private int index = 0;
+    private long rows = 0;
+    private long bytes = 0;
+    private boolean closed = false;
+
+    public ResultCursor(ResultPageFetcher pageFetcher, RecordType recordType, RowMappingPlan mappingPlan,
+                        GetStatementResultResponse firstPage) {
+        this(pageFetcher, recordType, mappingPlan, firstPage, 1);
+    }
+
+    public ResultCursor(ResultPageFetcher pageFetcher, RecordType recordType, RowMappingPlan mappingPlan,
+                        GetStatementResultResponse firstPage, int batchSize) {
+        this(pageFetcher, recordType, mappingPlan, batchSize);
+        setCurrentPage(firstPage);
+    }
+
+    public ResultCursor(ResultPageFetcher pageFetcher, RecordType recordType, RowMappingPlan mappingPlan,
+                        CsvResultPage firstPage, int batchSize) {
+        this(pageFetcher, recordType, mappingPlan, batchSize);
+        setCurrentPage(firstPage);
+    }
+
+    private ResultCursor(ResultPageFetcher pageFetcher, RecordType recordType, RowMappingPlan mappingPlan,
+                         int batchSize) {
+        this.pageFetcher = pageFetcher;
+        this.recordType = recordType;
+        this.mappingPlan = mappingPlan;
+        this.batchSize = batchSize;
+        this.batchType = TypeCreator.createArrayType(recordType);
+        ConnectorMetrics.streams().opened();
+    }
+
+    public ResultPageFetcher pageFetcher() {
+        return pageFetcher;
+    }
+
+    public ArrayType batchType() {
+        return batchType;
+    }
+
+    public void setCurrentPage(GetStatementResultResponse page) {
+        currentPage = page;
+        index = 0;
+        pageFetcher.setCurrentPage(page);
+        pageRead(page.records().size(), ResultPageFetcher.estimateSize(page));
+    }
+
+    public void setCurrentPage(CsvResultPage page) {
+        currentCsvPage = page;
+        index = 0;
+        pageRead(page.rowCount(), page.bytes());
+    }
+
+    private void pageRead(int pageRows, long pageBytes) {
+        rows += pageRows;
+        bytes += pageBytes;
+        ConnectorMetrics.streams().pageRead(pageRows, pageBytes);
+    }
+
+    /**
+     * Checks whether the rows of the current page are consumed while more pages are available.
+     *
+     * @return {@code true} if the next page needs to be fetched before reading further rows
+     */
+    public boolean needsNextPage() {
+        return index >= pageRowCount() && Objects.nonNull(nextToken());
+    }
+
+    public String nextToken() {
+        return Objects.nonNull(currentCsvPage) ? currentCsvPage.nextToken() : currentPage.nextToken();
+    }
+
+    /**
+     * Fetches the next result page and makes it the current page.
+     *
+     * @return the future which completes once the next page is the current page
+     */
+    public CompletableFuture<Void> fetchNextPage() {
+        if (Objects.nonNull(currentCsvPage)) {
+            CsvResultPage previousPage = currentCsvPage;
+            return pageFetcher.nextCsvPage(previousPage.nextToken()).thenAccept(page ->
+                    setCurrentPage(new CsvResultPage(page, previousPage.columnMetadata(), false)));
+        }
+        return pageFetcher.nextPage(currentPage.nextToken()).thenAccept(this::setCurrentPage);
+    }
+
+    /**
+     * Maps the next row of the current page.
+     *
+     * @return the next record, or {@code null} if the result is fully consumed
+     * @throws Exception if the row cannot be mapped to the record type
+     */
+    public BMap<BString, Object> nextRecord() throws Exception {
+        if (index >= pageRowCount()) {
+            return null;
+        }
+        BMap<BString, Object> record = createRecord(index);
+        index++;
+        pageFetcher.onRowsConsumed(index);
+        return record;
+    }
+
+    /**
+     * Maps up to the batch size of the remaining rows of the current page.
+     *
+     * @return the next batch of records, or {@code null} if the result is fully consumed
+     * @throws Exception if a row cannot be mapped to the record type
+     */
+    public BArray nextBatch() throws Exception {
+        int rowCount = pageRowCount();
+        if (index >= rowCount) {
+            return null;
+        }
+        int end = Math.min(rowCount, index + batchSize);
+        BArray batch = ValueCreator.createArrayValue(batchType);
+        for (int i = index; i < end; i++) {
+            batch.append(createRecord(i));
+        }
+        index = end;
+        pageFetcher.onRowsConsumed(index);
+        return batch;
+    }
+
+    public void close() {
+        if (!closed) {
+            closed = true;
+            ConnectorMetrics.streams().closed(rows, bytes, System.nanoTime() - startTime);
+        }
+        pageFetcher.close();
+    }
+
+    private int pageRowCount() {
+        return Objects.nonNull(currentCsvPage) ? currentCsvPage.rowCount() : currentPage.records().size();
+    }
+
+    // The rows of a CSV page are decoded in order, hence the row index only applies to the JSON pages
+    private BMap<BString, Object> createRecord(int rowIndex) throws Exception {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName());
+        if (Objects.nonNull(currentCsvPage)) {
+            mappingPlan.populate(record, currentCsvPage.nextRow());
+        } else {
+            List<Field> row = currentPage.records().get(rowIndex);
+            mappingPlan.populate(record, row);
+        }
+        return record;
+    }
+}
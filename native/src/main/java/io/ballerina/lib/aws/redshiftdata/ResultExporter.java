@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+import software.amazon.awssdk.services.redshiftdata.model.Field;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@code ResultExporter} streams the result pages of a statement to a CSV or NDJSON file.
+ * <p>
+ * The rows are encoded directly from the result {@link Field}s into a character buffer, which is flushed through a
+ * buffered (and optionally gzip compressed) stream over a {@link FileChannel}, hence no Ballerina values are created
+ * for the exported rows. The values are written as they are mapped by {@link FieldConverter#DEFAULT}. The export runs
+ * on a small pool of export threads, since it blocks on the file writes, and the read-ahead of the page fetcher
+ * overlaps the fetching of the next page with the writes of the current page.
+ * </p>
+ */
+public final class ResultExporter {
+    private static final int OUTPUT_BUFFER_BYTES = 64 * 1024;
+    private static final int FLUSH_THRESHOLD_CHARS = 32 * 1024;
+
+    // The exports beyond this many are queued until an export thread is free
+    private static final int MAX_EXPORT_THREADS = 4;
+    private static final long EXPORT_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private static final ExecutorService EXPORT_EXECUTOR = createExportExecutor();
+
+    private ResultExporter() {
+    }
+
+    private static ExecutorService createExportExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_EXPORT_THREADS, MAX_EXPORT_THREADS,
+                EXPORT_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread exportThread = new Thread(runnable);
+            exportThread.setName("balx-awsredshiftdata-export-thread");
+            exportThread.setDaemon(true);
+            return exportThread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * The file formats supported by the export.
+     */
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * The summary of a completed export.
+     *
+     * @param rows  The number of rows written.
+     * @param bytes The number of bytes written to the file.
+     */
+    public record ExportSummary(long rows, long bytes) {
+    }
+
+    /**
+     * Exports the result of a statement to a file. An existing file is overwritten.
+     *
+     * @param pageFetcher the page fetcher of the statement
+     * @param path        the path of the file
+     * @param format      the file format
+     * @param gzip        whether the file is gzip compressed
+     * @return the summary of the export
+     */
+    public static CompletableFuture<ExportSummary> export(ResultPageFetcher pageFetcher, Path path, Format format,
+                                                          boolean gzip) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return write(pageFetcher, path, format, gzip);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            } finally {
+                pageFetcher.close();
+            }
+        }, EXPORT_EXECUTOR);
+    }
+
+    private static ExportSummary write(ResultPageFetcher pageFetcher, Path path, Format format, boolean gzip)
+            throws IOException {
+        long rows = 0;
+        try (OutputStream output = openOutputStream(path, gzip)) {
+            GetStatementResultResponse page = pageFetcher.firstPage().join();
+            RowEncoder encoder = format == Format.CSV ?
+                    new CsvEncoder(page.columnMetadata()) : new NdJsonEncoder(page.columnMetadata());
+            StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD_CHARS * 2);
+            encoder.writeHeader(buffer);
+            while (true) {
+                pageFetcher.setCurrentPage(page);
+                // The read-ahead of the next page is started before the current page is written
+                pageFetcher.onRowsConsumed(page.records().size());
+                for (List<Field> row : page.records()) {
+                    encoder.writeRow(row, buffer);
+                    rows++;
+                    if (buffer.length() >= FLUSH_THRESHOLD_CHARS) {
+                        flush(buffer, output);
+                    }
+                }
+                if (Objects.isNull(page.nextToken())) {
+                    break;
+                }
+                page = pageFetcher.nextPage(page.nextToken()).join();
+            }
+            flush(buffer, output);
+        }
+        return new ExportSummary(rows, Files.size(path));
+    }
+
+    private static OutputStream openOutputStream(Path path, boolean gzip) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        OutputStream channelStream = Channels.newOutputStream(channel);
+        return gzip ? new GZIPOutputStream(channelStream, OUTPUT_BUFFER_BYTES) :
+                new BufferedOutputStream(channelStream, OUTPUT_BUFFER_BYTES);
+    }
+
+    private static void flush(StringBuilder buffer, OutputStream output) throws IOException {
+        if (buffer.length() > 0) {
+            output.write(buffer.toString().getBytes(StandardCharsets.UTF_8));
+            buffer.setLength(0);
+        }
+    }
+
+    private interface RowEncoder {
+        void writeHeader(StringBuilder buffer);
+
+        void writeRow(List<Field> row, StringBuilder buffer);
+    }
+
+    private static final class CsvEncoder implements RowEncoder {
+        private final List<ColumnMetadata> columns;
+
+        private CsvEncoder(List<ColumnMetadata> columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public void writeHeader(StringBuilder buffer) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                appendCsvString(columns.get(i).name(), buffer);
+            }
+            buffer.append('\n');
+        }
+
+        @Override
+        public void writeRow(List<Field> row, StringBuilder buffer) {
+            for (int i = 0; i < row.size(); i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                Field field = row.get(i);
+                if (Objects.nonNull(field.stringValue())) {
+                    appendCsvString(field.stringValue(), buffer);
+                } else if (Objects.nonNull(field.booleanValue())) {
+                    buffer.append(field.booleanValue().booleanValue());
+                } else if (Objects.nonNull(field.longValue())) {
+                    buffer.append(field.longValue().longValue());
+                } else if (Objects.nonNull(field.doubleValue())) {
+                    buffer.append(field.doubleValue().doubleValue());
+                }
+                // Null values are written as empty values
+            }
+            buffer.append('\n');
+        }
+
+        private static void appendCsvString(String value, StringBuilder buffer) {
+            boolean quoted = value.isEmpty();
+            for (int i = 0; i < value.length() && !quoted; i++) {
+                char c = value.charAt(i);
+                quoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quoted) {
+                buffer.append(value);
+                return;
+            }
+            // Empty strings are quoted to distinguish them from null values
+            buffer.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(c);
+            }
+            buffer.append('"');
+        }
+    }
+
+    private static final class NdJsonEncoder implements RowEncoder {
+        // The `"<column>":` prefix of each column
+        private final String[] keys;
+
+        private NdJsonEncoder(List<ColumnMetadata> columns) {
+            this.keys = new String[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                StringBuilder key = new StringBuilder();
+                appendJsonString(columns.get(i).name(), key);
+                keys[i] = key.append(':').toString();
+            }
+        }
+
+        @Override
+        public void writeHeader(StringBuilder buffer) {
+        }
+
+        @Override
+        public void writeRow(List<Field> row, StringBuilder buffer) {
+            buffer.append('{');
+            for (int i = 0; i < row.size(); i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(keys[i]);
+                Field field = row.get(i);
+                if (Objects.nonNull(field.stringValue())) {
+                    appendJsonString(field.stringValue(), buffer);
+                } else if (Objects.nonNull(field.booleanValue())) {
+                    buffer.append(field.booleanValue().booleanValue());
+                } else if (Objects.nonNull(field.longValue())) {
+                    buffer.append(field.longValue().longValue());
+                } else if (Objects.nonNull(field.doubleValue()) && Double.isFinite(field.doubleValue())) {
+                    buffer.append(field.doubleValue().doubleValue());
+                } else if (Objects.nonNull(field.doubleValue())) {
+                    // JSON has no representation for NaN and infinite numbers
+                    appendJsonString(field.doubleValue().toString(), buffer);
+                } else {
+                    buffer.append("null");
+                }
+            }
+            buffer.append("}\n");
+        }
+
+        private static void appendJsonString(String value, StringBuilder buffer) {
+            buffer.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> buffer.append("\\\"");
+                    case '\\' -> buffer.append("\\\\");
+                    case '\n' -> buffer.append("\\n");
+                    case '\r' -> buffer.append("\\r");
+                    case '\t' -> buffer.append("\\t");
+                    case '\b' -> buffer.append("\\b");
+                    case '\f' -> buffer.append("\\f");
+                    default -> {
+                        if (c < 0x20) {
+                            buffer.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            buffer.append(c);
+                        }
+                    }
+                }
+            }
+            buffer.append('"');
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code ResultPageCache} is a byte bounded LRU cache of the decoded result pages of a client, keyed by the statement
+ * identifier and the token of the page.
+ * <p>
+ * The results of a statement are immutable once it is finished, hence a cached page can be served to any number of
+ * result streams without a network call. The entries expire within the 24 hour result retention of the Data API.
+ * </p>
+ */
+public class ResultPageCache {
+    // The Data API retains the statement results for 24 hours
+    private static final long MAX_TTL_MILLIS = TimeUnit.HOURS.toMillis(24);
+    private static final String CACHE_STATS_RECORD = "CacheStats";
+    private static final BString CACHE_STATS_HITS = StringUtils.fromString("hits");
+    private static final BString CACHE_STATS_MISSES = StringUtils.fromString("misses");
+    private static final BString CACHE_STATS_EVICTIONS = StringUtils.fromString("evictions");
+    private static final BString CACHE_STATS_ENTRIES = StringUtils.fromString("entries");
+    private static final BString CACHE_STATS_BYTES = StringUtils.fromString("bytes");
+
+    private final long maxBytes;
+    private final long ttlNanos;
+    // Access ordered, hence the eldest entry is the least recently used one
+    private final LinkedHashMap<PageKey, CachedPage> pages = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long cachedBytes = 0;
+
+    public ResultPageCache(ResultPageCacheConfig config) {
+        this.maxBytes = config.maxBytes();
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.min(config.ttlMillis(), MAX_TTL_MILLIS));
+    }
+
+    /**
+     * Retrieves a cached result page.
+     *
+     * @param statementId the identifier of the statement
+     * @param nextToken   the token of the result page, or {@code null} for the first page
+     * @return the cached page, or {@code null} if the page is not cached or has expired
+     */
+    public synchronized GetStatementResultResponse get(String statementId, String nextToken) {
+        PageKey key = new PageKey(statementId, nextToken);
+        CachedPage cachedPage = pages.get(key);
+        if (Objects.isNull(cachedPage)) {
+            misses.increment();
+            return null;
+        }
+        if (cachedPage.expiresAt() - System.nanoTime() <= 0) {
+            pages.remove(key);
+            cachedBytes -= cachedPage.bytes();
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return cachedPage.page();
+    }
+
+    public synchronized void put(String statementId, String nextToken, GetStatementResultResponse page) {
+        long bytes = ResultPageFetcher.estimateSize(page);
+        if (bytes > maxBytes) {
+            return;
+        }
+        CachedPage previous = pages.put(new PageKey(statementId, nextToken),
+                new CachedPage(page, bytes, System.nanoTime() + ttlNanos));
+        if (Objects.nonNull(previous)) {
+            cachedBytes -= previous.bytes();
+        }
+        cachedBytes += bytes;
+        Iterator<CachedPage> eldest = pages.values().iterator();
+        while (cachedBytes > maxBytes && eldest.hasNext()) {
+            cachedBytes -= eldest.next().bytes();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    public synchronized BMap<BString, Object> getStats() {
+        BMap<BString, Object> stats = ValueCreator.createRecordValue(ModuleUtils.getModule(), CACHE_STATS_RECORD);
+        stats.put(CACHE_STATS_HITS, hits.sum());
+        stats.put(CACHE_STATS_MISSES, misses.sum());
+        stats.put(CACHE_STATS_EVICTIONS, evictions.sum());
+        stats.put(CACHE_STATS_ENTRIES, (long) pages.size());
+        stats.put(CACHE_STATS_BYTES, cachedBytes);
+        return stats;
+    }
+
+    private record PageKey(String statementId, String nextToken) {
+    }
+
+    private record CachedPage(GetStatementResultResponse page, long bytes, long expiresAt) {
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code ResultPageCacheConfig} represents the configurations of the result page cache of a client.
+ *
+ * @param maxBytes  The maximum number of bytes held by the cache.
+ * @param ttlMillis The time to live of a cached page in milliseconds.
+ */
+public record ResultPageCacheConfig(long maxBytes, long ttlMillis) {
+    private static final BString RESULT_PAGE_CACHE_MAX_BYTES = StringUtils.fromString("maxBytes");
+    private static final BString RESULT_PAGE_CACHE_TTL = StringUtils.fromString("ttl");
+
+    public ResultPageCacheConfig(BMap<BString, Object> bResultPageCacheConfig) {
+        this(
+                bResultPageCacheConfig.getIntValue(RESULT_PAGE_CACHE_MAX_BYTES),
+                CommonUtils.toMillis((BDecimal) bResultPageCacheConfig.get(RESULT_PAGE_CACHE_TTL))
+        );
+    }
+}
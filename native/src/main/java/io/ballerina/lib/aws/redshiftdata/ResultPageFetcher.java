@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.Field;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Request;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Response;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code ResultPageFetcher} fetches the result pages of a single statement for a result stream.
+ * <p>
+ * When read-ahead is enabled, the next pages are requested in the background once the configured share of the
+ * current page has been consumed, so that the consumer does not wait for a full round trip at each page boundary.
+ * The bytes of the pages buffered ahead are accounted against the {@link PrefetchBudget} of the client.
+ * </p>
+ */
+public class ResultPageFetcher {
+    // Rough per-field overhead of the SDK `Field` object and its list entry
+    private static final int FIELD_OVERHEAD_BYTES = 48;
+
+    private final DataApiClient nativeClient;
+    private final String statementId;
+    private final PrefetchConfig prefetchConfig;
+    private final PrefetchBudget prefetchBudget;
+    private final ResultPageCache pageCache;
+    private final QueryResultCache.CachedResult cachedResult;
+    private volatile QueryResultCache.Recorder pageRecorder;
+    private volatile StatementTimings statementTimings;
+    private final Deque<PrefetchedPage> prefetchedPages = new ArrayDeque<>();
+    private GetStatementResultResponse currentPage;
+    private volatile long prefetchIndex = -1;
+    private boolean closed = false;
+
+    public ResultPageFetcher(DataApiClient nativeClient, String statementId, PrefetchConfig prefetchConfig,
+                             PrefetchBudget prefetchBudget, ResultPageCache pageCache) {
+        this.nativeClient = nativeClient;
+        this.statementId = statementId;
+        this.prefetchConfig = prefetchConfig;
+        this.prefetchBudget = prefetchBudget;
+        this.pageCache = pageCache;
+        this.cachedResult = null;
+    }
+
+    private ResultPageFetcher(QueryResultCache.CachedResult cachedResult) {
+        this.nativeClient = null;
+        this.statementId = cachedResult.statementId();
+        this.prefetchConfig = null;
+        this.prefetchBudget = null;
+        this.pageCache = null;
+        this.cachedResult = cachedResult;
+    }
+
+    /**
+     * Creates a fetcher which serves the pages of a cached query result without calling the API.
+     *
+     * @param cachedResult the cached query result
+     * @return the page fetcher
+     */
+    public static ResultPageFetcher ofCachedResult(QueryResultCache.CachedResult cachedResult) {
+        return new ResultPageFetcher(cachedResult);
+    }
+
+    /**
+     * Records the fetched pages, so that the complete result is cached once its last page has been fetched.
+     *
+     * @param pageRecorder the recorder of the query result cache
+     */
+    public void setPageRecorder(QueryResultCache.Recorder pageRecorder) {
+        this.pageRecorder = pageRecorder;
+    }
+
+    /**
+     * Reports the start and the end of the result fetch to the statement timings of the client.
+     *
+     * @param statementTimings the statement timings of the client
+     */
+    public void setStatementTimings(StatementTimings statementTimings) {
+        this.statementTimings = statementTimings;
+    }
+
+    public String statementId() {
+        return statementId;
+    }
+
+    public CompletableFuture<GetStatementResultResponse> firstPage() {
+        CompletableFuture<GetStatementResultResponse> firstPage = fetchPage(null);
+        StatementTimings timings = statementTimings;
+        if (Objects.nonNull(timings)) {
+            timings.fetchStarted(statementId, firstPage);
+        }
+        return firstPage;
+    }
+
+    /**
+     * Requests the first result page of a statement run with the {@code CSV} result format. The pages of the CSV
+     * results are neither cached nor read ahead.
+     *
+     * @return the future of the result page
+     */
+    public CompletableFuture<GetStatementResultV2Response> firstCsvPage() {
+        CompletableFuture<GetStatementResultV2Response> firstPage = nextCsvPage(null);
+        StatementTimings timings = statementTimings;
+        if (Objects.nonNull(timings)) {
+            timings.fetchStarted(statementId, firstPage);
+        }
+        return firstPage;
+    }
+
+    /**
+     * Requests a result page of a statement run with the {@code CSV} result format.
+     *
+     * @param nextToken the token of the result page, or {@code null} for the first page
+     * @return the future of the result page
+     */
+    public CompletableFuture<GetStatementResultV2Response> nextCsvPage(String nextToken) {
+        return nativeClient.getStatementResultV2(
+                GetStatementResultV2Request.builder().id(statementId).nextToken(nextToken).build());
+    }
+
+    /**
+     * Sets the result page which is being consumed by the stream.
+     *
+     * @param page the current result page
+     */
+    public synchronized void setCurrentPage(GetStatementResultResponse page) {
+        currentPage = page;
+        prefetchIndex = -1;
+        if (Objects.nonNull(prefetchConfig) && Objects.nonNull(page.nextToken())) {
+            prefetchIndex = (long) Math.ceil(page.records().size() * prefetchConfig.threshold());
+        }
+    }
+
+    /**
+     * Notifies the number of rows consumed from the current page, which starts the read-ahead once the threshold
+     * has been reached.
+     *
+     * @param consumedRows the number of rows consumed from the current page
+     */
+    public void onRowsConsumed(long consumedRows) {
+        if (prefetchIndex >= 0 && consumedRows >= prefetchIndex) {
+            synchronized (this) {
+                prefetchIndex = -1;
+                fillReadAhead();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the result page for the given token, either from the pages fetched ahead or from the API.
+     *
+     * @param nextToken the token of the result page
+     * @return the future of the result page
+     */
+    public synchronized CompletableFuture<GetStatementResultResponse> nextPage(String nextToken) {
+        PrefetchedPage prefetchedPage = prefetchedPages.peekFirst();
+        if (Objects.nonNull(prefetchedPage) && nextToken.equals(prefetchedPage.nextToken)) {
+            prefetchedPages.removeFirst();
+            prefetchedPage.taken = true;
+            prefetchBudget.release(prefetchedPage.bytes);
+            return prefetchedPage.page;
+        }
+        return fetchPage(nextToken);
+    }
+
+    private CompletableFuture<GetStatementResultResponse> fetchPage(String nextToken) {
+        if (Objects.nonNull(cachedResult)) {
+            return CompletableFuture.completedFuture(cachedResult.page(nextToken));
+        }
+        GetStatementResultResponse cachedPage = Objects.nonNull(pageCache) ?
+                pageCache.get(statementId, nextToken) : null;
+        CompletableFuture<GetStatementResultResponse> response;
+        if (Objects.nonNull(cachedPage)) {
+            response = CompletableFuture.completedFuture(cachedPage);
+        } else {
+            response = nativeClient.getStatementResult(
+                    GetStatementResultRequest.builder().id(statementId).nextToken(nextToken).build());
+            if (Objects.nonNull(pageCache)) {
+                response = response.thenApply(page -> {
+                    pageCache.put(statementId, nextToken, page);
+                    return page;
+                });
+            }
+        }
+        QueryResultCache.Recorder recorder = pageRecorder;
+        if (Objects.nonNull(recorder)) {
+            response = response.thenApply(page -> {
+                recorder.record(statementId, nextToken, page);
+                return page;
+            });
+        }
+        return response;
+    }
+
+    // Must be called while holding the lock of this fetcher
+    private void fillReadAhead() {
+        if (closed || prefetchedPages.size() >= prefetchConfig.pages()) {
+            return;
+        }
+        String nextToken;
+        PrefetchedPage lastPage = prefetchedPages.peekLast();
+        if (Objects.isNull(lastPage)) {
+            nextToken = Objects.nonNull(currentPage) ? currentPage.nextToken() : null;
+        } else if (lastPage.page.isDone() && !lastPage.page.isCompletedExceptionally()) {
+            nextToken = lastPage.page.join().nextToken();
+        } else {
+            // The read-ahead continues once the last requested page arrives
+            return;
+        }
+        if (Objects.isNull(nextToken)) {
+            return;
+        }
+        // The page is expected to be about as large as the previous one, and the estimate is settled on arrival
+        long estimatedBytes = Objects.isNull(lastPage) ? estimateSize(currentPage) : lastPage.bytes;
+        if (!prefetchBudget.tryReserve(estimatedBytes)) {
+            return;
+        }
+        PrefetchedPage prefetchedPage = new PrefetchedPage(nextToken, fetchPage(nextToken), estimatedBytes);
+        prefetchedPages.addLast(prefetchedPage);
+        prefetchedPage.page.whenComplete((page, throwable) -> {
+            synchronized (this) {
+                if (Objects.nonNull(throwable) || prefetchedPage.taken || closed) {
+                    // A failed read-ahead is reported when the consumer reaches that page, which releases the
+                    // reserved bytes
+                    return;
+                }
+                long pageBytes = estimateSize(page);
+                prefetchBudget.reserve(pageBytes - prefetchedPage.bytes);
+                prefetchedPage.bytes = pageBytes;
+                fillReadAhead();
+            }
+        });
+    }
+
+    public synchronized void close() {
+        closed = true;
+        currentPage = null;
+        for (PrefetchedPage prefetchedPage : prefetchedPages) {
+            prefetchBudget.release(prefetchedPage.bytes);
+            prefetchedPage.page.cancel(false);
+        }
+        prefetchedPages.clear();
+        StatementTimings timings = statementTimings;
+        if (Objects.nonNull(timings)) {
+            timings.fetchCompleted(statementId);
+        }
+    }
+
+    /**
+     * Estimates the heap footprint of a result page.
+     *
+     * @param page the result page
+     * @return the estimated size of the page in bytes
+     */
+    public static long estimateSize(GetStatementResultResponse page) {
+        long bytes = 0;
+        for (List<Field> row : page.records()) {
+            for (Field field : row) {
+                bytes += FIELD_OVERHEAD_BYTES;
+                if (Objects.nonNull(field.stringValue())) {
+                    bytes += 2L * field.stringValue().length();
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static final class PrefetchedPage {
+        private final String nextToken;
+        private final CompletableFuture<GetStatementResultResponse> page;
+        // The estimated size until the page arrives, and its size afterwards
+        private long bytes;
+        private boolean taken = false;
+
+        private PrefetchedPage(String nextToken, CompletableFuture<GetStatementResultResponse> page, long bytes) {
+            this.nextToken = nextToken;
+            this.page = page;
+            this.bytes = bytes;
+        }
+    }
+}
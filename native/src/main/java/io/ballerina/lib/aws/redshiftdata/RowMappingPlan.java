@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.ColumnMetadata;
+import software.amazon.awssdk.services.redshiftdata.model.Field;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code RowMappingPlan} is the precompiled mapping of the result columns to the fields of a Ballerina record type.
+ * <p>
+ * The plan holds parallel arrays of the record field keys, the result column indexes and the field converters of
+ * both result formats, so that mapping a row only requires plain array indexing. Plans are cached by the record type
+ * and the signature of the result column metadata, hence repeated queries reuse the same plan.
+ * </p>
+ */
+public final class RowMappingPlan {
+    private static final int MAX_CACHED_PLANS = 256;
+    private static final Map<PlanKey, RowMappingPlan> PLAN_CACHE = new ConcurrentHashMap<>();
+
+    private final BString[] fieldNames;
+    private final int[] columnIndexes;
+    private final FieldConverter[] converters;
+    private final TextConverter[] textConverters;
+
+    public RowMappingPlan(BString[] fieldNames, int[] columnIndexes, FieldConverter[] converters,
+                          TextConverter[] textConverters) {
+        this.fieldNames = fieldNames;
+        this.columnIndexes = columnIndexes;
+        this.converters = converters;
+        this.textConverters = textConverters;
+    }
+
+    /**
+     * Retrieves the cached plan of the record type for the given result columns, or creates and caches a new plan.
+     *
+     * @param recordType     the record type to which the rows are mapped
+     * @param columnMetadata the metadata of the result columns
+     * @param planCreator    the creator of the plan on a cache miss
+     * @return the row mapping plan
+     * @throws Exception if the result columns cannot be mapped to the record type
+     */
+    public static RowMappingPlan getPlan(RecordType recordType, List<ColumnMetadata> columnMetadata,
+                                         PlanCreator planCreator) throws Exception {
+        PlanKey planKey = new PlanKey(recordType, getColumnSignature(columnMetadata));
+        RowMappingPlan plan = PLAN_CACHE.get(planKey);
+        if (Objects.isNull(plan)) {
+            plan = planCreator.create();
+            if (PLAN_CACHE.size() >= MAX_CACHED_PLANS) {
+                // Plans are cheap to rebuild, hence the cache is simply reset instead of tracking the usage
+                PLAN_CACHE.clear();
+            }
+            PLAN_CACHE.put(planKey, plan);
+        }
+        return plan;
+    }
+
+    private static String getColumnSignature(List<ColumnMetadata> columnMetadata) {
+        StringBuilder signature = new StringBuilder();
+        for (ColumnMetadata column : columnMetadata) {
+            signature.append(column.name()).append(':').append(column.typeName()).append(':')
+                    .append(column.precision()).append(':').append(column.scale()).append(',');
+        }
+        return signature.toString();
+    }
+
+    /**
+     * Maps a result row to the fields of a record.
+     *
+     * @param record the record to be populated
+     * @param row    the result row
+     * @throws Exception if a field value cannot be converted
+     */
+    public void populate(BMap<BString, Object> record, List<Field> row) throws Exception {
+        for (int i = 0; i < fieldNames.length; i++) {
+            record.put(fieldNames[i], converters[i].convert(row.get(columnIndexes[i])));
+        }
+    }
+
+    /**
+     * Maps a CSV result record to the fields of a record.
+     *
+     * @param record the record to be populated
+     * @param row    the fields of the CSV result record
+     * @throws Exception if a field value cannot be converted
+     */
+    public void populate(BMap<BString, Object> record, String[] row) throws Exception {
+        for (int i = 0; i < fieldNames.length; i++) {
+            record.put(fieldNames[i], textConverters[i].convert(row[columnIndexes[i]]));
+        }
+    }
+
+    /**
+     * Creates a row mapping plan on a cache miss.
+     */
+    @FunctionalInterface
+    public interface PlanCreator {
+        RowMappingPlan create() throws Exception;
+    }
+
+    private record PlanKey(RecordType recordType, String columnSignature) {
+    }
+}
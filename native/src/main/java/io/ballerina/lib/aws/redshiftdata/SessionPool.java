@@ -0,0 +1,417 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.redshiftdata.model.SqlParameter;
+import software.amazon.awssdk.services.redshiftdata.model.ValidationException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * {@code SessionPool} keeps warm Data API sessions for the database access configurations of a client.
+ * <p>
+ * A statement which does not name a session is run on an idle session of its database access configurations, or
+ * creates a new session with {@code sessionKeepAliveSeconds} if fewer than {@code maxSessions} sessions exist. When
+ * all the sessions are busy, the statement is run without a session. A session is busy until its statement
+ * completes, since a session runs a single statement at a time. Idle sessions which are about to expire are kept
+ * alive with a {@code SELECT 1}, unless they have not been used by a statement for {@code maxIdleTime}. A session
+ * which is rejected by the Data API, as it is expired or no longer known, is dropped and the statement is retried
+ * without a session. Any other failure to submit a statement is returned as it is and keeps the session, as does a
+ * statement which fails or is aborted. Only a session whose statement is in an unknown state, e.g. as its status
+ * could not be polled, is dropped.
+ * </p>
+ * <p>
+ * The session state, such as the temporary tables and the {@code SET} parameters, is not reset between the
+ * statements, hence it is seen by the later statements which are run on the same session.
+ * </p>
+ */
+public final class SessionPool {
+    private static final String KEEP_ALIVE_SQL = "SELECT 1";
+    // Idle sessions which expire within this share of the keep alive time are refreshed
+    private static final double REFRESH_THRESHOLD = 0.25;
+    // Sessions are not handed out within this time of their expiry, so that a statement does not race the expiry
+    private static final long EXPIRY_SAFETY_MARGIN_MILLIS = 5000;
+    private static final long MAX_STATEMENT_DURATION_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final double LATENCY_SMOOTHING = 0.2;
+    // The validation errors of an expired or unknown session, as opposed to the validation errors of the statement
+    private static final Pattern SESSION_REJECTION = Pattern.compile(
+            "\\bsession\\b.*\\b(expired|not found|not available|unavailable|not active|inactive|invalid|" +
+                    "does not exist|closed)\\b", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final String SESSION_POOL_STATS_RECORD = "SessionPoolStats";
+    private static final BString STATS_HITS = StringUtils.fromString("hits");
+    private static final BString STATS_MISSES = StringUtils.fromString("misses");
+    private static final BString STATS_SESSIONS_CREATED = StringUtils.fromString("sessionsCreated");
+    private static final BString STATS_SESSIONS_DROPPED = StringUtils.fromString("sessionsDropped");
+    private static final BString STATS_REFRESHES = StringUtils.fromString("refreshes");
+    private static final BString STATS_IDLE_SESSIONS = StringUtils.fromString("idleSessions");
+    private static final BString STATS_BUSY_SESSIONS = StringUtils.fromString("busySessions");
+    private static final BString STATS_SAVED_TIME = StringUtils.fromString("savedTime");
+
+    // Only runs the maintenance cycles, the API calls themselves are dispatched by the Data API client
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread poolThread = new Thread(runnable);
+        poolThread.setName("balx-awsredshiftdata-session-pool-thread");
+        poolThread.setDaemon(true);
+        return poolThread;
+    });
+
+    private final DataApiClient nativeClient;
+    private final SessionPoolConfig sessionPoolConfig;
+    private final PollConfig releasePollConfig;
+    // Guarded by itself, keyed by the execute request without the statement specific fields
+    private final Map<ExecuteStatementRequest, List<Session>> sessions = new HashMap<>();
+    private final ScheduledFuture<?> maintenance;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder sessionsCreated = new LongAdder();
+    private final LongAdder sessionsDropped = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    // Server side latencies of the statements which created a session and of those which reused one, guarded by this
+    private double creationLatencyMillis = -1;
+    private double reuseLatencyMillis = -1;
+
+    public SessionPool(DataApiClient nativeClient, SessionPoolConfig sessionPoolConfig) {
+        this.nativeClient = nativeClient;
+        this.sessionPoolConfig = sessionPoolConfig;
+        this.releasePollConfig = new PollConfig(50, 5000, 2, MAX_STATEMENT_DURATION_MILLIS);
+        long maintenanceIntervalMillis = Math.max(1000, Math.min(60_000,
+                (long) (sessionPoolConfig.keepAliveSeconds() * 1000 * REFRESH_THRESHOLD / 2)));
+        this.maintenance = SCHEDULER.scheduleWithFixedDelay(this::maintain, maintenanceIntervalMillis,
+                maintenanceIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs the statement on a pooled session if possible. The session is released in the background once the
+     * statement completes.
+     *
+     * @param request the execute request of the statement
+     * @return the response of the statement
+     */
+    public CompletableFuture<ExecuteStatementResponse> execute(ExecuteStatementRequest request) {
+        Submission submission = submit(request);
+        if (Objects.nonNull(submission.session())) {
+            submission.response()
+                    .thenCompose(response -> StatementPoller.awaitCompletion(nativeClient, response.id(), null,
+                            releasePollConfig))
+                    .whenComplete((description, throwable) -> release(submission, description, throwable));
+        }
+        return submission.response();
+    }
+
+    /**
+     * Runs the statement on a pooled session if possible, and waits for it to complete.
+     *
+     * @param request        the execute request of the statement
+     * @param pollConfig     the configurations used to poll the completion of the statement
+     * @param cancelDeadline the deadline after which the statement is cancelled in {@link System#nanoTime()} units,
+     *                       or {@code null} if the statement does not have a deadline
+     * @return the description of the completed statement
+     */
+    public CompletableFuture<DescribeStatementResponse> executeAndAwait(ExecuteStatementRequest request,
+                                                                        PollConfig pollConfig, Long cancelDeadline) {
+        Submission submission = submit(request);
+        CompletableFuture<DescribeStatementResponse> completion = submission.response()
+                .thenCompose(response -> StatementPoller.awaitCompletion(nativeClient, response.id(),
+                        request.statementName(), pollConfig, cancelDeadline));
+        if (Objects.nonNull(submission.session())) {
+            completion.whenComplete((description, throwable) -> release(submission, description, throwable));
+        }
+        return completion;
+    }
+
+    public void close() {
+        maintenance.cancel(false);
+        synchronized (sessions) {
+            sessions.clear();
+        }
+    }
+
+    public BMap<BString, Object> getStats() {
+        long idleSessions = 0;
+        long busySessions = 0;
+        synchronized (sessions) {
+            for (List<Session> keySessions : sessions.values()) {
+                for (Session session : keySessions) {
+                    if (session.busy) {
+                        busySessions++;
+                    } else {
+                        idleSessions++;
+                    }
+                }
+            }
+        }
+        double savedMillis;
+        synchronized (this) {
+            savedMillis = creationLatencyMillis < 0 || reuseLatencyMillis < 0 ? 0 :
+                    Math.max(0, creationLatencyMillis - reuseLatencyMillis) * hits.sum();
+        }
+        BMap<BString, Object> stats = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                SESSION_POOL_STATS_RECORD);
+        stats.put(STATS_HITS, hits.sum());
+        stats.put(STATS_MISSES, misses.sum());
+        stats.put(STATS_SESSIONS_CREATED, sessionsCreated.sum());
+        stats.put(STATS_SESSIONS_DROPPED, sessionsDropped.sum());
+        stats.put(STATS_REFRESHES, refreshes.sum());
+        stats.put(STATS_IDLE_SESSIONS, idleSessions);
+        stats.put(STATS_BUSY_SESSIONS, busySessions);
+        stats.put(STATS_SAVED_TIME, ValueCreator.createDecimalValue(
+                BigDecimal.valueOf((long) savedMillis).movePointLeft(3)));
+        return stats;
+    }
+
+    private Submission submit(ExecuteStatementRequest request) {
+        // Statements which manage their own sessions are not pooled
+        if (Objects.nonNull(request.sessionId()) || Objects.nonNull(request.sessionKeepAliveSeconds())) {
+            return new Submission(nativeClient.executeStatement(request), null, false);
+        }
+        ExecuteStatementRequest sessionKey = request.toBuilder()
+                .sql(null)
+                .parameters((Collection<SqlParameter>) null)
+                .clientToken(null)
+                .statementName(null)
+                .withEvent(null)
+                .build();
+        long now = System.currentTimeMillis();
+        Session session = null;
+        boolean createSession = false;
+        synchronized (sessions) {
+            List<Session> keySessions = sessions.computeIfAbsent(sessionKey, key -> new ArrayList<>());
+            for (Session candidate : keySessions) {
+                if (!candidate.busy && candidate.expiresAt - EXPIRY_SAFETY_MARGIN_MILLIS > now) {
+                    session = candidate;
+                    break;
+                }
+            }
+            if (Objects.nonNull(session)) {
+                session.busy = true;
+                session.lastUsedAt = now;
+            } else if (keySessions.size() < sessionPoolConfig.maxSessions()) {
+                session = new Session(sessionKey);
+                session.busy = true;
+                session.lastUsedAt = now;
+                // Reserves the slot until the session ID is known
+                keySessions.add(session);
+                createSession = true;
+            }
+        }
+        if (Objects.isNull(session)) {
+            misses.increment();
+            return new Submission(nativeClient.executeStatement(request), null, false);
+        }
+        if (createSession) {
+            misses.increment();
+            Session newSession = session;
+            CompletableFuture<ExecuteStatementResponse> response = CompletableFuture.completedFuture(request)
+                    .thenCompose(createRequest -> nativeClient.executeStatement(createRequest.toBuilder()
+                            .sessionKeepAliveSeconds(sessionPoolConfig.keepAliveSeconds())
+                            .build()))
+                    .whenComplete((executeResponse, throwable) -> {
+                        if (Objects.nonNull(throwable) || Objects.isNull(executeResponse.sessionId())) {
+                            drop(newSession, false);
+                            return;
+                        }
+                        newSession.sessionId = executeResponse.sessionId();
+                        sessionsCreated.increment();
+                    });
+            return new Submission(response, session, true);
+        }
+        hits.increment();
+        Session pooledSession = session;
+        CompletableFuture<ExecuteStatementResponse> response = nativeClient.executeStatement(request.toBuilder()
+                        .clusterIdentifier(null)
+                        .workgroupName(null)
+                        .database(null)
+                        .dbUser(null)
+                        .secretArn(null)
+                        .sessionId(session.sessionId)
+                        .build())
+                .handle((executeResponse, throwable) -> {
+                    if (Objects.isNull(throwable)) {
+                        return CompletableFuture.completedFuture(executeResponse);
+                    }
+                    Throwable cause = CommonUtils.unwrapCompletionException(throwable);
+                    if (!isSessionRejected(cause, pooledSession.sessionId)) {
+                        // The statement itself is rejected, hence it is not run again
+                        return CompletableFuture.<ExecuteStatementResponse>failedFuture(cause);
+                    }
+                    // The session is expired or no longer known, hence the statement is retried without a session
+                    drop(pooledSession, true);
+                    return nativeClient.executeStatement(request);
+                })
+                .thenCompose(future -> future);
+        return new Submission(response, session, false);
+    }
+
+    private static boolean isSessionRejected(Throwable throwable, String sessionId) {
+        if (throwable instanceof ResourceNotFoundException) {
+            return true;
+        }
+        // An invalid or expired session is reported as a validation error which names the session, whereas an
+        // invalid statement is reported as a validation error which does not
+        if (!(throwable instanceof ValidationException validationException) ||
+                Objects.isNull(validationException.getMessage())) {
+            return false;
+        }
+        String message = validationException.getMessage();
+        return message.contains(sessionId) || SESSION_REJECTION.matcher(message).find();
+    }
+
+    private void release(Submission submission, DescribeStatementResponse description, Throwable throwable) {
+        Session session = submission.session();
+        if (Objects.isNull(session.sessionId) || session.dropped) {
+            return;
+        }
+        // A statement which is rejected on submission never ran on the session, whereas a failed or aborted statement
+        // is completed with its description, hence both leave the session free
+        if (Objects.nonNull(throwable) && !submission.response().isCompletedExceptionally()) {
+            // The state of the session is not known, e.g. the statement is still running
+            drop(session, true);
+            return;
+        }
+        if (Objects.nonNull(description)) {
+            recordLatency(submission.createsSession(), description);
+        }
+        long now = System.currentTimeMillis();
+        synchronized (sessions) {
+            session.expiresAt = now + TimeUnit.SECONDS.toMillis(sessionPoolConfig.keepAliveSeconds());
+            session.busy = false;
+        }
+    }
+
+    private synchronized void recordLatency(boolean createsSession, DescribeStatementResponse description) {
+        if (Objects.isNull(description.createdAt()) || Objects.isNull(description.updatedAt())) {
+            return;
+        }
+        double latencyMillis = Duration.between(description.createdAt(), description.updatedAt()).toMillis();
+        if (createsSession) {
+            creationLatencyMillis = creationLatencyMillis < 0 ? latencyMillis :
+                    creationLatencyMillis + LATENCY_SMOOTHING * (latencyMillis - creationLatencyMillis);
+        } else {
+            reuseLatencyMillis = reuseLatencyMillis < 0 ? latencyMillis :
+                    reuseLatencyMillis + LATENCY_SMOOTHING * (latencyMillis - reuseLatencyMillis);
+        }
+    }
+
+    private void drop(Session session, boolean created) {
+        synchronized (sessions) {
+            if (session.dropped) {
+                return;
+            }
+            session.dropped = true;
+            List<Session> keySessions = sessions.get(session.key);
+            if (Objects.nonNull(keySessions)) {
+                keySessions.remove(session);
+            }
+        }
+        if (created) {
+            sessionsDropped.increment();
+        }
+    }
+
+    private void maintain() {
+        long now = System.currentTimeMillis();
+        long keepAliveMillis = TimeUnit.SECONDS.toMillis(sessionPoolConfig.keepAliveSeconds());
+        List<Session> refreshableSessions = new ArrayList<>();
+        synchronized (sessions) {
+            for (List<Session> keySessions : sessions.values()) {
+                Iterator<Session> iterator = keySessions.iterator();
+                while (iterator.hasNext()) {
+                    Session session = iterator.next();
+                    if (session.busy) {
+                        continue;
+                    }
+                    if (session.expiresAt - EXPIRY_SAFETY_MARGIN_MILLIS <= now ||
+                            now - session.lastUsedAt > sessionPoolConfig.maxIdleTimeMillis()) {
+                        session.dropped = true;
+                        iterator.remove();
+                        sessionsDropped.increment();
+                    } else if (session.expiresAt - now < keepAliveMillis * REFRESH_THRESHOLD) {
+                        session.busy = true;
+                        refreshableSessions.add(session);
+                    }
+                }
+            }
+            sessions.values().removeIf(List::isEmpty);
+        }
+        refreshableSessions.forEach(this::refresh);
+    }
+
+    private void refresh(Session session) {
+        refreshes.increment();
+        CompletableFuture.completedFuture(session.sessionId)
+                .thenCompose(sessionId -> nativeClient.executeStatement(ExecuteStatementRequest.builder()
+                        .sql(KEEP_ALIVE_SQL)
+                        .sessionId(sessionId)
+                        .build()))
+                .thenCompose(response -> StatementPoller.awaitCompletion(nativeClient, response.id(), null,
+                        releasePollConfig))
+                .whenComplete((description, throwable) -> {
+                    if (Objects.nonNull(throwable)) {
+                        drop(session, true);
+                        return;
+                    }
+                    long now = System.currentTimeMillis();
+                    synchronized (sessions) {
+                        session.expiresAt = now + TimeUnit.SECONDS.toMillis(sessionPoolConfig.keepAliveSeconds());
+                        session.busy = false;
+                    }
+                });
+    }
+
+    private record Submission(CompletableFuture<ExecuteStatementResponse> response, Session session,
+                              boolean createsSession) {
+    }
+
+    private static final class Session {
+        private final ExecuteStatementRequest key;
+        // The fields are guarded by the sessions map of the pool, except for the ID which is set once
+        private volatile String sessionId;
+        private boolean busy;
+        private boolean dropped;
+        private long lastUsedAt;
+        private long expiresAt = Long.MAX_VALUE;
+
+        private Session(ExecuteStatementRequest key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code SessionPoolConfig} represents the configurations of the session pool of a client.
+ *
+ * @param maxSessions       The maximum number of sessions per database access configuration.
+ * @param keepAliveSeconds  The number of seconds a session is kept alive after its last statement.
+ * @param maxIdleTimeMillis The time in milliseconds after which a session not used by a statement is no longer
+ *                          kept alive.
+ */
+public record SessionPoolConfig(int maxSessions, int keepAliveSeconds, long maxIdleTimeMillis) {
+    private static final BString SESSION_POOL_MAX_SESSIONS = StringUtils.fromString("maxSessions");
+    private static final BString SESSION_POOL_KEEP_ALIVE = StringUtils.fromString("sessionKeepAliveSeconds");
+    private static final BString SESSION_POOL_MAX_IDLE_TIME = StringUtils.fromString("maxIdleTime");
+
+    public SessionPoolConfig(BMap<BString, Object> bSessionPoolConfig) {
+        this(
+                (int) bSessionPoolConfig.getIntValue(SESSION_POOL_MAX_SESSIONS),
+                (int) bSessionPoolConfig.getIntValue(SESSION_POOL_KEEP_ALIVE),
+                CommonUtils.toMillis((BDecimal) bSessionPoolConfig.get(SESSION_POOL_MAX_IDLE_TIME))
+        );
+    }
+}
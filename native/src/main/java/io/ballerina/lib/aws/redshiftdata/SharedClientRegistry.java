@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.BatchExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.CancelStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.CancelStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultRequest;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultResponse;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Request;
+import software.amazon.awssdk.services.redshiftdata.model.GetStatementResultV2Response;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsResponse;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code SharedClientRegistry} shares the AWS SDK clients of the process between the equivalent Ballerina clients
+ * and listeners.
+ * <p>
+ * The clients are keyed by the region, the endpoint, the authentication configurations, the I/O mode and the HTTP
+ * client and executor configurations, which are all values. Hence, the Ballerina clients created with the same
+ * configurations share one SDK client, along with its HTTP connection pool, credentials provider and, in the
+ * {@code BLOCKING} I/O mode, its worker executor. The shared client is reference counted, and is closed once the
+ * last Ballerina client which uses it is closed.
+ * </p>
+ */
+final class SharedClientRegistry {
+    private static final Map<ClientKey, SharedClient> CLIENTS = new HashMap<>();
+
+    private SharedClientRegistry() {
+    }
+
+    /**
+     * Acquires a reference to the SDK client of the given configurations, creating it if there is none.
+     *
+     * @param connectionConfig The connection configurations of the Ballerina client
+     * @return The lease of the shared client, which releases the reference when it is closed
+     * @throws Exception If the SDK client cannot be created
+     */
+    static Lease acquire(ConnectionConfig connectionConfig) throws Exception {
+        ClientKey key = ClientKey.of(connectionConfig);
+        synchronized (CLIENTS) {
+            SharedClient sharedClient = CLIENTS.get(key);
+            boolean created = false;
+            if (sharedClient == null) {
+                AwsCredentialsProvider credentialsProvider =
+                        NativeClientAdaptor.getCredentialsProvider(connectionConfig.authConfig());
+                sharedClient = new SharedClient(key,
+                        NativeClientAdaptor.createNativeClient(connectionConfig, credentialsProvider),
+                        credentialsProvider);
+                CLIENTS.put(key, sharedClient);
+                created = true;
+            }
+            sharedClient.references++;
+            return new Lease(sharedClient, created);
+        }
+    }
+
+    private static void release(SharedClient sharedClient) {
+        synchronized (CLIENTS) {
+            if (--sharedClient.references > 0) {
+                return;
+            }
+            CLIENTS.remove(sharedClient.key);
+        }
+        sharedClient.nativeClient.close();
+    }
+
+    // The warm-up connection count only affects the client initialization, hence it does not prevent the sharing.
+    // The executor configurations are irrelevant to the non-blocking clients, which do not have a worker executor.
+    private record ClientKey(Region region, URI endpoint, Object authConfig, boolean nonBlocking,
+                             ExecutorConfig executorConfig, HttpClientConfig httpClientConfig) {
+
+        static ClientKey of(ConnectionConfig connectionConfig) {
+            HttpClientConfig config = connectionConfig.httpClientConfig();
+            HttpClientConfig httpClientConfig = new HttpClientConfig(config.maxConnections(),
+                    config.connectionAcquisitionTimeout(), config.connectionTimeout(), config.socketTimeout(),
+                    config.connectionMaxIdleTime(), config.connectionTimeToLive(), config.tcpKeepAlive(),
+                    config.apiCallTimeout(), config.apiCallAttemptTimeout(), 0);
+            return new ClientKey(connectionConfig.region(), connectionConfig.endpoint(), connectionConfig.authConfig(),
+                    connectionConfig.nonBlocking(),
+                    connectionConfig.nonBlocking() ? null : connectionConfig.executorConfig(), httpClientConfig);
+        }
+    }
+
+    private static final class SharedClient {
+        private final ClientKey key;
+        private final DataApiClient nativeClient;
+        private final AwsCredentialsProvider credentialsProvider;
+        // Guarded by the registry lock
+        private int references = 0;
+
+        private SharedClient(ClientKey key, DataApiClient nativeClient, AwsCredentialsProvider credentialsProvider) {
+            this.key = key;
+            this.nativeClient = nativeClient;
+            this.credentialsProvider = credentialsProvider;
+        }
+    }
+
+    /**
+     * A reference to a shared SDK client held by a single Ballerina client or listener. Closing the lease releases
+     * the reference once, and closes the SDK client if it was the last reference.
+     */
+    static final class Lease implements DataApiClient {
+        private final SharedClient sharedClient;
+        private final boolean created;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private Lease(SharedClient sharedClient, boolean created) {
+            this.sharedClient = sharedClient;
+            this.created = created;
+        }
+
+        /**
+         * Returns whether the SDK client was created for this lease, rather than being shared with an existing one.
+         *
+         * @return {@code true} if the SDK client was created for this lease
+         */
+        boolean created() {
+            return created;
+        }
+
+        AwsCredentialsProvider credentialsProvider() {
+            return sharedClient.credentialsProvider;
+        }
+
+        @Override
+        public CompletableFuture<ExecuteStatementResponse> executeStatement(ExecuteStatementRequest request) {
+            return closed.get() ? closedFailure() : sharedClient.nativeClient.executeStatement(request);
+        }
+
+        @Override
+        public CompletableFuture<BatchExecuteStatementResponse> batchExecuteStatement(
+                BatchExecuteStatementRequest request) {
+            return closed.get() ? closedFailure() : sharedClient.nativeClient.batchExecuteStatement(request);
+        }
+
+        @Override
+        public CompletableFuture<DescribeStatementResponse> describeStatement(DescribeStatementRequest request) {
+            return closed.get() ? closedFailure() : sharedClient.nativeClient.describeStatement(request);
+        }
+
+        @Override
+        public CompletableFuture<GetStatementResultResponse> getStatementResult(GetStatementResultRequest request) {
+            return closed.get() ? closedFailure() : sharedClient.nativeClient.getStatementResult(request);
+        }
+
+        @Override
+        public CompletableFuture<GetStatementResultV2Response> getStatementResultV2(
+                GetStatementResultV2Request request) {
+            return closed.get() ? closedFailure() : sharedClient.nativeClient.getStatementResultV2(request);
+        }
+
+        @Override
+        public CompletableFuture<ListStatementsResponse> listStatements(ListStatementsRequest request) {
+            return closed.get() ? closedFailure() : sharedClient.nativeClient.listStatements(request);
+        }
+
+        @Override
+        public CompletableFuture<CancelStatementResponse> cancelStatement(CancelStatementRequest request) {
+            return closed.get() ? closedFailure() : sharedClient.nativeClient.cancelStatement(request);
+        }
+
+        // A closed lease must not keep using the SDK client, which may still be open for the other leases
+        private static <T> CompletableFuture<T> closedFailure() {
+            return CompletableFuture.failedFuture(new IllegalStateException("The client has been closed"));
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(sharedClient);
+            }
+        }
+    }
+}
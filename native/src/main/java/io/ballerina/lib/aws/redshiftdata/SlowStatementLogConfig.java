@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code SlowStatementLogConfig} represents the configurations of the slow statement log of a client.
+ *
+ * @param thresholdMillis The time in milliseconds after which a statement is logged as a slow statement.
+ */
+public record SlowStatementLogConfig(long thresholdMillis) {
+    private static final BString SLOW_STATEMENT_LOG_CONFIG_THRESHOLD = StringUtils.fromString("threshold");
+
+    public SlowStatementLogConfig(BMap<BString, Object> bSlowStatementLogConfig) {
+        this(CommonUtils.toMillis((BDecimal) bSlowStatementLogConfig.get(SLOW_STATEMENT_LOG_CONFIG_THRESHOLD)));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.CancelStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code StatementCanceller} cancels the statements which are no longer awaited with {@code CancelStatement}, so that
+ * the abandoned statements stop holding the WLM slots of the cluster.
+ * <p>
+ * A statement is only cancelled once the deadline of the call which started it passes. The cancellation is dropped
+ * once the statement is seen to be completed, e.g. by a {@code describe} call, otherwise the cancel call is sent at
+ * the deadline. A batch is never cancelled on behalf of one of its sub-statements, since it may hold the statements
+ * of other callers. A completed statement cannot be cancelled, hence a failed cancellation only means that the
+ * statement was not cancelled.
+ * </p>
+ */
+public final class StatementCanceller {
+    private static final long SCHEDULER_KEEP_ALIVE_SECONDS = 60;
+
+    // Only schedules the cancellations, the cancel calls themselves are dispatched by the Data API client
+    private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+    // The cancellations at the deadlines of the execute calls, keyed by the ID of the statement
+    private static final Map<String, ScheduledFuture<?>> DEADLINE_CANCELLATIONS = new ConcurrentHashMap<>();
+
+    private StatementCanceller() {
+    }
+
+    // The cancellations of the completed statements are removed from the queue right away, and the thread is stopped
+    // once no cancellation has been scheduled for a while
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread cancellerThread = new Thread(runnable);
+            cancellerThread.setName("balx-awsredshiftdata-statement-canceller-thread");
+            cancellerThread.setDaemon(true);
+            return cancellerThread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setKeepAliveTime(SCHEDULER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        return scheduler;
+    }
+
+    /**
+     * Cancels the statement once the deadline passes, unless the returned cancellation is cancelled by the caller
+     * once the statement is seen to be completed.
+     *
+     * @param nativeClient the Data API client
+     * @param statementId  the identifier of the statement
+     * @param deadline     the deadline in {@link System#nanoTime()} units
+     * @return the scheduled cancellation, which can be cancelled once the statement is seen to be completed
+     */
+    static ScheduledFuture<?> cancelAt(DataApiClient nativeClient, String statementId, long deadline) {
+        return SCHEDULER.schedule(() -> cancel(nativeClient, statementId), Math.max(0, deadline - System.nanoTime()),
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Cancels the statement once the deadline passes, unless it is reported to be completed with
+     * {@link #described(DescribeStatementResponse)} by then.
+     *
+     * @param nativeClient the Data API client
+     * @param statementId  the identifier of the statement
+     * @param deadline     the deadline in {@link System#nanoTime()} units
+     */
+    static void cancelAtDeadline(DataApiClient nativeClient, String statementId, long deadline) {
+        ScheduledFuture<?> cancellation = SCHEDULER.schedule(() -> {
+            DEADLINE_CANCELLATIONS.remove(statementId);
+            cancel(nativeClient, statementId);
+        }, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        DEADLINE_CANCELLATIONS.put(statementId, cancellation);
+        // The cancellation may have already run if the deadline had passed
+        if (cancellation.isDone()) {
+            DEADLINE_CANCELLATIONS.remove(statementId, cancellation);
+        }
+    }
+
+    /**
+     * Drops the cancellation at the deadline of a statement once it is seen to be finished, failed or aborted.
+     *
+     * @param description the description of the statement
+     */
+    static void described(DescribeStatementResponse description) {
+        StatusString status = description.status();
+        if (status != StatusString.FINISHED && status != StatusString.FAILED && status != StatusString.ABORTED) {
+            return;
+        }
+        ScheduledFuture<?> cancellation = DEADLINE_CANCELLATIONS.remove(description.id());
+        if (Objects.nonNull(cancellation)) {
+            cancellation.cancel(false);
+        }
+    }
+
+    /**
+     * Cancels the statement if it is still running.
+     *
+     * @param nativeClient the Data API client
+     * @param statementId  the identifier of the statement
+     * @return whether the statement was cancelled
+     */
+    static CompletableFuture<Boolean> cancel(DataApiClient nativeClient, String statementId) {
+        return nativeClient.cancelStatement(CancelStatementRequest.builder().id(statementId).build())
+                .handle((response, throwable) -> Objects.isNull(throwable) && Boolean.TRUE.equals(response.status()));
+    }
+
+    /**
+     * The failure of a call whose statement was cancelled as its deadline passed.
+     */
+    static final class CancelledException extends RuntimeException {
+
+        CancelledException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.redshiftdata.model.StatementData;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
+import software.amazon.awssdk.services.redshiftdata.model.ValidationException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@code StatementCompletionTracker} tracks the completion of many statements with bulk {@code ListStatements} calls.
+ * <p>
+ * Each poll cycle lists the recent statements of each terminal status page by page, and stops paging once all tracked
+ * statements are resolved or the listed statements are older than the oldest tracked statement. Hence, a cycle costs a
+ * few API calls no matter how many statements are outstanding. A completed statement is described once to retrieve its
+ * full description, and is tracked again if the description fails with a transient error, e.g. throttling, so that it
+ * is described again in the next cycle. A statement which is not seen in the listings for a number of cycles is
+ * described individually, so that it is not tracked forever if it falls out of the listed pages. A statement which is
+ * unknown to the Data API, or which is not completed within the time the Data API retains the statements, is dropped
+ * and completed exceptionally.
+ * </p>
+ */
+public final class StatementCompletionTracker {
+    private static final List<StatusString> TERMINAL_STATUSES =
+            List.of(StatusString.FINISHED, StatusString.FAILED, StatusString.ABORTED);
+    private static final int MAX_RESULTS_PER_PAGE = 100;
+    private static final int MAX_PAGES_PER_STATUS = 10;
+    // Number of cycles after which an outstanding statement is described individually
+    private static final int DESCRIBE_FALLBACK_CYCLES = 12;
+    // The Data API retains the metadata of a statement for 24 hours
+    private static final Duration MAX_TRACKING_DURATION = Duration.ofHours(24);
+
+    private final DataApiClient nativeClient;
+    private final ListStatementsRequest listRequest;
+    private final long pollingIntervalMillis;
+    private final Map<String, TrackedStatement> trackedStatements = new ConcurrentHashMap<>();
+    private final Set<CompletableFuture<?>> inFlightCalls = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+    private boolean running = false;
+
+    /**
+     * Creates a tracker.
+     *
+     * @param nativeClient          the Data API client
+     * @param listRequest           the prototype of the list requests, holding the database filters if any
+     * @param pollingIntervalMillis the interval between two poll cycles in milliseconds
+     */
+    public StatementCompletionTracker(DataApiClient nativeClient, ListStatementsRequest listRequest,
+                                      long pollingIntervalMillis) {
+        this.nativeClient = nativeClient;
+        this.listRequest = listRequest;
+        this.pollingIntervalMillis = pollingIntervalMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread trackerThread = new Thread(runnable);
+            trackerThread.setName("balx-awsredshiftdata-statement-tracker-thread");
+            trackerThread.setDaemon(true);
+            return trackerThread;
+        });
+    }
+
+    /**
+     * Tracks the completion of a statement.
+     *
+     * @param statementId the identifier of the statement
+     * @param createdAt   the creation time of the statement, or {@code null} if it is not known
+     * @return the description of the statement once it is finished, failed or aborted
+     */
+    public CompletableFuture<DescribeStatementResponse> track(String statementId, Instant createdAt) {
+        return trackedStatements.computeIfAbsent(statementId,
+                id -> new TrackedStatement(createdAt, Instant.now(), new CompletableFuture<>())).completion();
+    }
+
+    public int outstandingStatements() {
+        return trackedStatements.size();
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        scheduleCycle();
+    }
+
+    /**
+     * Stops the poll cycles and waits for the in-flight API calls to complete, so that the statements which are
+     * already seen to be completed are still resolved. The calls which are still running once the timeout elapses are
+     * cancelled and the outstanding statements are completed exceptionally.
+     *
+     * @param timeoutMillis the maximum time to wait for the in-flight calls in milliseconds
+     */
+    public void stop(long timeoutMillis) {
+        synchronized (this) {
+            running = false;
+            scheduler.shutdownNow();
+        }
+        try {
+            CompletableFuture.allOf(inFlightCalls.toArray(CompletableFuture[]::new))
+                    .get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // The failed and the remaining calls are handled by stopping the tracker immediately
+        }
+        stopNow();
+    }
+
+    /**
+     * Stops the poll cycles, cancels the in-flight API calls and completes the outstanding statements exceptionally.
+     */
+    public synchronized void stopNow() {
+        running = false;
+        scheduler.shutdownNow();
+        inFlightCalls.forEach(call -> call.cancel(true));
+        trackedStatements.values().forEach(tracked -> tracked.completion().completeExceptionally(
+                new IllegalStateException("The statement tracker is stopped")));
+        trackedStatements.clear();
+    }
+
+    private <T> CompletableFuture<T> inFlight(CompletableFuture<T> call) {
+        inFlightCalls.add(call);
+        call.whenComplete((result, throwable) -> inFlightCalls.remove(call));
+        return call;
+    }
+
+    private synchronized void scheduleCycle() {
+        if (running) {
+            scheduler.schedule(this::runCycle, pollingIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void runCycle() {
+        if (trackedStatements.isEmpty()) {
+            scheduleCycle();
+            return;
+        }
+        Instant cutoff = getOldestCreationTime();
+        CompletableFuture<?>[] scans = TERMINAL_STATUSES.stream()
+                .map(status -> scan(status, null, cutoff, 0))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(scans).whenComplete((result, throwable) -> {
+            describeStragglers();
+            scheduleCycle();
+        });
+    }
+
+    // Returns null if the creation time of any tracked statement is unknown, in which case the pages are not pruned
+    private Instant getOldestCreationTime() {
+        Instant oldest = Instant.MAX;
+        for (TrackedStatement tracked : trackedStatements.values()) {
+            if (Objects.isNull(tracked.createdAt())) {
+                return null;
+            }
+            oldest = tracked.createdAt().isBefore(oldest) ? tracked.createdAt() : oldest;
+        }
+        return oldest;
+    }
+
+    private CompletableFuture<Void> scan(StatusString status, String nextToken, Instant cutoff, int page) {
+        ListStatementsRequest.Builder requestBuilder = listRequest.toBuilder()
+                .status(status)
+                .maxResults(MAX_RESULTS_PER_PAGE);
+        if (Objects.nonNull(nextToken)) {
+            requestBuilder.nextToken(nextToken);
+        }
+        return inFlight(nativeClient.listStatements(requestBuilder.build()))
+                .thenCompose(response -> {
+                    Instant oldestListed = null;
+                    for (StatementData statement : response.statements()) {
+                        TrackedStatement tracked = trackedStatements.remove(statement.id());
+                        if (Objects.nonNull(tracked)) {
+                            describe(statement.id(), tracked);
+                        }
+                        oldestListed = statement.createdAt();
+                    }
+                    boolean hasOlderStatements = Objects.isNull(cutoff) || Objects.isNull(oldestListed) ||
+                            !oldestListed.isBefore(cutoff);
+                    if (Objects.nonNull(response.nextToken()) && !trackedStatements.isEmpty() &&
+                            page + 1 < MAX_PAGES_PER_STATUS && hasOlderStatements) {
+                        return scan(status, response.nextToken(), cutoff, page + 1);
+                    }
+                    return CompletableFuture.<Void>completedFuture(null);
+                })
+                // A failed listing is retried in the next cycle
+                .exceptionally(throwable -> null);
+    }
+
+    private void describeStragglers() {
+        Instant expiry = Instant.now().minus(MAX_TRACKING_DURATION);
+        trackedStatements.forEach((statementId, tracked) -> {
+            // The tracking time stands in for the creation time of a statement which was tracked by its identifier
+            Instant createdAt = Objects.requireNonNullElse(tracked.createdAt(), tracked.trackedAt());
+            if (createdAt.isBefore(expiry)) {
+                drop(statementId, tracked, new IllegalStateException(String.format(
+                        "The statement %s did not complete within %d hours", statementId,
+                        MAX_TRACKING_DURATION.toHours())));
+                return;
+            }
+            if (tracked.incrementCycles() % DESCRIBE_FALLBACK_CYCLES != 0) {
+                return;
+            }
+            inFlight(nativeClient.describeStatement(DescribeStatementRequest.builder().id(statementId).build()))
+                    .whenComplete((response, throwable) -> {
+                        if (Objects.nonNull(throwable)) {
+                            // A statement which is unknown to the Data API never shows up in the listings
+                            Throwable cause = CommonUtils.unwrapCompletionException(throwable);
+                            if (isUnknownStatement(cause)) {
+                                drop(statementId, tracked, cause);
+                            }
+                            return;
+                        }
+                        if (TERMINAL_STATUSES.contains(response.status()) &&
+                                trackedStatements.remove(statementId, tracked)) {
+                            tracked.completion().complete(response);
+                        }
+                    });
+        });
+    }
+
+    private void drop(String statementId, TrackedStatement tracked, Throwable cause) {
+        if (trackedStatements.remove(statementId, tracked)) {
+            tracked.completion().completeExceptionally(cause);
+        }
+    }
+
+    private void describe(String statementId, TrackedStatement tracked) {
+        inFlight(nativeClient.describeStatement(DescribeStatementRequest.builder().id(statementId).build()))
+                .whenComplete((response, throwable) -> {
+                    if (Objects.nonNull(throwable)) {
+                        retrack(statementId, tracked, CommonUtils.unwrapCompletionException(throwable));
+                        return;
+                    }
+                    tracked.completion().complete(response);
+                });
+    }
+
+    // The statement is listed as completed, hence a transient failure of its description is retried in the next cycle
+    // instead of being reported as the failure of the statement
+    private synchronized void retrack(String statementId, TrackedStatement tracked, Throwable cause) {
+        if (running && !isUnknownStatement(cause) && !tracked.completion().isDone()) {
+            trackedStatements.putIfAbsent(statementId, tracked);
+            return;
+        }
+        tracked.completion().completeExceptionally(cause);
+    }
+
+    private static boolean isUnknownStatement(Throwable cause) {
+        return cause instanceof ResourceNotFoundException || cause instanceof ValidationException;
+    }
+
+    private static final class TrackedStatement {
+        private final Instant createdAt;
+        private final Instant trackedAt;
+        private final CompletableFuture<DescribeStatementResponse> completion;
+        private int cycles = 0;
+
+        private TrackedStatement(Instant createdAt, Instant trackedAt,
+                                 CompletableFuture<DescribeStatementResponse> completion) {
+            this.createdAt = createdAt;
+            this.trackedAt = trackedAt;
+            this.completion = completion;
+        }
+
+        private Instant createdAt() {
+            return createdAt;
+        }
+
+        private Instant trackedAt() {
+            return trackedAt;
+        }
+
+        private CompletableFuture<DescribeStatementResponse> completion() {
+            return completion;
+        }
+
+        // Only updated by a single poll cycle at a time
+        private int incrementCycles() {
+            return ++cycles;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import io.ballerina.runtime.api.values.BArray;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.ListStatementsRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * {@code StatementFanOut} runs a prepared statement for many parameter sets with a cap on the number of statements
+ * in flight.
+ * <p>
+ * The parameter sets are bound up front, and the statements are submitted as the running ones complete. The
+ * completion of the submitted statements is tracked in bulk with a {@link StatementCompletionTracker}, hence the
+ * number of status calls does not grow with the number of statements in flight.
+ * </p>
+ */
+public final class StatementFanOut {
+    private final DataApiClient nativeClient;
+    private final StatementCompletionTracker tracker;
+    private final int maxInFlight;
+    private final ExecuteStatementRequest[] requests;
+    // The deadline of the call in System.nanoTime() units, or null if the call does not have a deadline
+    private final Long deadline;
+    // Either the description of the completed statement or the cause of the failure, per parameter set
+    private final Object[] results;
+    private final CompletableFuture<Object[]> completion = new CompletableFuture<>();
+
+    // Guarded by this
+    private int nextRequest;
+    private int inFlightRequests;
+    private int remainingRequests;
+    private boolean dispatching;
+    private boolean redispatch;
+
+    public StatementFanOut(DataApiClient nativeClient, PreparedStatement preparedStatement, BArray bParameterSets,
+                           int maxInFlight, long pollingIntervalMillis, Long deadline) {
+        this.nativeClient = nativeClient;
+        this.maxInFlight = maxInFlight;
+        this.deadline = deadline;
+        this.requests = new ExecuteStatementRequest[bParameterSets.size()];
+        this.results = new Object[bParameterSets.size()];
+        for (int i = 0; i < requests.length; i++) {
+            try {
+                requests[i] = preparedStatement.bind((BArray) bParameterSets.get(i));
+                remainingRequests++;
+            } catch (RuntimeException e) {
+                results[i] = e;
+            }
+        }
+        ExecuteStatementRequest requestPrototype = preparedStatement.requestPrototype();
+        // Restricts the listings to the statements of the database the statements run on, if known
+        ListStatementsRequest listRequest = ListStatementsRequest.builder()
+                .clusterIdentifier(requestPrototype.clusterIdentifier())
+                .workgroupName(requestPrototype.workgroupName())
+                .database(requestPrototype.database())
+                .build();
+        this.tracker = new StatementCompletionTracker(nativeClient, listRequest, pollingIntervalMillis);
+    }
+
+    /**
+     * Submits the statements and waits for all of them to complete.
+     *
+     * @return the description of each completed statement, or the cause of its failure, per parameter set
+     */
+    public CompletableFuture<Object[]> run() {
+        tracker.start();
+        dispatch();
+        return completion.whenComplete((result, throwable) -> tracker.stopNow());
+    }
+
+    private void dispatch() {
+        synchronized (this) {
+            // A statement may complete within the submission of another one, in which case the running dispatch
+            // loop picks up the freed slot instead of nesting another loop
+            if (dispatching) {
+                redispatch = true;
+                return;
+            }
+            dispatching = true;
+        }
+        while (true) {
+            List<Integer> startableRequests = new ArrayList<>();
+            synchronized (this) {
+                while (inFlightRequests < maxInFlight && nextRequest < requests.length) {
+                    int index = nextRequest++;
+                    if (Objects.nonNull(requests[index])) {
+                        startableRequests.add(index);
+                        inFlightRequests++;
+                    }
+                }
+                if (startableRequests.isEmpty() && !redispatch) {
+                    dispatching = false;
+                    if (remainingRequests == 0) {
+                        break;
+                    }
+                    return;
+                }
+                redispatch = false;
+            }
+            startableRequests.forEach(this::start);
+        }
+        completion.complete(results);
+    }
+
+    private void start(int index) {
+        if (Objects.nonNull(deadline) && deadline - System.nanoTime() <= 0) {
+            complete(index, null, new StatementCanceller.CancelledException(
+                    "The statement was not started as the deadline passed"));
+            return;
+        }
+        CompletableFuture.completedFuture(requests[index])
+                .thenCompose(nativeClient::executeStatement)
+                .thenCompose(response -> {
+                    CompletableFuture<DescribeStatementResponse> tracked = tracker.track(response.id(),
+                            response.createdAt());
+                    if (Objects.nonNull(deadline)) {
+                        // The statements which are still running at the deadline are reported as aborted
+                        ScheduledFuture<?> cancellation = StatementCanceller.cancelAt(nativeClient, response.id(),
+                                deadline);
+                        tracked.whenComplete((description, throwable) -> cancellation.cancel(false));
+                    }
+                    return tracked;
+                })
+                .whenComplete((description, throwable) -> complete(index, description, throwable));
+    }
+
+    private void complete(int index, DescribeStatementResponse description, Throwable throwable) {
+        synchronized (this) {
+            results[index] = Objects.nonNull(throwable) ?
+                    CommonUtils.unwrapCompletionException(throwable) : description;
+            inFlightRequests--;
+            remainingRequests--;
+        }
+        dispatch();
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementRequest;
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@code StatementPoller} polls the status of a statement with {@code DescribeStatement} until it completes.
+ * <p>
+ * The first polls are sent at the initial interval so that short statements are picked up quickly, after which the
+ * interval grows exponentially up to the maximum interval so that long statements do not flood the API with
+ * describe calls. The durations of the completed statements are tracked per statement name, and the first poll of a
+ * named statement is delayed until its expected duration has elapsed.
+ * </p>
+ */
+public final class StatementPoller {
+    // Number of polls sent at the initial interval before the interval starts to grow
+    private static final int FAST_POLLS = 2;
+    // Weight of the latest duration in the expected duration of a statement name
+    private static final double DURATION_SMOOTHING = 0.3;
+    private static final int MAX_TRACKED_STATEMENT_NAMES = 1024;
+    private static final Map<String, Double> EXPECTED_DURATIONS = new ConcurrentHashMap<>();
+
+    private static final long SCHEDULER_KEEP_ALIVE_SECONDS = 60;
+
+    // Only schedules the polls, the describe calls themselves are dispatched by the Data API client
+    private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+    private StatementPoller() {
+    }
+
+    // The scheduler is shared by all the clients, hence its thread is not tied to the life of a client. Instead, the
+    // thread is stopped once no poll has been scheduled for a while and a new one is started by the next poll.
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread pollerThread = new Thread(runnable);
+            pollerThread.setName("balx-awsredshiftdata-statement-poller-thread");
+            pollerThread.setDaemon(true);
+            return pollerThread;
+        });
+        scheduler.setKeepAliveTime(SCHEDULER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        return scheduler;
+    }
+
+    /**
+     * Polls the status of the statement until it is finished, failed or aborted.
+     *
+     * @param nativeClient  the Data API client
+     * @param statementId   the identifier of the statement
+     * @param statementName the name of the statement, or {@code null} if the statement is not named
+     * @param pollConfig    the poll configurations
+     * @return the description of the completed statement
+     */
+    public static CompletableFuture<DescribeStatementResponse> awaitCompletion(DataApiClient nativeClient,
+                                                                               String statementId,
+                                                                               String statementName,
+                                                                               PollConfig pollConfig) {
+        return awaitCompletion(nativeClient, statementId, statementName, pollConfig, null);
+    }
+
+    /**
+     * Polls the status of the statement until it is finished, failed or aborted, and cancels the statement if it is
+     * still running once the cancel deadline passes.
+     *
+     * @param nativeClient   the Data API client
+     * @param statementId    the identifier of the statement
+     * @param statementName  the name of the statement, or {@code null} if the statement is not named
+     * @param pollConfig     the poll configurations
+     * @param cancelDeadline the deadline of the statement in {@link System#nanoTime()} units, or {@code null} if the
+     *                       statement does not have a deadline
+     * @return the description of the completed statement
+     */
+    public static CompletableFuture<DescribeStatementResponse> awaitCompletion(DataApiClient nativeClient,
+                                                                               String statementId,
+                                                                               String statementName,
+                                                                               PollConfig pollConfig,
+                                                                               Long cancelDeadline) {
+        CompletableFuture<DescribeStatementResponse> result = new CompletableFuture<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollConfig.timeoutMillis());
+        long firstDelay = pollConfig.initialIntervalMillis();
+        Double expectedDuration = Objects.isNull(statementName) ? null : EXPECTED_DURATIONS.get(statementName);
+        if (Objects.nonNull(expectedDuration)) {
+            firstDelay = Math.max(firstDelay, Math.min(expectedDuration.longValue(), pollConfig.maxIntervalMillis()));
+        }
+        schedulePoll(new PollState(nativeClient, statementId, statementName, pollConfig, deadline, cancelDeadline,
+                result), 0, firstDelay);
+        return result;
+    }
+
+    private static void schedulePoll(PollState state, int attempt, long delayMillis) {
+        long now = System.nanoTime();
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(state.deadline() - now);
+        if (remainingMillis <= 0) {
+            state.result().completeExceptionally(new TimeoutException(String.format(
+                    "The statement %s did not complete within %d ms", state.statementId(),
+                    state.pollConfig().timeoutMillis())));
+            return;
+        }
+        if (Objects.nonNull(state.cancelDeadline())) {
+            long remainingCancelNanos = state.cancelDeadline() - now;
+            if (remainingCancelNanos <= 0) {
+                cancel(state, attempt);
+                return;
+            }
+            // The last poll is sent at the cancel deadline, so that a statement which has just completed is not
+            // cancelled
+            remainingMillis = Math.min(remainingMillis, Math.max(1, TimeUnit.NANOSECONDS.toMillis(
+                    remainingCancelNanos)));
+        }
+        SCHEDULER.schedule(() -> poll(state, attempt), Math.min(delayMillis, remainingMillis), TimeUnit.MILLISECONDS);
+    }
+
+    private static void poll(PollState state, int attempt) {
+        if (state.result().isDone()) {
+            return;
+        }
+        state.nativeClient().describeStatement(DescribeStatementRequest.builder().id(state.statementId()).build())
+                .whenComplete((response, throwable) -> {
+                    if (Objects.nonNull(throwable)) {
+                        state.result().completeExceptionally(CommonUtils.unwrapCompletionException(throwable));
+                        return;
+                    }
+                    StatusString status = response.status();
+                    if (status == StatusString.FINISHED || status == StatusString.FAILED ||
+                            status == StatusString.ABORTED) {
+                        if (status == StatusString.FINISHED) {
+                            recordDuration(state.statementName(), response.duration());
+                        }
+                        state.result().complete(response);
+                        return;
+                    }
+                    schedulePoll(state, attempt + 1, getPollInterval(state.pollConfig(), attempt + 1));
+                });
+    }
+
+    private static void cancel(PollState state, int attempt) {
+        StatementCanceller.cancel(state.nativeClient(), state.statementId()).thenAccept(cancelled -> {
+            if (cancelled) {
+                state.result().completeExceptionally(new StatementCanceller.CancelledException(String.format(
+                        "The statement %s was cancelled as it did not complete before its deadline",
+                        state.statementId())));
+                return;
+            }
+            // The statement completed before it could be cancelled, hence its description is read once more
+            poll(state.withoutCancelDeadline(), attempt);
+        });
+    }
+
+    private static long getPollInterval(PollConfig pollConfig, int attempt) {
+        if (attempt < FAST_POLLS) {
+            return pollConfig.initialIntervalMillis();
+        }
+        double interval = pollConfig.initialIntervalMillis() *
+                Math.pow(pollConfig.backoffFactor(), attempt - FAST_POLLS + 1);
+        return (long) Math.min(interval, pollConfig.maxIntervalMillis());
+    }
+
+    private static void recordDuration(String statementName, Long durationNanos) {
+        if (Objects.isNull(statementName) || Objects.isNull(durationNanos) || durationNanos < 0) {
+            return;
+        }
+        if (EXPECTED_DURATIONS.size() >= MAX_TRACKED_STATEMENT_NAMES) {
+            EXPECTED_DURATIONS.clear();
+        }
+        double durationMillis = durationNanos / 1_000_000.0;
+        EXPECTED_DURATIONS.merge(statementName, durationMillis, (expected, latest) ->
+                expected + DURATION_SMOOTHING * (latest - expected));
+    }
+
+    private record PollState(DataApiClient nativeClient, String statementId, String statementName,
+                             PollConfig pollConfig, long deadline, Long cancelDeadline,
+                             CompletableFuture<DescribeStatementResponse> result) {
+
+        PollState withoutCancelDeadline() {
+            return new PollState(nativeClient, statementId, statementName, pollConfig, deadline, null, result);
+        }
+    }
+}
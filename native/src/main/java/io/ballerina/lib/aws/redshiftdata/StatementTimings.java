@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+import software.amazon.awssdk.services.redshiftdata.model.DescribeStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.ExecuteStatementResponse;
+import software.amazon.awssdk.services.redshiftdata.model.StatusString;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@code StatementTimings} records the latency breakdown of the statements of a client, and logs the breakdown of the
+ * statements which take longer than the slow statement threshold.
+ * <p>
+ * A statement is timed from the moment its execution is requested, and the breakdown consists of the time the
+ * {@code ExecuteStatement} call waited for a worker thread, the round trip of the call, the execution time reported
+ * by Redshift, the time to the first result page and the time taken to fetch the result. A statement without a result
+ * set is reported once its completion is observed through a {@code describe} or a {@code query} call, while a
+ * statement with a result set is reported once its result is closed. The timings are held for a bounded number of
+ * statements, and the timing of a statement whose result is never read is dropped once it is evicted.
+ * </p>
+ */
+public final class StatementTimings {
+    private static final Logger LOGGER = Logger.getLogger(StatementTimings.class.getPackageName());
+    private static final int MAX_TRACKED_STATEMENTS = 1024;
+
+    private final long thresholdNanos;
+    // Insertion ordered, hence the eldest entry is the earliest executed statement
+    private final Map<String, Timing> timings = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Timing> eldest) {
+            // The eviction time is not the completion time of the statement, hence the evicted timing is not reported
+            return size() > MAX_TRACKED_STATEMENTS;
+        }
+    };
+
+    public StatementTimings(long thresholdMillis) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    /**
+     * Makes the {@code ExecuteStatement} call of a statement and starts tracking the statement once the call
+     * completes.
+     *
+     * @param statementName the name of the statement, if any
+     * @param apiCall       the {@code ExecuteStatement} call
+     * @return the future of the {@code ExecuteStatement} call
+     */
+    public CompletableFuture<ExecuteStatementResponse> execute(
+            String statementName, Supplier<CompletableFuture<ExecuteStatementResponse>> apiCall) {
+        long startTime = System.nanoTime();
+        CompletableFuture<ExecuteStatementResponse> response = apiCall.get();
+        response.whenComplete((executeResponse, throwable) -> {
+            if (Objects.nonNull(throwable)) {
+                return;
+            }
+            Timing timing = new Timing(startTime, statementName);
+            timing.apiLatencyNanos = System.nanoTime() - startTime;
+            // The queue wait is only known for the calls made directly on a blocking client
+            if (response instanceof BlockingDataApiClient.QueuedFuture<?> queuedFuture) {
+                timing.queueWaitNanos = queuedFuture.queueWaitNanos();
+            }
+            synchronized (this) {
+                timings.put(executeResponse.id(), timing);
+            }
+        });
+        return response;
+    }
+
+    /**
+     * Tracks a statement which was executed and awaited in a single step, e.g. on a pooled session, and records its
+     * server side execution time.
+     *
+     * @param startTime     the time at which the execution was requested
+     * @param statementName the name of the statement, if any
+     * @param description   the description of the completed statement
+     */
+    public void completed(long startTime, String statementName, DescribeStatementResponse description) {
+        synchronized (this) {
+            timings.putIfAbsent(description.id(), new Timing(startTime, statementName));
+        }
+        described(description);
+    }
+
+    /**
+     * Records the server side execution time of a statement once it is seen to be completed. A statement without a
+     * result set is reported at this point.
+     *
+     * @param description the description of the statement
+     */
+    public void described(DescribeStatementResponse description) {
+        if (!isTerminal(description.status())) {
+            return;
+        }
+        long now = System.nanoTime();
+        synchronized (this) {
+            Timing timing = timings.get(description.id());
+            if (Objects.isNull(timing) || Objects.nonNull(timing.status)) {
+                return;
+            }
+            timing.status = description.status();
+            timing.redshiftQueryId = description.redshiftQueryId();
+            timing.serverNanos = Objects.requireNonNullElse(description.duration(), -1L);
+            if (timing.status != StatusString.FINISHED || !Boolean.TRUE.equals(description.hasResultSet())) {
+                timings.remove(description.id());
+                report(description.id(), timing, now);
+            }
+        }
+    }
+
+    /**
+     * Records the start of the result fetch of a statement.
+     *
+     * @param statementId the ID of the statement
+     * @param firstPage   the future of the first result page
+     */
+    public void fetchStarted(String statementId, CompletableFuture<?> firstPage) {
+        long fetchStartTime = System.nanoTime();
+        firstPage.whenComplete((page, throwable) -> {
+            long now = System.nanoTime();
+            synchronized (this) {
+                Timing timing = timings.get(statementId);
+                if (Objects.nonNull(timing) && timing.fetchStartTime < 0) {
+                    timing.fetchStartTime = fetchStartTime;
+                    timing.firstRowNanos = now - timing.startTime;
+                }
+            }
+        });
+    }
+
+    /**
+     * Reports a statement once its result is closed.
+     *
+     * @param statementId the ID of the statement
+     */
+    public void fetchCompleted(String statementId) {
+        long now = System.nanoTime();
+        synchronized (this) {
+            Timing timing = timings.get(statementId);
+            if (Objects.isNull(timing) || timing.fetchStartTime < 0) {
+                return;
+            }
+            timings.remove(statementId);
+            timing.fetchNanos = now - timing.fetchStartTime;
+            report(statementId, timing, now);
+        }
+    }
+
+    private void report(String statementId, Timing timing, long now) {
+        long totalNanos = now - timing.startTime;
+        if (totalNanos < thresholdNanos || !LOGGER.isLoggable(Level.WARNING)) {
+            return;
+        }
+        LOGGER.warning(String.format(Locale.ROOT, "Slow Redshift statement: statementId=%s statementName=%s " +
+                        "redshiftQueryId=%s status=%s total=%s queueWait=%s apiLatency=%s serverExecution=%s " +
+                        "timeToFirstRow=%s fetch=%s", statementId, Objects.requireNonNullElse(timing.statementName, ""),
+                Objects.nonNull(timing.redshiftQueryId) ? timing.redshiftQueryId : "",
+                Objects.nonNull(timing.status) ? timing.status : "UNKNOWN", format(totalNanos),
+                format(timing.queueWaitNanos), format(timing.apiLatencyNanos), format(timing.serverNanos),
+                format(timing.firstRowNanos), format(timing.fetchNanos)));
+    }
+
+    // The unknown durations are logged as empty values, so that the log line keeps the same keys
+    private static String format(long nanos) {
+        return nanos < 0 ? "" : String.format(Locale.ROOT, "%.3fms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static boolean isTerminal(StatusString status) {
+        return status == StatusString.FINISHED || status == StatusString.FAILED || status == StatusString.ABORTED;
+    }
+
+    // Guarded by the lock of the enclosing timings
+    private static final class Timing {
+        private final long startTime;
+        private final String statementName;
+        private long queueWaitNanos = -1;
+        private long apiLatencyNanos = -1;
+        private long serverNanos = -1;
+        private long firstRowNanos = -1;
+        private long fetchStartTime = -1;
+        private long fetchNanos = -1;
+        private Long redshiftQueryId;
+        private StatusString status;
+
+        private Timing(long startTime, String statementName) {
+            this.startTime = startTime;
+            this.statementName = statementName;
+        }
+    }
+}
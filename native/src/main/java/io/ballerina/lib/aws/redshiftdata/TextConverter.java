@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.org).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.aws.redshiftdata;
+
+/**
+ * {@code TextConverter} converts a field of a CSV result record to the Ballerina value of a record field.
+ */
+@FunctionalInterface
+public interface TextConverter {
+
+    /**
+     * Converts the field to a Ballerina value.
+     *
+     * @param value the text of the field, or {@code null} for a SQL {@code NULL}
+     * @return the Ballerina value
+     * @throws Exception if the text cannot be converted to the type of the record field
+     */
+    Object convert(String value) throws Exception;
+}
@@ -22,9 +22,14 @@ module io.ballerina.stdlib.java.aws.redshiftdata {
     requires software.amazon.awssdk.http;
     requires software.amazon.awssdk.regions;
     requires software.amazon.awssdk.awscore;
+    requires software.amazon.awssdk.core;
+    requires software.amazon.awssdk.http.nio.netty;
+    requires software.amazon.awssdk.http.apache;
     requires io.ballerina.stdlib.time;
     requires io.ballerina.runtime;
     requires software.amazon.awssdk.profiles;
+    requires java.management;
+    requires java.logging;
 
     exports io.ballerina.lib.aws.redshiftdata;
 }